@@ -16,8 +16,10 @@
 
 package io.asyncer.r2dbc.mysql;
 
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.asyncer.r2dbc.mysql.message.client.PreparedExecuteMessage;
 import io.asyncer.r2dbc.mysql.message.client.PreparedTextQueryMessage;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 
@@ -56,13 +58,15 @@ final class Binding {
      *
      * @param statementId prepared statement identifier.
      * @param immediate   if it should be executed immediate, otherwise return an open cursor message
+     * @param rebound     if parameter types should be sent, otherwise the server uses the types of the
+     *                    previous execution
      * @return an execute message or open cursor message
      */
-    PreparedExecuteMessage toExecuteMessage(int statementId, boolean immediate) {
+    PreparedExecuteMessage toExecuteMessage(int statementId, boolean immediate, boolean rebound) {
         if (values.length == 0) {
             QueryLogger.log(statementId, EMPTY_VALUES);
 
-            return new PreparedExecuteMessage(statementId, immediate, EMPTY_VALUES);
+            return new PreparedExecuteMessage(statementId, immediate, false, EMPTY_VALUES);
         }
 
         if (values[0] == null) {
@@ -73,7 +77,125 @@ final class Binding {
 
         QueryLogger.log(statementId, values);
 
-        return new PreparedExecuteMessage(statementId, immediate, values);
+        return new PreparedExecuteMessage(statementId, immediate, rebound, values);
+    }
+
+    /**
+     * Checks if the types of non-null parameters in this binding are the same as {@code types}. The type of
+     * a {@code null} parameter is ignored, because its value will not be sent.
+     *
+     * @param types the parameter types that have been sent to the server, or {@code null} if not sent yet.
+     * @return {@code true} if the server can reuse {@code types} for this binding.
+     */
+    boolean isSameTypes(@Nullable MySqlType[] types) {
+        int size = this.values.length;
+
+        if (types == null || types.length != size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; ++i) {
+            MySqlParameter value = this.values[i];
+
+            if (value == null) {
+                throw new IllegalStateException("Parameters has been used");
+            }
+
+            if (!value.isNull() && types[i] != value.getType()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if any parameter in this binding should be sent as long data before the execution.
+     *
+     * @return {@code true} if it has long data parameters.
+     * @see MySqlParameter#isLongData()
+     */
+    boolean hasLongData() {
+        for (MySqlParameter value : this.values) {
+            if (value != null && !value.isNull() && value.isLongData()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the parameter types of this binding.
+     *
+     * @return the parameter types.
+     */
+    MySqlType[] getTypes() {
+        int size = this.values.length;
+        MySqlType[] types = new MySqlType[size];
+
+        for (int i = 0; i < size; ++i) {
+            MySqlParameter value = this.values[i];
+
+            if (value == null) {
+                throw new IllegalStateException("Parameters has been used");
+            }
+
+            types[i] = value.getType();
+        }
+
+        return types;
+    }
+
+    /**
+     * Merges parameter types of this binding into the types of a bulk execution. The type of a {@code null}
+     * parameter is ignored, and a {@code null} element of {@code types} means the type is unknown yet.
+     *
+     * @param types the parameter types of a bulk execution.
+     * @return {@code false} if any parameter type conflicts with {@code types}, then it will not be changed.
+     */
+    boolean mergeTypes(MySqlType[] types) {
+        int size = this.values.length;
+
+        for (int i = 0; i < size; ++i) {
+            MySqlParameter value = this.values[i];
+
+            if (value == null) {
+                throw new IllegalStateException("Parameters has been used");
+            }
+
+            if (!value.isNull() && types[i] != null && types[i] != value.getType()) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < size; ++i) {
+            MySqlParameter value = this.values[i];
+
+            if (!value.isNull() && types[i] == null) {
+                types[i] = value.getType();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Drains parameters of this binding into a row of a bulk execution.
+     *
+     * @param statementId prepared statement identifier.
+     * @param target      the parameters of all rows in the bulk execution.
+     * @param offset      the offset of this row in {@code target}.
+     */
+    void drainTo(int statementId, MySqlParameter[] target, int offset) {
+        QueryLogger.log(statementId, this.values);
+
+        System.arraycopy(this.values, 0, target, offset, this.values.length);
+        Arrays.fill(this.values, null);
+    }
+
+    int size() {
+        return this.values.length;
     }
 
     PreparedTextQueryMessage toTextMessage(Query query, String returning) {
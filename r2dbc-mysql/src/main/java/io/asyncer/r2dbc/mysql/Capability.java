@@ -168,14 +168,30 @@ public final class Capability {
 
 //    private static final long MARIADB_CLIENT_PROGRESS = 1L << 32;
 //    private static final long MARIADB_CLIENT_COM_MULTI = 1L << 33;
-//    private static final long MARIADB_CLIENT_STMT_BULK_OPERATIONS = 1L << 34;
+
+    /**
+     * MariaDB server supports {@code COM_STMT_BULK_EXECUTE} for executing multiple parameter rows at once.
+     */
+    private static final long MARIADB_CLIENT_STMT_BULK_OPERATIONS = 1L << 34;
+
 //    private static final long MARIADB_CLIENT_EXTENDED_TYPE_INFO = 1L << 35;
-//    private static final long MARIADB_CLIENT_CACHE_METADATA = 1L << 36;
+
+    /**
+     * MariaDB server can skip sending result metadata of prepared statement executions if the metadata has not
+     * changed, the client should use the cached metadata.
+     */
+    private static final long MARIADB_CLIENT_CACHE_METADATA = 1L << 36;
+
+    /**
+     * MariaDB server can return a result for each parameter row of {@code COM_STMT_BULK_EXECUTE}.
+     */
+    private static final long MARIADB_CLIENT_BULK_UNIT_RESULTS = 1L << 37;
 
     private static final long ALL_SUPPORTED = CLIENT_MYSQL | FOUND_ROWS | LONG_FLAG | CONNECT_WITH_DB |
         NO_SCHEMA | COMPRESS | LOCAL_FILES | IGNORE_SPACE | PROTOCOL_41 | INTERACTIVE | SSL |
         TRANSACTIONS | SECURE_SALT | MULTI_STATEMENTS | MULTI_RESULTS | PS_MULTI_RESULTS |
-        PLUGIN_AUTH | CONNECT_ATTRS | VAR_INT_SIZED_AUTH | SESSION_TRACK | DEPRECATE_EOF | ZSTD_COMPRESS;
+        PLUGIN_AUTH | CONNECT_ATTRS | VAR_INT_SIZED_AUTH | SESSION_TRACK | DEPRECATE_EOF | ZSTD_COMPRESS |
+        MARIADB_CLIENT_STMT_BULK_OPERATIONS | MARIADB_CLIENT_CACHE_METADATA | MARIADB_CLIENT_BULK_UNIT_RESULTS;
 
     /**
      * The default capabilities for a MySQL connection. It contains all client supported capabilities.
@@ -310,6 +326,33 @@ public final class Capability {
         return (bitmap & ZSTD_COMPRESS) != 0;
     }
 
+    /**
+     * Checks if MariaDB bulk execution is supported.
+     *
+     * @return if MariaDB bulk execution is supported.
+     */
+    public boolean isBulkExecutionSupported() {
+        return (bitmap & MARIADB_CLIENT_STMT_BULK_OPERATIONS) != 0;
+    }
+
+    /**
+     * Checks if MariaDB bulk execution can return a result for each parameter row.
+     *
+     * @return if unit results of bulk execution are supported.
+     */
+    public boolean isBulkUnitResultsSupported() {
+        return (bitmap & MARIADB_CLIENT_BULK_UNIT_RESULTS) != 0;
+    }
+
+    /**
+     * Checks if MariaDB server can skip sending cached result metadata of prepared statement executions.
+     *
+     * @return if result metadata can be cached.
+     */
+    public boolean isMetadataCacheSupported() {
+        return (bitmap & MARIADB_CLIENT_CACHE_METADATA) != 0;
+    }
+
     /**
      * Extends MariaDB capabilities.
      *
@@ -430,6 +473,10 @@ public final class Capability {
             this.bitmap &= ~CONNECT_ATTRS;
         }
 
+        void disableBulkOperations() {
+            this.bitmap &= ~(MARIADB_CLIENT_STMT_BULK_OPERATIONS | MARIADB_CLIENT_BULK_UNIT_RESULTS);
+        }
+
         Capability build() {
             return of(this.bitmap);
         }
@@ -19,14 +19,20 @@ package io.asyncer.r2dbc.mysql;
 import io.asyncer.r2dbc.mysql.cache.PrepareCache;
 import io.asyncer.r2dbc.mysql.codec.CodecContext;
 import io.asyncer.r2dbc.mysql.collation.CharCollation;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
 import io.asyncer.r2dbc.mysql.constant.ZeroDateOption;
 import io.r2dbc.spi.IsolationLevel;
 import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Mono;
 
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
@@ -44,6 +50,8 @@ public final class ConnectionContext implements CodecContext {
 
     private static final ServerVersion MARIA_10_1_1 = ServerVersion.create(10, 1, 1, true);
 
+    private static final ServerVersion MARIA_10_2_0 = ServerVersion.create(10, 2, 0, true);
+
     private final ZeroDateOption zeroDateOption;
 
     @Nullable
@@ -55,6 +63,19 @@ public final class ConnectionContext implements CodecContext {
 
     private final boolean preserveInstants;
 
+    private final boolean pipelining;
+
+    private final boolean bulkExecution;
+
+    private final boolean localInfileFromPublisher;
+
+    private final boolean cursorPrefetch;
+
+    private final boolean adaptiveFetch;
+
+    @Nullable
+    private final IntFunction<Mono<Void>> queryKiller;
+
     private int connectionId = -1;
 
     private ServerVersion serverVersion = NONE_VERSION;
@@ -68,6 +89,23 @@ public final class ConnectionContext implements CodecContext {
 
     private String product = "Unknown";
 
+    /**
+     * Row metadata of prepared statements, keyed by statement ID. It is used when MariaDB skips sending the
+     * cached result metadata.
+     */
+    private final Map<Integer, MySqlRowDescriptor> rowDescriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Parameter types of the last execution of prepared statements, keyed by statement ID. The server reuses
+     * them if the new-params-bound flag is not set.
+     */
+    private final Map<Integer, MySqlType[]> parameterTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Prepared statements which should be reset before reusing, e.g. a cursor may be still open.
+     */
+    private final Set<Integer> resetRequired = ConcurrentHashMap.newKeySet();
+
     /**
      * Current isolation level inferred by past statements.
      * <p>
@@ -111,7 +149,13 @@ public final class ConnectionContext implements CodecContext {
         int localInfileBufferSize,
         boolean tinyInt1isBit,
         boolean preserveInstants,
-        @Nullable ZoneId timeZone
+        @Nullable ZoneId timeZone,
+        boolean pipelining,
+        boolean bulkExecution,
+        boolean localInfileFromPublisher,
+        boolean cursorPrefetch,
+        boolean adaptiveFetch,
+        @Nullable IntFunction<Mono<Void>> queryKiller
     ) {
         this.zeroDateOption = requireNonNull(zeroDateOption, "zeroDateOption must not be null");
         this.localInfilePath = localInfilePath;
@@ -119,6 +163,12 @@ public final class ConnectionContext implements CodecContext {
         this.tinyInt1isBit = tinyInt1isBit;
         this.preserveInstants = preserveInstants;
         this.timeZone = timeZone;
+        this.pipelining = pipelining;
+        this.bulkExecution = bulkExecution;
+        this.localInfileFromPublisher = localInfileFromPublisher;
+        this.cursorPrefetch = cursorPrefetch;
+        this.adaptiveFetch = adaptiveFetch;
+        this.queryKiller = queryKiller;
     }
 
     /**
@@ -253,6 +303,63 @@ public final class ConnectionContext implements CodecContext {
         return localInfileBufferSize;
     }
 
+    /**
+     * Checks if {@code LOAD DATA LOCAL INFILE} statements can load data from a bound publisher.
+     *
+     * @return if loading local infile data from a publisher is allowed.
+     */
+    public boolean isLocalInfileFromPublisher() {
+        return localInfileFromPublisher;
+    }
+
+    /**
+     * Checks if the next batch of a cursor should be fetched while the current batch is being consumed.
+     *
+     * @return if cursor prefetching is enabled.
+     */
+    public boolean isCursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    /**
+     * Checks if rows of cursors should be fetched on demand with adaptive fetch sizes.
+     *
+     * @return if adaptive fetching is enabled.
+     */
+    public boolean isAdaptiveFetch() {
+        return adaptiveFetch;
+    }
+
+    /**
+     * Gets the function that kills the running query of a connection ID over another connection.
+     *
+     * @return the query killer, or {@code null} if killing queries on cancel is disabled.
+     */
+    @Nullable
+    public IntFunction<Mono<Void>> getQueryKiller() {
+        return queryKiller;
+    }
+
+    /**
+     * Checks if pipelining is enabled.  It is always disabled when the connection is compressed, because
+     * the compression sequence is shared by requests and responses.
+     *
+     * @return if pipelining is enabled.
+     */
+    public boolean isPipelining() {
+        return pipelining && !capability.isCompression();
+    }
+
+    /**
+     * Checks if MariaDB bulk execution is enabled. The bulk capabilities are negotiated only if it is enabled, see
+     * {@link Capability#isBulkExecutionSupported()} for whether the server supports it.
+     *
+     * @return if bulk execution is enabled.
+     */
+    public boolean isBulkExecution() {
+        return bulkExecution;
+    }
+
     /**
      * Checks if the server supports InnoDB lock wait timeout.
      *
@@ -273,6 +380,16 @@ public final class ConnectionContext implements CodecContext {
             (!isMariaDb && serverVersion.isGreaterThanOrEqualTo(MYSQL_5_7_4));
     }
 
+    /**
+     * Checks if the server supports executing the last prepared statement by statement ID {@code 0xFFFFFFFF},
+     * so that the execution can be sent along with its preparing.
+     *
+     * @return if the server supports executing the last prepared statement.
+     */
+    boolean isLastPreparedSupported() {
+        return isMariaDb() && serverVersion.isGreaterThanOrEqualTo(MARIA_10_2_0);
+    }
+
     /**
      * Get the bitmap of server statuses.
      *
@@ -291,6 +408,51 @@ public final class ConnectionContext implements CodecContext {
         this.serverStatuses = serverStatuses;
     }
 
+    @Nullable
+    MySqlRowDescriptor getRowDescriptor(int statementId) {
+        return rowDescriptors.get(statementId);
+    }
+
+    void putRowDescriptor(int statementId, MySqlRowDescriptor descriptor) {
+        rowDescriptors.put(statementId, descriptor);
+    }
+
+    @Nullable
+    MySqlType[] getParameterTypes(int statementId) {
+        return parameterTypes.get(statementId);
+    }
+
+    void putParameterTypes(int statementId, MySqlType[] types) {
+        parameterTypes.put(statementId, types);
+    }
+
+    void removeParameterTypes(int statementId) {
+        parameterTypes.remove(statementId);
+    }
+
+    boolean isResetRequired(int statementId) {
+        return resetRequired.contains(statementId);
+    }
+
+    void setResetRequired(int statementId, boolean required) {
+        if (required) {
+            resetRequired.add(statementId);
+        } else {
+            resetRequired.remove(statementId);
+        }
+    }
+
+    /**
+     * Removes all cached states of a prepared statement, it should be called when the statement is closed.
+     *
+     * @param statementId the statement ID.
+     */
+    void removeStatement(int statementId) {
+        rowDescriptors.remove(statementId);
+        parameterTypes.remove(statementId);
+        resetRequired.remove(statementId);
+    }
+
     IsolationLevel getCurrentIsolationLevel() {
         return currentIsolationLevel;
     }
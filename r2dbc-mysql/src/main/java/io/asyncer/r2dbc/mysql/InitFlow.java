@@ -18,12 +18,14 @@ package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.api.MySqlResult;
 import io.asyncer.r2dbc.mysql.authentication.MySqlAuthProvider;
+import io.asyncer.r2dbc.mysql.authentication.ServerPublicKey;
 import io.asyncer.r2dbc.mysql.cache.Caches;
 import io.asyncer.r2dbc.mysql.cache.PrepareCache;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.client.FluxExchangeable;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
 import io.asyncer.r2dbc.mysql.codec.CodecsBuilder;
+import io.asyncer.r2dbc.mysql.collation.CharCollation;
 import io.asyncer.r2dbc.mysql.constant.CompressionAlgorithm;
 import io.asyncer.r2dbc.mysql.constant.SslMode;
 import io.asyncer.r2dbc.mysql.extension.CodecRegistrar;
@@ -48,6 +50,7 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcException;
 import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.R2dbcPermissionDeniedException;
 import io.r2dbc.spi.Readable;
@@ -71,8 +74,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 
 /**
  * A message flow utility that can initializes the session of {@link Client}.
@@ -92,6 +95,11 @@ final class InitFlow {
 
     private static final ServerVersion MYSQL_8 = ServerVersion.create(8, 0, 0);
 
+    /**
+     * The error code of {@code ER_UNKNOWN_SYSTEM_VARIABLE}, the server does not have the system variable.
+     */
+    private static final int ER_UNKNOWN_SYSTEM_VARIABLE = 1193;
+
     private static final BiConsumer<ServerMessage, SynchronousSink<Boolean>> INIT_DB = (message, sink) -> {
         if (message instanceof ErrorMessage) {
             ErrorMessage msg = (ErrorMessage) message;
@@ -126,10 +134,12 @@ final class InitFlow {
      * @param password              the password of the {@code user}.
      * @param compressionAlgorithms the list of compression algorithms.
      * @param zstdCompressionLevel  the zstd compression level.
+     * @param publicKeys            the cache of server RSA public key for non-SSL authentication.
      * @return a {@link Mono} that indicates the initialization is done, or an error if the initialization failed.
      */
     static Mono<Void> initHandshake(Client client, SslMode sslMode, String database, String user,
-        @Nullable CharSequence password, Set<CompressionAlgorithm> compressionAlgorithms, int zstdCompressionLevel) {
+        @Nullable CharSequence password, Set<CompressionAlgorithm> compressionAlgorithms, int zstdCompressionLevel,
+        ServerPublicKeyCache publicKeys) {
         return client.exchange(new HandshakeExchangeable(
             client,
             sslMode,
@@ -137,7 +147,8 @@ final class InitFlow {
             user,
             password,
             compressionAlgorithms,
-            zstdCompressionLevel
+            zstdCompressionLevel,
+            publicKeys
         )).then();
     }
 
@@ -151,6 +162,8 @@ final class InitFlow {
      * @param forceTimeZone    if the timezone should be set to session
      * @param lockWaitTimeout  the lock wait timeout that should be set to session
      * @param statementTimeout the statement timeout that should be set to session
+     * @param extensions       the extensions to register codecs
+     * @param serverFacts      the cached facts of the server, shared by all connections from the same factory
      * @return a {@link Mono} that indicates the {@link Codecs}, or an error if the initialization failed
      */
     static Mono<Codecs> initSession(
@@ -161,7 +174,8 @@ final class InitFlow {
         boolean forceTimeZone,
         @Nullable Duration lockWaitTimeout,
         @Nullable Duration statementTimeout,
-        Extensions extensions
+        Extensions extensions,
+        AtomicReference<ServerFacts> serverFacts
     ) {
         return Mono.defer(() -> {
             ByteBufAllocator allocator = client.getByteBufAllocator();
@@ -176,86 +190,151 @@ final class InitFlow {
 
             logger.debug("Initializing client session: {}", variables);
 
-            return QueryFlow.setSessionVariables(client, variables)
-                .then(loadSessionVariables(client, codecs))
-                .flatMap(data -> loadAndInitInnoDbEngineStatus(data, client, codecs, lockWaitTimeout))
-                .flatMap(data -> {
-                    ConnectionContext context = client.getContext();
-
-                    logger.debug("Initializing connection {} context: {}", context.getConnectionId(), data);
-                    context.initSession(
-                        Caches.createPrepareCache(prepareCacheSize),
-                        data.level,
-                        data.lockWaitTimeoutSupported,
-                        data.lockWaitTimeout,
-                        data.product,
-                        data.timeZone
-                    );
-
-                    if (!data.lockWaitTimeoutSupported) {
-                        logger.info(
-                            "Lock wait timeout is not supported by server, all related operations will be ignored");
-                    }
-
-                    return database.isEmpty() ? Mono.just(codecs) :
-                        initDatabase(client, database).then(Mono.just(codecs));
-                });
+            return loadSessionState(client, codecs, variables, lockWaitTimeout, serverFacts).flatMap(data -> {
+                ConnectionContext context = client.getContext();
+
+                logger.debug("Initializing connection {} context: {}", context.getConnectionId(), data);
+                context.initSession(
+                    Caches.createPrepareCache(prepareCacheSize),
+                    data.level,
+                    data.lockWaitTimeoutSupported,
+                    data.lockWaitTimeout,
+                    data.product,
+                    data.timeZone
+                );
+
+                if (!data.lockWaitTimeoutSupported) {
+                    logger.info(
+                        "Lock wait timeout is not supported by server, all related operations will be ignored");
+                }
+
+                return database.isEmpty() ? Mono.just(codecs) :
+                    initDatabase(client, database).then(Mono.just(codecs));
+            });
         });
     }
 
-    private static Mono<SessionState> loadAndInitInnoDbEngineStatus(
-        SessionState data,
+    /**
+     * Loads and initializes the session state, which contains setting session variables, loading session variables,
+     * loading and setting InnoDB lock wait timeout. All statements are sent by one multi-statements query if the
+     * server allows it, otherwise they are sent one-by-one.
+     * <p>
+     * The server stops executing the statements after the first failed one, so the optional setting of lock wait
+     * timeout is the last statement, and its failure means that the server does not support it.
+     * <p>
+     * If the cached {@link ServerFacts} can be used, the product name, system time zone and InnoDB status will not
+     * be discovered again, and the lock wait timeout will be loaded by the session variables query.
+     */
+    private static Mono<SessionState> loadSessionState(
         Client client,
         Codecs codecs,
-        @Nullable Duration lockWaitTimeout
+        List<String> variables,
+        @Nullable Duration lockWaitTimeout,
+        AtomicReference<ServerFacts> serverFacts
     ) {
-        return new TextSimpleStatement(
-            client,
-            codecs,
-            "SHOW VARIABLES LIKE 'innodb_lock_wait_timeout'"
-        ).execute().flatMap(r -> r.map(readable -> {
-            String value = readable.get(1, String.class);
+        ConnectionContext context = client.getContext();
+        ServerFacts cached = serverFacts.get();
+        ServerFacts facts = cached == null || !cached.isValidFor(context) ? null : cached;
+        boolean timeZone = !context.isTimeZoneInitialized();
+        List<String> statements = new ArrayList<>(4);
+        String setVariables = QueryFlow.setSessionVariablesStatement(variables);
+        int offset = setVariables.isEmpty() ? 0 : 1;
+
+        if (offset != 0) {
+            statements.add(setVariables);
+        }
+
+        statements.add(sessionVariablesQuery(context, facts, timeZone));
 
-            if (value == null || value.isEmpty()) {
-                return data;
+        if (facts == null) {
+            statements.add("SHOW VARIABLES LIKE 'innodb_lock_wait_timeout'");
+        } else {
+            logger.debug("Using cached server facts: {}", facts);
+        }
+
+        if (lockWaitTimeout != null) {
+            if (facts == null || facts.isLockWaitTimeoutSupported()) {
+                statements.add(StringUtils.lockWaitTimeoutStatement(lockWaitTimeout));
             } else {
-                return data.lockWaitTimeout(Duration.ofSeconds(Long.parseLong(value)));
+                logger.warn("Lock wait timeout is not supported by server, ignore initial setting");
             }
-        })).single(data).flatMap(d -> {
-            if (lockWaitTimeout != null) {
-                // Do not use context.isLockWaitTimeoutSupported() here, because its session variable is not set
-                if (d.lockWaitTimeoutSupported) {
-                    return QueryFlow.executeVoid(client, StringUtils.lockWaitTimeoutStatement(lockWaitTimeout))
-                        .then(Mono.fromSupplier(() -> d.lockWaitTimeout(lockWaitTimeout)));
+        }
+
+        Flux<Flux<ServerMessage>> messages = context.getCapability().isMultiStatementsAllowed() ?
+            QueryFlow.execute(client, String.join(";", statements)) : QueryFlow.execute(client, statements);
+        AtomicReference<SessionState> state = new AtomicReference<>();
+        AtomicReference<String> systemTimeZone = new AtomicReference<>();
+
+        return messages.map(it -> MySqlSegmentResult.toResult(false, client, codecs, null, it))
+            .index()
+            .concatMap(indexed -> {
+                MySqlResult r = indexed.getT2();
+                int index = (int) (indexed.getT1() - offset);
+
+                if (index < 0) {
+                    return r.getRowsUpdated().then();
+                } else if (index == 0) {
+                    return r.map(readable -> {
+                        String system = facts != null ? facts.getSystemTimeZone() :
+                            timeZone ? readable.get("s", String.class) : null;
+
+                        systemTimeZone.set(system);
+
+                        return convertSessionData(readable, facts, system, timeZone);
+                    }).doOnNext(state::set).then();
+                } else if (index == 1 && facts == null) {
+                    return r.map(readable -> {
+                        String value = readable.get(1, String.class);
+
+                        if (value != null && !value.isEmpty()) {
+                            state.set(state.get().lockWaitTimeout(Duration.ofSeconds(Long.parseLong(value))));
+                        }
+
+                        return value == null ? "" : value;
+                    }).then();
                 }
 
-                logger.warn("Lock wait timeout is not supported by server, ignore initial setting");
-                return Mono.just(d);
-            }
-            return Mono.just(d);
-        });
+                return r.getRowsUpdated()
+                    .doOnSuccess(ignored -> state.set(state.get().lockWaitTimeout(lockWaitTimeout)))
+                    .then()
+                    .onErrorResume(InitFlow::isUnknownSystemVariable, e -> {
+                        logger.warn("Lock wait timeout is not supported by server, ignore initial setting");
+                        return Mono.empty();
+                    });
+            })
+            .then(Mono.fromSupplier(state::get))
+            .single()
+            .doOnNext(data -> {
+                if (facts == null) {
+                    serverFacts.set(new ServerFacts(context.getServerVersion(), context.getConnectionId(),
+                        data.product, systemTimeZone.get(), data.lockWaitTimeoutSupported));
+                }
+            });
     }
 
-    private static Mono<SessionState> loadSessionVariables(Client client, Codecs codecs) {
-        ConnectionContext context = client.getContext();
-        StringBuilder query = new StringBuilder(128)
-            .append("SELECT ")
-            .append(transactionIsolationColumn(context))
-            .append(",@@version_comment AS v");
+    private static boolean isUnknownSystemVariable(Throwable e) {
+        return e instanceof R2dbcException && ((R2dbcException) e).getErrorCode() == ER_UNKNOWN_SYSTEM_VARIABLE;
+    }
 
-        Function<MySqlResult, Flux<SessionState>> handler;
+    private static String sessionVariablesQuery(ConnectionContext context, @Nullable ServerFacts facts,
+        boolean timeZone) {
+        StringBuilder query = new StringBuilder(128).append("SELECT ").append(transactionIsolationColumn(context));
 
-        if (context.isTimeZoneInitialized()) {
-            handler = r -> convertSessionData(r, false);
-        } else {
-            query.append(",@@system_time_zone AS s,@@time_zone AS t");
-            handler = r -> convertSessionData(r, true);
+        if (facts == null) {
+            query.append(",@@version_comment AS v");
+
+            if (timeZone) {
+                query.append(",@@system_time_zone AS s");
+            }
+        } else if (facts.isLockWaitTimeoutSupported()) {
+            query.append(",@@innodb_lock_wait_timeout AS l");
+        }
+
+        if (timeZone) {
+            query.append(",@@time_zone AS t");
         }
 
-        return new TextSimpleStatement(client, codecs, query.toString())
-            .execute()
-            .flatMap(handler)
-            .last();
+        return query.toString();
     }
 
     private static Mono<Void> initDatabase(Client client, String database) {
@@ -312,13 +391,30 @@ final class InitFlow {
         return "time_zone='" + offerStr + "'";
     }
 
-    private static Flux<SessionState> convertSessionData(MySqlResult r, boolean timeZone) {
-        return r.map(readable -> {
-            IsolationLevel level = convertIsolationLevel(readable.get(0, String.class));
-            String product = readable.get(1, String.class);
+    private static SessionState convertSessionData(
+        Readable readable,
+        @Nullable ServerFacts facts,
+        @Nullable String systemTimeZone,
+        boolean timeZone
+    ) {
+        IsolationLevel level = convertIsolationLevel(readable.get("i", String.class));
 
-            return new SessionState(level, product, timeZone ? readZoneId(readable) : null);
-        });
+        if (facts == null) {
+            String product = readable.get("v", String.class);
+
+            return new SessionState(level, product, timeZone ? readZoneId(systemTimeZone, readable) : null);
+        }
+
+        SessionState state = new SessionState(level, facts.getProduct(),
+            timeZone ? readZoneId(systemTimeZone, readable) : null);
+
+        if (facts.isLockWaitTimeoutSupported()) {
+            Long timeout = readable.get("l", Long.class);
+
+            return state.lockWaitTimeout(timeout == null ? Duration.ZERO : Duration.ofSeconds(timeout));
+        }
+
+        return state;
     }
 
     /**
@@ -342,9 +438,8 @@ final class InitFlow {
             "@@transaction_isolation AS i" : "@@tx_isolation AS i";
     }
 
-    private static ZoneId readZoneId(Readable readable) {
-        String systemTimeZone = readable.get(2, String.class);
-        String timeZone = readable.get(3, String.class);
+    private static ZoneId readZoneId(@Nullable String systemTimeZone, Readable readable) {
+        String timeZone = readable.get("t", String.class);
 
         if (timeZone == null || timeZone.isEmpty() || "SYSTEM".equalsIgnoreCase(timeZone)) {
             if (systemTimeZone == null || systemTimeZone.isEmpty()) {
@@ -485,6 +580,8 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
 
     private static final int HANDSHAKE_VERSION = 10;
 
+    private static final ServerVersion MYSQL_8_0_5 = ServerVersion.create(8, 0, 5);
+
     private final Sinks.Many<SubsequenceClientMessage> requests = Sinks.many().unicast()
         .onBackpressureBuffer(Queues.<SubsequenceClientMessage>one().get());
 
@@ -503,8 +600,15 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
 
     private final int zstdCompressionLevel;
 
+    private final ServerPublicKeyCache publicKeys;
+
     private boolean handshake = true;
 
+    private boolean publicKeyRequested;
+
+    @Nullable
+    private ServerPublicKey usedPublicKey;
+
     private MySqlAuthProvider authProvider;
 
     private byte[] salt;
@@ -513,7 +617,7 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
 
     HandshakeExchangeable(Client client, SslMode sslMode, String database, String user,
         @Nullable CharSequence password, Set<CompressionAlgorithm> compressions,
-        int zstdCompressionLevel) {
+        int zstdCompressionLevel, ServerPublicKeyCache publicKeys) {
         this.client = client;
         this.sslMode = sslMode;
         this.database = database;
@@ -521,6 +625,7 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
         this.password = password;
         this.compressions = compressions;
         this.zstdCompressionLevel = zstdCompressionLevel;
+        this.publicKeys = publicKeys;
         this.sslCompleted = sslMode == SslMode.TUNNEL;
     }
 
@@ -532,6 +637,13 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
     @Override
     public void accept(ServerMessage message, SynchronousSink<Void> sink) {
         if (message instanceof ErrorMessage) {
+            ServerPublicKey key = usedPublicKey;
+
+            if (key != null) {
+                // The server may have been restarted with a new key pair, request it again in next login.
+                publicKeys.evict(key);
+            }
+
             sink.error(((ErrorMessage) message).toException());
             return;
         }
@@ -565,8 +677,20 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
             emitNext(createHandshakeResponse(client.getContext().getCapability()), sink);
         } else if (message instanceof AuthMoreDataMessage) {
             AuthMoreDataMessage msg = (AuthMoreDataMessage) message;
+            byte[] data = msg.getData();
+
+            if (data != null) {
+                if (!publicKeyRequested) {
+                    sink.error(new R2dbcPermissionDeniedException("Unexpected authentication data in login phase"));
+                    return;
+                }
 
-            if (msg.isFailed()) {
+                ServerPublicKey key = ServerPublicKey.parse(data);
+
+                publicKeyRequested = false;
+                publicKeys.retrieved(key);
+                emitNext(new AuthResponse(encryptPassword(key)), sink);
+            } else if (msg.isFailed()) {
                 if (logger.isDebugEnabled()) {
                     logger.debug("Connection (id {}) fast authentication failed, use full authentication",
                         client.getContext().getConnectionId());
@@ -602,13 +726,57 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
     }
 
     private AuthResponse createAuthResponse(String phase) {
-        MySqlAuthProvider authProvider = getAndNextProvider();
+        return new AuthResponse(authentication(getAndNextProvider(), phase));
+    }
+
+    /**
+     * Generates the authentication of a provider. If the provider requires SSL but the connection is not secured,
+     * the password of "caching_sha2_password" and "sha256_password" will be encrypted by the server RSA public key.
+     * The key is requested from server if it is not cached and the retrieval is allowed.
+     */
+    private byte[] authentication(MySqlAuthProvider authProvider, String phase) {
+        CharCollation collation = client.getContext().getClientCollation();
 
-        if (authProvider.isSslNecessary() && !sslCompleted) {
-            throw new R2dbcPermissionDeniedException(authFails(authProvider.getType(), phase), CLI_SPECIFIC);
+        if (!authProvider.isSslNecessary() || sslCompleted || password == null || password.length() == 0) {
+            return authProvider.authentication(password, salt, collation);
         }
 
-        return new AuthResponse(authProvider.authentication(password, salt, client.getContext().getClientCollation()));
+        String authType = authProvider.getType();
+        boolean cachingSha2 = MySqlAuthProvider.CACHING_SHA2_PASSWORD.equals(authType);
+
+        if (!cachingSha2 && !MySqlAuthProvider.SHA256_PASSWORD.equals(authType)) {
+            throw new R2dbcPermissionDeniedException(authFails(authType, phase), CLI_SPECIFIC);
+        }
+
+        ServerPublicKey key = publicKeys.get();
+
+        if (key != null) {
+            logger.debug("Connection (id {}) encrypts password by cached server public key",
+                client.getContext().getConnectionId());
+
+            return encryptPassword(key);
+        } else if (publicKeys.isRetrievable()) {
+            publicKeyRequested = true;
+
+            return new byte[] { cachingSha2 ? ServerPublicKey.CACHING_SHA2_REQUEST : ServerPublicKey.SHA256_REQUEST };
+        }
+
+        throw new R2dbcPermissionDeniedException(authFails(authType, phase) +
+            ", or the server RSA public key must be configured or allowed to be retrieved", CLI_SPECIFIC);
+    }
+
+    private byte[] encryptPassword(ServerPublicKey key) {
+        // Password must not be null here, it has been checked before requesting or using the public key.
+        CharSequence password = Objects.requireNonNull(this.password);
+        ConnectionContext context = client.getContext();
+        // The next provider has the same type as the current one, "caching_sha2_password" uses OAEP padding
+        // since MySQL 8.0.5, "sha256_password" always uses it.
+        boolean oaep = !MySqlAuthProvider.CACHING_SHA2_PASSWORD.equals(authProvider.getType()) ||
+            context.getServerVersion().isGreaterThanOrEqualTo(MYSQL_8_0_5);
+
+        this.usedPublicKey = key;
+
+        return key.encrypt(password, salt, context.getClientCollation(), oaep);
     }
 
     private Capability clientCapability(Capability serverCapability) {
@@ -669,10 +837,14 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
             builder.disableConnectWithDatabase();
         }
 
-        if (client.getContext().getLocalInfilePath() == null) {
+        if (client.getContext().getLocalInfilePath() == null && !client.getContext().isLocalInfileFromPublisher()) {
             builder.disableLoadDataLocalInfile();
         }
 
+        if (!client.getContext().isBulkExecution()) {
+            builder.disableBulkOperations();
+        }
+
         if (ATTRIBUTES.isEmpty()) {
             builder.disableConnectAttributes();
         }
@@ -708,13 +880,7 @@ final class HandshakeExchangeable extends FluxExchangeable<Void> {
 
     private HandshakeResponse createHandshakeResponse(Capability capability) {
         MySqlAuthProvider authProvider = getAndNextProvider();
-
-        if (authProvider.isSslNecessary() && !sslCompleted) {
-            throw new R2dbcPermissionDeniedException(authFails(authProvider.getType(), "handshake"),
-                CLI_SPECIFIC);
-        }
-
-        byte[] authorization = authProvider.authentication(password, salt, client.getContext().getClientCollation());
+        byte[] authorization = authentication(authProvider, "handshake");
         String authType = authProvider.getType();
 
         if (MySqlAuthProvider.NO_AUTH_PROVIDER.equals(authType)) {
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.codec.CodecContext;
+import io.asyncer.r2dbc.mysql.codec.Codecs;
+import io.asyncer.r2dbc.mysql.internal.util.OperatorUtils;
+import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCountUtil;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * A {@link ParameterWriter} that encodes rows into the default data format of {@code LOAD DATA} statement, i.e.
+ * fields are terminated by tab, lines are terminated by line feed, {@code NULL} is {@code \N}, and special
+ * characters are escaped by backslash. Text is encoded in UTF-8, binary values are written as raw bytes.
+ * <p>
+ * It is not thread-safety, all rows should be written sequentially.
+ */
+final class LoadDataWriter extends ParameterWriter {
+
+    private static final char ESCAPE = '\\';
+
+    private static final char FIELD_TERMINATOR = '\t';
+
+    private static final char LINE_TERMINATOR = '\n';
+
+    private final ByteBufAllocator allocator;
+
+    private final int bufferSize;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    @Nullable
+    private ByteBuf buf;
+
+    private LoadDataWriter(ByteBufAllocator allocator, int bufferSize) {
+        this.allocator = allocator;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void writeNull() {
+        builder.append(ESCAPE).append('N');
+    }
+
+    @Override
+    public void writeInt(int value) {
+        builder.append(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        builder.append(value);
+    }
+
+    @Override
+    public void writeUnsignedLong(long value) {
+        builder.append(Long.toUnsignedString(value));
+    }
+
+    @Override
+    public void writeBigInteger(BigInteger value) {
+        requireNonNull(value, "value must not be null");
+
+        builder.append(value);
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        builder.append(value);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        builder.append(value);
+    }
+
+    @Override
+    public void writeBigDecimal(BigDecimal value) {
+        requireNonNull(value, "value must not be null");
+
+        builder.append(value);
+    }
+
+    @Override
+    public void writeBinary(boolean bit) {
+        builder.append(bit ? '1' : '0');
+    }
+
+    @Override
+    public void writeHex(ByteBuffer buffer) {
+        requireNonNull(buffer, "buffer must not be null");
+
+        ByteBuf buf = flushText();
+        int limit = buffer.limit();
+
+        for (int i = buffer.position(); i < limit; ++i) {
+            escape(buf, buffer.get(i));
+        }
+    }
+
+    @Override
+    public void writeHex(byte[] bytes) {
+        requireNonNull(bytes, "bytes must not be null");
+
+        ByteBuf buf = flushText();
+
+        for (byte b : bytes) {
+            escape(buf, b);
+        }
+    }
+
+    @Override
+    public void writeHex(long bits) {
+        // Hexadecimal literals are not supported, BIT columns should be set by CAST(@var AS UNSIGNED).
+        builder.append(Long.toUnsignedString(bits));
+    }
+
+    @Override
+    public void startString() {
+        // Fields are not enclosed.
+    }
+
+    @Override
+    public void startHex() {
+        // Binary values are written as raw bytes.
+    }
+
+    @Override
+    public void write(int c) {
+        escape((char) c);
+    }
+
+    @Override
+    public ParameterWriter append(char c) {
+        escape(c);
+        return this;
+    }
+
+    @Override
+    public ParameterWriter append(@Nullable CharSequence csq) {
+        CharSequence s = csq == null ? "null" : csq;
+
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public ParameterWriter append(@Nullable CharSequence csq, int start, int end) {
+        CharSequence s = csq == null ? "null" : csq;
+
+        if (start < 0 || start > s.length() || end < start || end > s.length()) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", str length: " +
+                s.length());
+        }
+
+        for (int i = start; i < end; ++i) {
+            escape(s.charAt(i));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void write(@Nullable String str) {
+        append(str);
+    }
+
+    @Override
+    public void write(@Nullable String str, int off, int len) {
+        String s = str == null ? "null" : str;
+
+        if (off < 0 || off > s.length() || len < 0 || off + len > s.length() || off + len < 0) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", str length: " +
+                s.length());
+        }
+
+        append(s, off, off + len);
+    }
+
+    @Override
+    public void write(@Nullable char[] c) {
+        if (c == null) {
+            write((String) null);
+            return;
+        }
+
+        write(c, 0, c.length);
+    }
+
+    @Override
+    public void write(@Nullable char[] c, int off, int len) {
+        if (c == null) {
+            write((String) null, off, len);
+            return;
+        }
+
+        if (off < 0 || off > c.length || len < 0 || off + len > c.length || off + len < 0) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", chars length: " +
+                c.length);
+        }
+
+        int end = off + len;
+
+        for (int i = off; i < end; ++i) {
+            escape(c[i]);
+        }
+    }
+
+    private Mono<ByteBuf> writeRow(Object[] row, int columns, Codecs codecs, CodecContext context) {
+        if (row.length != columns) {
+            return Mono.error(new IllegalArgumentException("Row has " + row.length + " values, but " + columns +
+                " columns are expected"));
+        }
+
+        MySqlParameter[] values = new MySqlParameter[columns];
+
+        try {
+            for (int i = 0; i < columns; ++i) {
+                Object value = row[i];
+
+                values[i] = value == null ? codecs.encodeNull() : codecs.encode(value, context);
+            }
+        } catch (Throwable e) {
+            for (MySqlParameter value : values) {
+                if (value != null) {
+                    value.dispose();
+                }
+            }
+
+            return Mono.error(e);
+        }
+
+        return OperatorUtils.discardOnCancel(Flux.range(0, columns))
+            .doOnDiscard(Integer.class, i -> values[i].dispose())
+            .concatMap(i -> {
+                if (i > 0) {
+                    builder.append(FIELD_TERMINATOR);
+                }
+
+                return values[i].publishText(this);
+            })
+            .then(Mono.fromSupplier(() -> {
+                builder.append(LINE_TERMINATOR);
+                return poll(false);
+            }));
+    }
+
+    /**
+     * Polls the written data if it is large enough or forced.
+     *
+     * @param force poll the data even if it is smaller than the buffer size.
+     * @return the written data, or {@code null} if no data should be polled.
+     */
+    @Nullable
+    private ByteBuf poll(boolean force) {
+        if (!force && builder.length() < bufferSize && (buf == null || buf.readableBytes() < bufferSize)) {
+            return null;
+        }
+
+        if (builder.length() > 0) {
+            flushText();
+        }
+
+        ByteBuf buf = this.buf;
+
+        this.buf = null;
+
+        return buf;
+    }
+
+    private void release() {
+        builder.setLength(0);
+
+        ByteBuf buf = this.buf;
+
+        if (buf != null) {
+            this.buf = null;
+            buf.release();
+        }
+    }
+
+    private ByteBuf flushText() {
+        ByteBuf buf = this.buf;
+
+        if (buf == null) {
+            this.buf = buf = allocator.buffer(Math.max(bufferSize, builder.length()));
+        }
+
+        if (builder.length() > 0) {
+            ByteBufUtil.writeUtf8(buf, builder);
+            builder.setLength(0);
+        }
+
+        return buf;
+    }
+
+    private void escape(char c) {
+        switch (c) {
+            case ESCAPE:
+                builder.append(ESCAPE).append(ESCAPE);
+                break;
+            case FIELD_TERMINATOR:
+                builder.append(ESCAPE).append('t');
+                break;
+            case LINE_TERMINATOR:
+                builder.append(ESCAPE).append('n');
+                break;
+            case 0:
+                builder.append(ESCAPE).append('0');
+                break;
+            default:
+                builder.append(c);
+                break;
+        }
+    }
+
+    private static void escape(ByteBuf buf, byte b) {
+        // UTF-8 multibyte sequences never contain ASCII bytes, so they can be escaped byte by byte.
+        switch (b) {
+            case ESCAPE:
+                buf.writeByte(ESCAPE).writeByte(ESCAPE);
+                break;
+            case FIELD_TERMINATOR:
+                buf.writeByte(ESCAPE).writeByte('t');
+                break;
+            case LINE_TERMINATOR:
+                buf.writeByte(ESCAPE).writeByte('n');
+                break;
+            case 0:
+                buf.writeByte(ESCAPE).writeByte('0');
+                break;
+            default:
+                buf.writeByte(b);
+                break;
+        }
+    }
+
+    /**
+     * Creates a {@code LOAD DATA LOCAL INFILE} statement for the data written by this writer.
+     * <p>
+     * The escape character is always specified, because the server disables the default one if the SQL mode
+     * {@code NO_BACKSLASH_ESCAPES} is enabled.
+     *
+     * @param table              the table name, it will be quoted as an identifier.
+     * @param columns            the column names, they will be quoted as identifiers.
+     * @param noBackslashEscapes if the SQL mode {@code NO_BACKSLASH_ESCAPES} is enabled.
+     * @return the statement.
+     */
+    static String toSql(String table, List<String> columns, boolean noBackslashEscapes) {
+        StringBuilder builder = new StringBuilder(64 + columns.size() * 16)
+            .append("LOAD DATA LOCAL INFILE 'r2dbc-mysql' INTO TABLE ")
+            .append(StringUtils.quoteIdentifier(table))
+            .append(" CHARACTER SET utf8mb4 FIELDS ESCAPED BY '")
+            .append(noBackslashEscapes ? "\\" : "\\\\")
+            .append("' (");
+
+        for (int i = 0; i < columns.size(); ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(StringUtils.quoteIdentifier(columns.get(i)));
+        }
+
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Encodes rows into the data of {@code LOAD DATA LOCAL INFILE} statement which is created by
+     * {@link #toSql(String, List, boolean)}.
+     *
+     * @param rows       the rows to encode, each row should have the same size as {@code columns}.
+     * @param columns    the number of columns.
+     * @param codecs     the codecs to encode values.
+     * @param context    the codec context.
+     * @param allocator  the buffer allocator.
+     * @param bufferSize the preferred size of each buffer.
+     * @return the encoded data.
+     */
+    static Flux<ByteBuf> publish(Flux<Object[]> rows, int columns, Codecs codecs, CodecContext context,
+        ByteBufAllocator allocator, int bufferSize) {
+        return Flux.defer(() -> {
+            LoadDataWriter writer = new LoadDataWriter(allocator, bufferSize);
+
+            return rows.concatMap(row -> writer.writeRow(row, columns, codecs, context))
+                .concatWith(Mono.fromSupplier(() -> writer.poll(true)))
+                .doFinally(ignored -> writer.release());
+        }).doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease);
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.asyncer.r2dbc.mysql;
 
+import io.asyncer.r2dbc.mysql.api.MySqlConnection;
+import io.asyncer.r2dbc.mysql.api.MySqlStatement;
 import io.asyncer.r2dbc.mysql.constant.CompressionAlgorithm;
 import io.asyncer.r2dbc.mysql.constant.SslMode;
 import io.asyncer.r2dbc.mysql.constant.ZeroDateOption;
@@ -136,6 +138,23 @@ public final class MySqlConnectionConfiguration {
 
     private final boolean tinyInt1isBit;
 
+    private final boolean pipelining;
+
+    private final boolean bulkExecution;
+
+    private final boolean loadLocalInfileFromPublisher;
+
+    private final boolean cursorPrefetch;
+
+    private final boolean adaptiveFetch;
+
+    private final boolean killQueryOnCancel;
+
+    @Nullable
+    private final Path serverRsaPublicKeyFile;
+
+    private final boolean allowPublicKeyRetrieval;
+
     private MySqlConnectionConfiguration(
             boolean isHost, String domain, int port, MySqlSslConfiguration ssl,
             boolean tcpKeepAlive, boolean tcpNoDelay, @Nullable Duration connectTimeout,
@@ -153,7 +172,15 @@ public final class MySqlConnectionConfiguration {
             Extensions extensions, @Nullable Publisher<String> passwordPublisher,
             @Nullable AddressResolverGroup<?> resolver,
             boolean metrics,
-            boolean tinyInt1isBit) {
+            boolean tinyInt1isBit,
+            boolean pipelining,
+            boolean bulkExecution,
+            boolean loadLocalInfileFromPublisher,
+            boolean cursorPrefetch,
+            boolean adaptiveFetch,
+            boolean killQueryOnCancel,
+            @Nullable Path serverRsaPublicKeyFile,
+            boolean allowPublicKeyRetrieval) {
         this.isHost = isHost;
         this.domain = domain;
         this.port = port;
@@ -185,6 +212,14 @@ public final class MySqlConnectionConfiguration {
         this.resolver = resolver;
         this.metrics = metrics;
         this.tinyInt1isBit = tinyInt1isBit;
+        this.pipelining = pipelining;
+        this.bulkExecution = bulkExecution;
+        this.loadLocalInfileFromPublisher = loadLocalInfileFromPublisher;
+        this.cursorPrefetch = cursorPrefetch;
+        this.adaptiveFetch = adaptiveFetch;
+        this.killQueryOnCancel = killQueryOnCancel;
+        this.serverRsaPublicKeyFile = serverRsaPublicKeyFile;
+        this.allowPublicKeyRetrieval = allowPublicKeyRetrieval;
     }
 
     /**
@@ -328,6 +363,39 @@ public final class MySqlConnectionConfiguration {
         return tinyInt1isBit;
     }
 
+    boolean isPipelining() {
+        return pipelining;
+    }
+
+    boolean isBulkExecution() {
+        return bulkExecution;
+    }
+
+    boolean isLoadLocalInfileFromPublisher() {
+        return loadLocalInfileFromPublisher;
+    }
+
+    boolean isCursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    boolean isAdaptiveFetch() {
+        return adaptiveFetch;
+    }
+
+    boolean isKillQueryOnCancel() {
+        return killQueryOnCancel;
+    }
+
+    @Nullable
+    Path getServerRsaPublicKeyFile() {
+        return serverRsaPublicKeyFile;
+    }
+
+    boolean isAllowPublicKeyRetrieval() {
+        return allowPublicKeyRetrieval;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -367,7 +435,15 @@ public final class MySqlConnectionConfiguration {
             Objects.equals(passwordPublisher, that.passwordPublisher) &&
             Objects.equals(resolver, that.resolver) &&
             metrics == that.metrics &&
-            tinyInt1isBit == that.tinyInt1isBit;
+            tinyInt1isBit == that.tinyInt1isBit &&
+            pipelining == that.pipelining &&
+            bulkExecution == that.bulkExecution &&
+            loadLocalInfileFromPublisher == that.loadLocalInfileFromPublisher &&
+            cursorPrefetch == that.cursorPrefetch &&
+            adaptiveFetch == that.adaptiveFetch &&
+            killQueryOnCancel == that.killQueryOnCancel &&
+            Objects.equals(serverRsaPublicKeyFile, that.serverRsaPublicKeyFile) &&
+            allowPublicKeyRetrieval == that.allowPublicKeyRetrieval;
     }
 
     @Override
@@ -382,7 +458,9 @@ public final class MySqlConnectionConfiguration {
             loadLocalInfilePath, localInfileBufferSize,
             queryCacheSize, prepareCacheSize,
             compressionAlgorithms, zstdCompressionLevel,
-            loopResources, extensions, passwordPublisher, resolver, metrics, tinyInt1isBit);
+            loopResources, extensions, passwordPublisher, resolver, metrics, tinyInt1isBit,
+            pipelining, bulkExecution, loadLocalInfileFromPublisher, cursorPrefetch, adaptiveFetch, killQueryOnCancel,
+            serverRsaPublicKeyFile, allowPublicKeyRetrieval);
     }
 
     @Override
@@ -418,7 +496,15 @@ public final class MySqlConnectionConfiguration {
                 ", passwordPublisher=" + passwordPublisher +
                 ", resolver=" + resolver +
                 ", metrics=" + metrics +
-                ", tinyint1isBit=" + tinyInt1isBit;
+                ", tinyint1isBit=" + tinyInt1isBit +
+                ", pipelining=" + pipelining +
+                ", bulkExecution=" + bulkExecution +
+                ", loadLocalInfileFromPublisher=" + loadLocalInfileFromPublisher +
+                ", cursorPrefetch=" + cursorPrefetch +
+                ", adaptiveFetch=" + adaptiveFetch +
+                ", killQueryOnCancel=" + killQueryOnCancel +
+                ", serverRsaPublicKeyFile=" + serverRsaPublicKeyFile +
+                ", allowPublicKeyRetrieval=" + allowPublicKeyRetrieval;
     }
 
     /**
@@ -522,6 +608,23 @@ public final class MySqlConnectionConfiguration {
 
         private boolean tinyInt1isBit = true;
 
+        private boolean pipelining;
+
+        private boolean bulkExecution;
+
+        private boolean loadLocalInfileFromPublisher;
+
+        private boolean cursorPrefetch;
+
+        private boolean adaptiveFetch;
+
+        private boolean killQueryOnCancel;
+
+        @Nullable
+        private Path serverRsaPublicKeyFile;
+
+        private boolean allowPublicKeyRetrieval;
+
         /**
          * Builds an immutable {@link MySqlConnectionConfiguration} with current options.
          *
@@ -556,7 +659,9 @@ public final class MySqlConnectionConfiguration {
                 loadLocalInfilePath,
                 localInfileBufferSize, queryCacheSize, prepareCacheSize,
                 compressionAlgorithms, zstdCompressionLevel, loopResources,
-                Extensions.from(extensions, autodetectExtensions), passwordPublisher, resolver, metrics, tinyInt1isBit);
+                Extensions.from(extensions, autodetectExtensions), passwordPublisher, resolver, metrics, tinyInt1isBit,
+                pipelining, bulkExecution, loadLocalInfileFromPublisher, cursorPrefetch, adaptiveFetch,
+                killQueryOnCancel, serverRsaPublicKeyFile, allowPublicKeyRetrieval);
         }
 
         /**
@@ -1232,6 +1337,165 @@ public final class MySqlConnectionConfiguration {
             return this;
         }
 
+        /**
+         * Option to enable pipelining of commands. Default to {@code false}.
+         * <p>
+         * When enabled, text queries and pings that are queued on a connection will be written to the server
+         * back to back, without waiting for the responses of previous commands. Responses are still routed to
+         * their statements in order. Statements that may require subsequent requests, such as server-preparing
+         * statements or {@code LOAD DATA LOCAL INFILE}, are never pipelined with other statements.
+         * <p>
+         * A server-preparing statement with multiple bindings and without fetch size will send executions of
+         * its bindings without waiting for the previous results. It stops sending at the first error, but the
+         * executions already sent will still be executed by the server, so it should be used in a transaction
+         * if the bindings should be all-or-nothing.
+         * <p>
+         * A server-preparing statement that misses the prepare cache will send its first execution without
+         * waiting for the prepare metadata. On MariaDB 10.2 or above, the execution is sent along with the
+         * prepare query.
+         * <p>
+         * It takes no effect if compression is used by the connection.
+         *
+         * @param enabled {@code true} to enable pipelining.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder pipelining(boolean enabled) {
+            this.pipelining = enabled;
+            return this;
+        }
+
+        /**
+         * Option to enable MariaDB bulk execution for server-preparing statements with multiple bindings.
+         * Default to {@code false}.
+         * <p>
+         * When enabled and the MariaDB server supports it, the bindings after the first one will be sent in
+         * {@code COM_STMT_BULK_EXECUTE} packets instead of one execution per binding.  It is used only if the
+         * first binding does not return a result set, and no fetch size is set.  If the server also supports
+         * unit results (MariaDB 11.5.1 or above), each binding still has its own update count and last insert ID,
+         * otherwise a bulk packet has one result with the total update count of its bindings.
+         * <p>
+         * It takes no effect if the server is not MariaDB.
+         *
+         * @param enabled {@code true} to enable bulk execution.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder bulkExecution(boolean enabled) {
+            this.bulkExecution = enabled;
+            return this;
+        }
+
+        /**
+         * Option to allow {@code LOAD DATA LOCAL INFILE} statements to load data from a {@link Publisher} which
+         * is bound by {@link MySqlStatement#localInfile(Publisher)} or
+         * {@link MySqlStatement#localInfileText(Publisher)}, instead of a file.  It is also required by
+         * {@link MySqlConnection#loadData(String, List, Publisher)}.  Default to {@code false}.
+         * <p>
+         * The local infile capability will be enabled even if {@link #allowLoadLocalInfileInPath(String)} is not
+         * set, but the server can only request data of statements that have bound a {@link Publisher}, reading
+         * files is still limited by {@link #allowLoadLocalInfileInPath(String)}.
+         *
+         * @param enabled {@code true} to allow loading data from a {@link Publisher}.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder allowLoadLocalInfileFromPublisher(boolean enabled) {
+            this.loadLocalInfileFromPublisher = enabled;
+            return this;
+        }
+
+        /**
+         * Option to prefetch the next batch of a cursor while the current batch is being consumed. Default to
+         * {@code false}.
+         * <p>
+         * It takes effect only for statements that use a cursor, i.e. {@link MySqlStatement#fetchSize(int)} is
+         * greater than {@literal 0}. At most two fetch windows will be requested at a time, so the rows of the
+         * next batch are transferred while the current batch is being consumed, instead of paying a round trip
+         * per batch.
+         *
+         * @param enabled {@code true} to enable cursor prefetching.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder cursorPrefetch(boolean enabled) {
+            this.cursorPrefetch = enabled;
+            return this;
+        }
+
+        /**
+         * Option to fetch rows of cursors on demand with adaptive fetch sizes. Default to {@code false}.
+         * <p>
+         * It takes effect only for statements that use a cursor, i.e. {@link MySqlStatement#fetchSize(int)} is
+         * greater than {@literal 0}. A fetch will be sent only if the downstream has requested more rows, and its
+         * size is limited by the requested amount and the average size of received rows. The fetch size of the
+         * statement is only used before any row has been received.
+         *
+         * @param enabled {@code true} to enable adaptive fetching.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder adaptiveFetch(boolean enabled) {
+            this.adaptiveFetch = enabled;
+            return this;
+        }
+
+        /**
+         * Option to kill the running text query by {@code KILL QUERY} over another connection, if its result is
+         * still large after the subscriber has cancelled. Default to {@code false}.
+         * <p>
+         * By default, the remaining result of a cancelled query will be read and discarded to keep the connection
+         * usable. If this option is enabled and too many rows are discarded, a temporary connection will be
+         * created by the same connection factory to kill the query, and the next statement of the connection will
+         * wait for it. It takes no effect if pipelining is used.
+         * <p>
+         * Note: connection IDs are only unique within a server. Do NOT enable it if the host is a load balancer,
+         * DNS round-robin domain or proxy, the temporary connection may reach another server and kill an unrelated
+         * session which has the same connection ID.
+         *
+         * @param enabled {@code true} to kill large queries on cancel.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder killQueryOnCancel(boolean enabled) {
+            this.killQueryOnCancel = enabled;
+            return this;
+        }
+
+        /**
+         * Configures the PEM file of the server RSA public key, it is used to encrypt the password of
+         * {@code caching_sha2_password} and {@code sha256_password} authentications when the connection is not
+         * secured by SSL. Default to {@code null}, which means the public key is unknown.
+         * <p>
+         * The file will be loaded once by the connection factory, so no connection needs to request the public
+         * key from server.
+         *
+         * @param path the path of the PEM file, or {@code null} to disable it.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder serverRsaPublicKeyFile(@Nullable String path) {
+            this.serverRsaPublicKeyFile = path == null ? null : Paths.get(path);
+            return this;
+        }
+
+        /**
+         * Option to allow requesting the RSA public key from server, it is used to encrypt the password of
+         * {@code caching_sha2_password} and {@code sha256_password} authentications when the connection is not
+         * secured by SSL and {@link #serverRsaPublicKeyFile(String)} is not set. Default to {@code false}.
+         * <p>
+         * The public key will be cached by the connection factory, so following connections can skip the request.
+         * Notice: the requested public key cannot be verified, it may be vulnerable to man-in-the-middle attacks.
+         *
+         * @param enabled {@code true} to allow requesting the public key.
+         * @return this {@link Builder}.
+         * @since 1.4.0
+         */
+        public Builder allowPublicKeyRetrieval(boolean enabled) {
+            this.allowPublicKeyRetrieval = enabled;
+            return this;
+        }
+
         private SslMode requireSslMode() {
             SslMode sslMode = this.sslMode;
 
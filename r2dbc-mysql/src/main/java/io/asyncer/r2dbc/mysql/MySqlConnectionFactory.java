@@ -17,22 +17,27 @@
 package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.api.MySqlConnection;
+import io.asyncer.r2dbc.mysql.api.MySqlResult;
 import io.asyncer.r2dbc.mysql.cache.Caches;
 import io.asyncer.r2dbc.mysql.cache.QueryCache;
 import io.asyncer.r2dbc.mysql.client.Client;
+import io.asyncer.r2dbc.mysql.client.SslContextCache;
 import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryMetadata;
 import org.jetbrains.annotations.Nullable;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.ZoneId;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -44,10 +49,15 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
 
     private final MySqlConnectionConfiguration configuration;
     private final LazyQueryCache queryCache;
+    private final AtomicReference<ServerFacts> serverFacts = new AtomicReference<>();
+    private final SslContextCache sslContexts = new SslContextCache();
+    private final ServerPublicKeyCache publicKeys;
 
     private MySqlConnectionFactory(MySqlConnectionConfiguration configuration) {
         this.configuration = configuration;
         this.queryCache = new LazyQueryCache(configuration.getQueryCacheSize());
+        this.publicKeys = new ServerPublicKeyCache(configuration.getServerRsaPublicKeyFile(),
+            configuration.isAllowPublicKeyRetrieval());
     }
 
     @Override
@@ -67,11 +77,16 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
         String user = configuration.getUser();
         CharSequence password = configuration.getPassword();
         Publisher<String> passwordPublisher = configuration.getPasswordPublisher();
+        IntFunction<Mono<Void>> queryKiller = configuration.isKillQueryOnCancel() ? this::killQuery : null;
 
         if (Objects.nonNull(passwordPublisher)) {
             return Mono.from(passwordPublisher).flatMap(token -> getMySqlConnection(
                     configuration, ssl,
                     queryCache,
+                    serverFacts,
+                    sslContexts,
+                    publicKeys,
+                    queryKiller,
                     address,
                     user,
                     token
@@ -81,6 +96,10 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
         return getMySqlConnection(
                 configuration, ssl,
                 queryCache,
+                serverFacts,
+                sslContexts,
+                publicKeys,
+                queryKiller,
                 address,
                 user,
                 password
@@ -92,6 +111,16 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
         return MySqlConnectionFactoryMetadata.INSTANCE;
     }
 
+    /**
+     * Gets the statistics of TLS handshakes of all connections created by this factory.
+     *
+     * @return the TLS session metrics.
+     * @since 1.4.0
+     */
+    public SslSessionMetrics getSslSessionMetrics() {
+        return sslContexts;
+    }
+
     /**
      * Creates a {@link MySqlConnectionFactory} with a {@link MySqlConnectionConfiguration}.
      *
@@ -115,6 +144,11 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
      * @param configuration the connection configuration.
      * @param ssl           the SSL configuration.
      * @param queryCache    lazy-init query cache, it is shared among all connections from the same factory.
+     * @param serverFacts   the cached facts of the server, it is shared among all connections from the same factory.
+     * @param sslContexts   the cache of SSL contexts, it is shared among all connections from the same factory.
+     * @param publicKeys    the cache of server RSA public key, it is shared among all connections from the same
+     *                      factory.
+     * @param queryKiller   the function to kill the running query of a connection ID, or {@code null} if disabled.
      * @param address       TCP or Unix Domain Socket address.
      * @param user          the user of the authentication.
      * @param password      the password of the authentication.
@@ -124,6 +158,10 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
         final MySqlConnectionConfiguration configuration,
         final MySqlSslConfiguration ssl,
         final LazyQueryCache queryCache,
+        final AtomicReference<ServerFacts> serverFacts,
+        final SslContextCache sslContexts,
+        final ServerPublicKeyCache publicKeys,
+        @Nullable final IntFunction<Mono<Void>> queryKiller,
         final SocketAddress address,
         final String user,
         @Nullable final CharSequence password
@@ -136,10 +174,17 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
                 configuration.getLocalInfileBufferSize(),
                 configuration.isTinyInt1isBit(),
                 configuration.isPreserveInstants(),
-                connectionTimeZone
+                connectionTimeZone,
+                configuration.isPipelining(),
+                configuration.isBulkExecution(),
+                configuration.isLoadLocalInfileFromPublisher(),
+                configuration.isCursorPrefetch(),
+                configuration.isAdaptiveFetch(),
+                queryKiller
             );
         }).flatMap(context -> Client.connect(
             ssl,
+            sslContexts,
             address,
             configuration.isTcpKeepAlive(),
             configuration.isTcpNoDelay(),
@@ -162,7 +207,8 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
                 user,
                 password,
                 configuration.getCompressionAlgorithms(),
-                configuration.getZstdCompressionLevel()
+                configuration.getZstdCompressionLevel(),
+                publicKeys
             ).then(InitFlow.initSession(
                 client,
                 sessionDb,
@@ -171,7 +217,8 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
                 configuration.isForceConnectionTimeZoneToSession(),
                 configuration.getLockWaitTimeout(),
                 configuration.getStatementTimeout(),
-                configuration.getExtensions()
+                configuration.getExtensions(),
+                serverFacts
             )).map(codecs -> new MySqlSimpleConnection(
                 client,
                 codecs,
@@ -181,6 +228,26 @@ public final class MySqlConnectionFactory implements ConnectionFactory {
         });
     }
 
+    /**
+     * Kills the running query of a connection over a temporary connection created by this factory, so it shares the
+     * cached server facts, SSL contexts and server public key.
+     *
+     * @param connectionId the connection ID of the query to kill.
+     * @return completes when the query has been killed.
+     */
+    private Mono<Void> killQuery(int connectionId) {
+        // The connection ID is an unsigned 32-bit integer.
+        String sql = "KILL QUERY " + Integer.toUnsignedString(connectionId);
+
+        return Mono.usingWhen(
+            create(),
+            connection -> Flux.from(connection.createStatement(sql).execute())
+                .flatMap(MySqlResult::getRowsUpdated)
+                .then(),
+            MySqlConnection::close
+        );
+    }
+
     @Nullable
     private static ZoneId retrieveZoneId(String timeZone) {
         if ("LOCAL".equalsIgnoreCase(timeZone)) {
@@ -339,6 +339,72 @@ public final class MySqlConnectionFactoryProvider implements ConnectionFactoryPr
      */
     public static final Option<Boolean> TINY_INT_1_IS_BIT = Option.valueOf("tinyInt1isBit");
 
+    /**
+     * Option to enable pipelining of commands. Default to {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> PIPELINING = Option.valueOf("pipelining");
+
+    /**
+     * Option to enable MariaDB bulk execution for server-preparing statements with multiple bindings. Default to
+     * {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> BULK_EXECUTION = Option.valueOf("bulkExecution");
+
+    /**
+     * Option to allow {@code LOAD DATA LOCAL INFILE} statements to load data from a bound {@code Publisher}.
+     * Default to {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> ALLOW_LOAD_LOCAL_INFILE_FROM_PUBLISHER =
+        Option.valueOf("allowLoadLocalInfileFromPublisher");
+
+    /**
+     * Option to prefetch the next batch of a cursor while the current batch is being consumed. Default to
+     * {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> CURSOR_PREFETCH = Option.valueOf("cursorPrefetch");
+
+    /**
+     * Option to fetch rows of cursors on demand with adaptive fetch sizes. Default to {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> ADAPTIVE_FETCH = Option.valueOf("adaptiveFetch");
+
+    /**
+     * Option to kill the running text query by {@code KILL QUERY} over another connection, if its result is still
+     * large after the subscriber has cancelled. Default to {@code false}.
+     * <p>
+     * Do NOT enable it behind a load balancer, DNS round-robin domain or proxy, the other connection may reach
+     * another server and kill an unrelated session which has the same connection ID.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> KILL_QUERY_ON_CANCEL = Option.valueOf("killQueryOnCancel");
+
+    /**
+     * Option to set the PEM file of the server RSA public key, it is used to encrypt the password in non-SSL
+     * authentications.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<String> SERVER_RSA_PUBLIC_KEY_FILE = Option.valueOf("serverRsaPublicKeyFile");
+
+    /**
+     * Option to allow requesting the RSA public key from server in non-SSL authentications. Default to
+     * {@code false}.
+     *
+     * @since 1.4.0
+     */
+    public static final Option<Boolean> ALLOW_PUBLIC_KEY_RETRIEVAL = Option.valueOf("allowPublicKeyRetrieval");
+
     @Override
     public ConnectionFactory create(ConnectionFactoryOptions options) {
         requireNonNull(options, "connectionFactoryOptions must not be null");
@@ -436,6 +502,22 @@ public final class MySqlConnectionFactoryProvider implements ConnectionFactoryPr
                 .to(builder::metrics);
         mapper.optional(TINY_INT_1_IS_BIT).asBoolean()
                 .to(builder::tinyInt1isBit);
+        mapper.optional(PIPELINING).asBoolean()
+            .to(builder::pipelining);
+        mapper.optional(BULK_EXECUTION).asBoolean()
+            .to(builder::bulkExecution);
+        mapper.optional(ALLOW_LOAD_LOCAL_INFILE_FROM_PUBLISHER).asBoolean()
+            .to(builder::allowLoadLocalInfileFromPublisher);
+        mapper.optional(CURSOR_PREFETCH).asBoolean()
+            .to(builder::cursorPrefetch);
+        mapper.optional(ADAPTIVE_FETCH).asBoolean()
+            .to(builder::adaptiveFetch);
+        mapper.optional(KILL_QUERY_ON_CANCEL).asBoolean()
+            .to(builder::killQueryOnCancel);
+        mapper.optional(SERVER_RSA_PUBLIC_KEY_FILE).asString()
+            .to(builder::serverRsaPublicKeyFile);
+        mapper.optional(ALLOW_PUBLIC_KEY_RETRIEVAL).asBoolean()
+            .to(builder::allowPublicKeyRetrieval);
 
         return builder.build();
     }
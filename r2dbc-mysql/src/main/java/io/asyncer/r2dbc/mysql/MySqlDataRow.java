@@ -20,7 +20,7 @@ import io.asyncer.r2dbc.mysql.api.MySqlRow;
 import io.asyncer.r2dbc.mysql.api.MySqlRowMetadata;
 import io.asyncer.r2dbc.mysql.codec.CodecContext;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
-import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.asyncer.r2dbc.mysql.message.server.RowFields;
 import io.r2dbc.spi.Row;
 
 import java.lang.reflect.ParameterizedType;
@@ -32,7 +32,7 @@ import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
  */
 final class MySqlDataRow implements MySqlRow {
 
-    private final FieldValue[] fields;
+    private final RowFields fields;
 
     private final MySqlRowDescriptor rowMetadata;
 
@@ -48,7 +48,7 @@ final class MySqlDataRow implements MySqlRow {
      */
     private final CodecContext context;
 
-    MySqlDataRow(FieldValue[] fields, MySqlRowDescriptor rowMetadata, Codecs codecs, boolean binary,
+    MySqlDataRow(RowFields fields, MySqlRowDescriptor rowMetadata, Codecs codecs, boolean binary,
         CodecContext context) {
         this.fields = requireNonNull(fields, "fields must not be null");
         this.rowMetadata = requireNonNull(rowMetadata, "rowMetadata must not be null");
@@ -62,7 +62,7 @@ final class MySqlDataRow implements MySqlRow {
         requireNonNull(type, "type must not be null");
 
         MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
-        return codecs.decode(fields[index], info, type, binary, context);
+        return codecs.decode(fields.get(index), info, type, binary, context);
     }
 
     @Override
@@ -70,7 +70,7 @@ final class MySqlDataRow implements MySqlRow {
         requireNonNull(type, "type must not be null");
 
         MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
-        return codecs.decode(fields[info.getIndex()], info, type, binary, context);
+        return codecs.decode(fields.get(info.getIndex()), info, type, binary, context);
     }
 
     @Override
@@ -78,7 +78,7 @@ final class MySqlDataRow implements MySqlRow {
         requireNonNull(type, "type must not be null");
 
         MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
-        return codecs.decode(fields[index], info, type, binary, context);
+        return codecs.decode(fields.get(index), info, type, binary, context);
     }
 
     @Override
@@ -86,7 +86,55 @@ final class MySqlDataRow implements MySqlRow {
         requireNonNull(type, "type must not be null");
 
         MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
-        return codecs.decode(fields[info.getIndex()], info, type, binary, context);
+        return codecs.decode(fields.get(info.getIndex()), info, type, binary, context);
+    }
+
+    @Override
+    public int getInt(int index) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
+        return codecs.decodeInt(fields.get(index), info, binary, context);
+    }
+
+    @Override
+    public int getInt(String name) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
+        return codecs.decodeInt(fields.get(info.getIndex()), info, binary, context);
+    }
+
+    @Override
+    public long getLong(int index) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
+        return codecs.decodeLong(fields.get(index), info, binary, context);
+    }
+
+    @Override
+    public long getLong(String name) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
+        return codecs.decodeLong(fields.get(info.getIndex()), info, binary, context);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
+        return codecs.decodeDouble(fields.get(index), info, binary, context);
+    }
+
+    @Override
+    public double getDouble(String name) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
+        return codecs.decodeDouble(fields.get(info.getIndex()), info, binary, context);
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(index);
+        return codecs.decodeBoolean(fields.get(index), info, binary, context);
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        MySqlColumnDescriptor info = rowMetadata.getColumnMetadata(name);
+        return codecs.decodeBoolean(fields.get(info.getIndex()), info, binary, context);
     }
 
     /**
@@ -26,7 +26,9 @@ import reactor.core.publisher.Mono;
 /**
  * A parameter value bound to an {@link Binding}.
  * <p>
- * TODO: add ScalarParameter for better performance.
+ * A scalar parameter, e.g. numbers, temporals, strings and byte arrays, should override {@link #binarySize()}
+ * and {@link #writeBinary(ByteBuf)}, so that it can be encoded into the execute message synchronously without
+ * allocating a buffer and a publisher for each parameter.
  */
 public interface MySqlParameter extends Disposable {
 
@@ -57,6 +59,60 @@ public interface MySqlParameter extends Disposable {
      */
     Publisher<ByteBuf> publishBinary(ByteBufAllocator allocator);
 
+    /**
+     * Gets the estimated size of the binary protocol encoding if it is a scalar value that can be written
+     * synchronously by {@link #writeBinary(ByteBuf)}. It is used to pre-size the buffer, the buffer will be
+     * expanded if the actual size exceeds it.
+     * <p>
+     * Note: streaming values, e.g. LOBs, should return {@code -1} and be encoded by
+     * {@link #publishBinary(ByteBufAllocator)}.
+     *
+     * @return the estimated size in bytes, or {@code -1} if it is not a scalar value.
+     * @since 1.4.0
+     */
+    default int binarySize() {
+        return -1;
+    }
+
+    /**
+     * Writes the binary protocol encoding into {@code buf} synchronously. It is the same as the content of
+     * {@link #publishBinary(ByteBufAllocator)}, and is only called when {@link #binarySize()} is not
+     * negative.
+     *
+     * @param buf the buffer to write into.
+     * @throws UnsupportedOperationException if it is not a scalar value.
+     * @since 1.4.0
+     */
+    default void writeBinary(ByteBuf buf) {
+        throw new UnsupportedOperationException(getClass().getName() + " is not a scalar parameter");
+    }
+
+    /**
+     * Checks if it should be sent by {@code COM_STMT_SEND_LONG_DATA} commands before executing a prepared
+     * statement, instead of being written into the execute message. It is useful for large values, e.g. LOBs,
+     * which should not be buffered into a single message.
+     *
+     * @return {@code true} if it should be published by {@link #publishLongData(ByteBufAllocator)}.
+     * @since 1.4.0
+     */
+    default boolean isLongData() {
+        return false;
+    }
+
+    /**
+     * Publishes the raw content of the value for {@code COM_STMT_SEND_LONG_DATA} commands. Not like
+     * {@link #publishBinary(ByteBufAllocator)}, it should not contain the var-integer length. It is only
+     * called when {@link #isLongData()} returns {@code true}.
+     *
+     * @param allocator the buffer allocator.
+     * @return the content buffer(s), each buffer can be sent as soon as it is published.
+     * @throws UnsupportedOperationException if it does not support long data.
+     * @since 1.4.0
+     */
+    default Publisher<ByteBuf> publishLongData(ByteBufAllocator allocator) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support long data");
+    }
+
     /**
      * Text protocol encoding.
      * <p>
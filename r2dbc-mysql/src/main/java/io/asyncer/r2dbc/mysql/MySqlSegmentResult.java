@@ -20,12 +20,11 @@ import io.asyncer.r2dbc.mysql.api.MySqlResult;
 import io.asyncer.r2dbc.mysql.api.MySqlRow;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
-import io.asyncer.r2dbc.mysql.internal.util.NettyBufferUtils;
 import io.asyncer.r2dbc.mysql.internal.util.OperatorUtils;
-import io.asyncer.r2dbc.mysql.message.FieldValue;
 import io.asyncer.r2dbc.mysql.message.server.DefinitionMetadataMessage;
 import io.asyncer.r2dbc.mysql.message.server.ErrorMessage;
 import io.asyncer.r2dbc.mysql.message.server.OkMessage;
+import io.asyncer.r2dbc.mysql.message.server.RowFields;
 import io.asyncer.r2dbc.mysql.message.server.RowMessage;
 import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
 import io.asyncer.r2dbc.mysql.message.server.SyntheticMetadataMessage;
@@ -56,17 +55,44 @@ import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
  * <p>
  * A {@link Segment} provided by this implementation may be both {@link UpdateCount} and {@link RowSegment}, see also
  * {@link MySqlOkSegment}.
+ * <p>
+ * If the result is not filtered, {@link #getRowsUpdated()} will count rows from messages directly, without decoding
+ * fields and creating {@link Segment}s.
  */
 final class MySqlSegmentResult implements MySqlResult {
 
     private final Flux<Segment> segments;
 
+    /**
+     * The messages of this result, or {@code null} if the result is filtered.
+     */
+    @Nullable
+    private final Flux<ServerMessage> messages;
+
+    @Nullable
+    private final Client client;
+
     private MySqlSegmentResult(Flux<Segment> segments) {
         this.segments = segments;
+        this.messages = null;
+        this.client = null;
+    }
+
+    private MySqlSegmentResult(Flux<Segment> segments, Flux<ServerMessage> messages, Client client) {
+        this.segments = segments;
+        this.messages = messages;
+        this.client = client;
     }
 
     @Override
     public Mono<Long> getRowsUpdated() {
+        Flux<ServerMessage> messages = this.messages;
+        Client client = this.client;
+
+        if (messages != null && client != null) {
+            return messages.handle(new MySqlRowsUpdated(client)).reduce(Long::sum);
+        }
+
         return segments.<Long>handle((segment, sink) -> {
             if (segment instanceof UpdateCount) {
                 sink.next(((UpdateCount) segment).value());
@@ -163,9 +189,14 @@ final class MySqlSegmentResult implements MySqlResult {
         requireNonNull(codecs, "codecs must not be null");
         requireNonNull(messages, "messages must not be null");
 
-        return new MySqlSegmentResult(OperatorUtils.discardOnCancel(messages)
-            .doOnDiscard(ReferenceCounted.class, ReferenceCounted::release)
-            .handle(new MySqlSegments(binary, client, codecs, syntheticKeyName)));
+        Flux<ServerMessage> discarding = OperatorUtils.discardOnCancel(messages)
+            .doOnDiscard(ReferenceCounted.class, ReferenceCounted::release);
+
+        return new MySqlSegmentResult(
+            discarding.handle(new MySqlSegments(binary, client, codecs, syntheticKeyName)),
+            discarding,
+            client
+        );
     }
 
     private static final class MySqlMessage implements Message {
@@ -201,9 +232,9 @@ final class MySqlSegmentResult implements MySqlResult {
 
         private final MySqlRow row;
 
-        private final FieldValue[] fields;
+        private final RowFields fields;
 
-        private MySqlRowSegment(FieldValue[] fields, MySqlRowDescriptor metadata, Codecs codecs, boolean binary,
+        private MySqlRowSegment(RowFields fields, MySqlRowDescriptor metadata, Codecs codecs, boolean binary,
             ConnectionContext context) {
             this.row = new MySqlDataRow(fields, metadata, codecs, binary, context);
             this.fields = fields;
@@ -216,16 +247,13 @@ final class MySqlSegmentResult implements MySqlResult {
 
         @Override
         public ReferenceCounted touch(Object hint) {
-            for (FieldValue field : this.fields) {
-                field.touch(hint);
-            }
-
+            fields.touch(hint);
             return this;
         }
 
         @Override
         protected void deallocate() {
-            NettyBufferUtils.releaseAll(fields);
+            fields.release();
         }
     }
 
@@ -302,10 +330,10 @@ final class MySqlSegmentResult implements MySqlResult {
                     return;
                 }
 
-                FieldValue[] fields;
+                RowFields fields;
 
                 try {
-                    fields = ((RowMessage) message).decode(binary, metadata.unwrap());
+                    fields = ((RowMessage) message).fields(binary, metadata.unwrap());
                 } finally {
                     ReferenceCountUtil.safeRelease(message);
                 }
@@ -319,6 +347,8 @@ final class MySqlSegmentResult implements MySqlResult {
                 }
 
                 this.rowMetadata = MySqlRowDescriptor.create(metadataMessages);
+            } else if (message instanceof RowMetadataMessage) {
+                this.rowMetadata = ((RowMetadataMessage) message).getDescriptor();
             } else if (message instanceof OkMessage) {
                 OkMessage msg = (OkMessage) message;
 
@@ -338,4 +368,40 @@ final class MySqlSegmentResult implements MySqlResult {
             }
         }
     }
+
+    /**
+     * Counts updated rows from messages, rows will be released without decoding fields.
+     */
+    private static final class MySqlRowsUpdated implements BiConsumer<ServerMessage, SynchronousSink<Long>> {
+
+        private final Client client;
+
+        private long rowCount;
+
+        private MySqlRowsUpdated(Client client) {
+            this.client = client;
+        }
+
+        @Override
+        public void accept(ServerMessage message, SynchronousSink<Long> sink) {
+            if (message instanceof RowMessage) {
+                // Updated rows can be identified either by OK or rows in case of RETURNING
+                ++rowCount;
+                ReferenceCountUtil.safeRelease(message);
+            } else if (message instanceof OkMessage) {
+                OkMessage msg = (OkMessage) message;
+
+                if (MySqlStatementSupport.supportReturning(client.getContext()) && msg.isEndOfRows()) {
+                    sink.next(rowCount);
+                    rowCount = 0;
+                } else {
+                    sink.next(msg.getAffectedRows());
+                }
+            } else if (message instanceof ErrorMessage) {
+                sink.error(((ErrorMessage) message).toException());
+            } else {
+                ReferenceCountUtil.safeRelease(message);
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ package io.asyncer.r2dbc.mysql;
 import io.asyncer.r2dbc.mysql.api.MySqlBatch;
 import io.asyncer.r2dbc.mysql.api.MySqlConnection;
 import io.asyncer.r2dbc.mysql.api.MySqlConnectionMetadata;
+import io.asyncer.r2dbc.mysql.api.MySqlResult;
 import io.asyncer.r2dbc.mysql.api.MySqlStatement;
 import io.asyncer.r2dbc.mysql.api.MySqlTransactionDefinition;
 import io.asyncer.r2dbc.mysql.cache.QueryCache;
@@ -28,6 +29,7 @@ import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
 import io.asyncer.r2dbc.mysql.message.server.CompleteMessage;
 import io.asyncer.r2dbc.mysql.message.server.ErrorMessage;
 import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -37,12 +39,16 @@ import io.r2dbc.spi.TransactionDefinition;
 import io.r2dbc.spi.ValidationDepth;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.require;
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonEmpty;
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
@@ -140,6 +146,26 @@ final class MySqlSimpleConnection implements MySqlConnection {
         return QueryFlow.createSavepoint(client, name, batchSupported);
     }
 
+    @Override
+    public Mono<Long> loadData(String table, List<String> columns, Publisher<Object[]> rows) {
+        requireNonEmpty(table, "table must not be empty");
+        requireNonNull(columns, "columns must not be null");
+        require(!columns.isEmpty(), "columns must not be empty");
+        requireNonNull(rows, "rows must not be null");
+
+        return Mono.defer(() -> {
+            ConnectionContext context = client.getContext();
+            String sql = LoadDataWriter.toSql(table, columns, context.isNoBackslashEscapes());
+            Flux<ByteBuf> data = LoadDataWriter.publish(Flux.from(rows), columns.size(), codecs, context,
+                client.getByteBufAllocator(), context.getLocalInfileBufferSize());
+
+            return QueryFlow.execute(client, sql, data)
+                .map(messages -> MySqlSegmentResult.toResult(false, client, codecs, null, messages))
+                .concatMap(MySqlResult::getRowsUpdated)
+                .reduce(0L, Long::sum);
+        });
+    }
+
     @Override
     public MySqlStatement createStatement(String sql) {
         requireNonNull(sql, "sql must not be null");
@@ -178,8 +204,15 @@ final class MySqlSimpleConnection implements MySqlConnection {
 
     @Override
     public Mono<Void> preRelease() {
-        // Rollback if the connection is in transaction.
-        return rollbackTransaction();
+        return Mono.defer(() -> {
+            // Server statuses are up-to-date if the connection is idle, no need to roll back out of transaction.
+            if (client.isIdle() && !client.getContext().isInTransaction()) {
+                return Mono.empty();
+            }
+
+            // Rollback if the connection is in transaction.
+            return QueryFlow.doneTransaction(client, false, batchSupported);
+        });
     }
 
     @Override
@@ -19,7 +19,12 @@ package io.asyncer.r2dbc.mysql;
 import io.asyncer.r2dbc.mysql.api.MySqlStatement;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.internal.util.InternalArrays;
+import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.Charset;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonEmpty;
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -101,6 +106,27 @@ abstract class MySqlStatementSupport implements MySqlStatement {
         return String.join(",", columns);
     }
 
+    /**
+     * Encodes the text data of {@code LOAD DATA LOCAL INFILE} by the character set of the client collation.
+     *
+     * @param data the text data of the local infile.
+     * @return the encoded data.
+     */
+    final Publisher<ByteBuf> encodeLocalInfile(Publisher<? extends CharSequence> data) {
+        return Flux.from(data).map(text -> {
+            Charset charset = client.getContext().getClientCollation().getCharset();
+            ByteBuf buf = client.getByteBufAllocator().buffer();
+
+            try {
+                buf.writeCharSequence(text, charset);
+                return buf;
+            } catch (Throwable e) {
+                buf.release();
+                throw e;
+            }
+        });
+    }
+
     static boolean supportReturning(ConnectionContext context) {
         return context.isMariaDb() && context.getServerVersion().isGreaterThanOrEqualTo(MARIA_10_5_1);
     }
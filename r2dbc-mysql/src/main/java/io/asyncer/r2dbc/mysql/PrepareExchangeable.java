@@ -0,0 +1,1075 @@
+/*
+ * Copyright 2023 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.client.Client;
+import io.asyncer.r2dbc.mysql.client.FluxExchangeable;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
+import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.asyncer.r2dbc.mysql.message.NormalFieldValue;
+import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
+import io.asyncer.r2dbc.mysql.message.client.PrepareQueryMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedBulkExecuteMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedCloseMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedExecuteMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedFetchMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedLargeDataMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedResetMessage;
+import io.asyncer.r2dbc.mysql.message.server.ColumnCountMessage;
+import io.asyncer.r2dbc.mysql.message.server.CompleteMessage;
+import io.asyncer.r2dbc.mysql.message.server.EofMessage;
+import io.asyncer.r2dbc.mysql.message.server.ErrorMessage;
+import io.asyncer.r2dbc.mysql.message.server.OkMessage;
+import io.asyncer.r2dbc.mysql.message.server.PreparedOkMessage;
+import io.asyncer.r2dbc.mysql.message.server.RowFields;
+import io.asyncer.r2dbc.mysql.message.server.RowMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerStatusMessage;
+import io.asyncer.r2dbc.mysql.message.server.SyntheticMetadataMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.SynchronousSink;
+import reactor.util.concurrent.Queues;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An implementation of {@link FluxExchangeable} that considers server-preparing queries. Which contains a built-in
+ * state machine.
+ * <p>
+ * It will reset a prepared statement if cache has matched it, otherwise it will prepare statement to a new statement ID
+ * and put the ID into the cache. If the statement ID does not exist in the cache after the last row sent, the ID will
+ * be closed.
+ * <p>
+ * If pipelining is enabled and cursor is not used, it will send up to {@link #PIPELINED_EXECUTIONS} execute messages
+ * without waiting for the previous results. It stops sending at the first error message, and the bindings that were
+ * not sent will be released. Note that the executions which were already sent will still be executed by the server.
+ * <p>
+ * If pipelining is enabled and cache has not matched, the first execution will not wait for the prepare metadata. On
+ * MariaDB, it is sent along with the prepare query by the statement ID of {@link #LAST_PREPARED}. On MySQL, it is sent
+ * as soon as the prepared OK message has been received.
+ * <p>
+ * If MariaDB bulk execution is enabled and the first binding does not return a result set, the remaining bindings
+ * will be sent by bulk executions, up to {@link #BULK_BINDINGS} bindings each. The unit results of a bulk execution
+ * will be converted to an {@link OkMessage} for each binding.
+ * <p>
+ * If MariaDB metadata cache is supported, the row metadata of the statement will be cached in the connection context,
+ * and it will be emitted as a {@link RowMetadataMessage} whether the server skips sending metadata or not.
+ * <p>
+ * If cursor prefetching is enabled, it will keep up to {@link #PREFETCH_WINDOWS} fetch messages in flight, so that the
+ * next batch is transferred while the current batch is being consumed. The responses of fetches that were sent after
+ * the last row will be discarded.
+ * <p>
+ * If adaptive fetching is enabled, a fetch message will be sent only if the downstream has requested more responses.
+ * The fetch size is limited by the requested amount and {@link #ADAPTIVE_FETCH_BYTES} of rows by the average size of
+ * received rows. If there is no demand when a batch completes, the cursor will be parked until the next request.
+ */
+final class PrepareExchangeable extends FluxExchangeable<ServerMessage> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PrepareExchangeable.class);
+
+    private static final int PREPARE_OR_RESET = 1;
+
+    private static final int EXECUTE = 2;
+
+    private static final int FETCH = 3;
+
+    private static final int BULK = 4;
+
+    /**
+     * The maximum number of execute messages that have been sent but not completed in pipelining.
+     */
+    private static final int PIPELINED_EXECUTIONS = 64;
+
+    /**
+     * The maximum number of bindings in a bulk execution.
+     */
+    private static final int BULK_BINDINGS = 1000;
+
+    /**
+     * The maximum number of fetch messages that have been sent but not completed in cursor prefetching.
+     */
+    private static final int PREFETCH_WINDOWS = 2;
+
+    /**
+     * The maximum total size of rows requested by a fetch message in adaptive fetching.
+     */
+    private static final int ADAPTIVE_FETCH_BYTES = 1 << 20;
+
+    /**
+     * The statement ID that MariaDB refers to the last prepared statement, i.e. {@code 0xFFFFFFFF}.
+     */
+    private static final int LAST_PREPARED = -1;
+
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    private final Sinks.Many<ClientMessage> requests = Sinks.many().unicast()
+        .onBackpressureBuffer(Queues.<ClientMessage>one().get());
+
+    private final Client client;
+
+    private final String sql;
+
+    private final Iterator<Binding> bindings;
+
+    private final int fetchSize;
+
+    /**
+     * The maximum number of fetch messages in flight, i.e. {@literal 1} if cursor prefetching is disabled.
+     */
+    private final int fetchWindows;
+
+    /**
+     * If the fetch size is adaptive to the downstream demand and the size of rows.
+     */
+    private final boolean adaptive;
+
+    /**
+     * The number of requested responses which are not covered by fetch messages, only used in adaptive fetching.
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    /**
+     * If the cursor is waiting for the downstream demand, only used in adaptive fetching.
+     */
+    private final AtomicBoolean parked = new AtomicBoolean();
+
+    private final boolean pipelining;
+
+    /**
+     * If MariaDB can skip sending result metadata which has been cached by the client.
+     */
+    private final boolean metadataCache;
+
+    private int mode = PREPARE_OR_RESET;
+
+    @Nullable
+    private Integer statementId;
+
+    private boolean shouldClose;
+
+    /**
+     * If the prepared statement returns result sets, i.e. column metadata follows the prepared OK message.
+     */
+    private boolean hasColumns;
+
+    /**
+     * If the first execution has been sent but the response of preparing is not completed.
+     */
+    private boolean preparing;
+
+    /**
+     * The parameter types of the execution that is sent before the statement ID is received.
+     */
+    @Nullable
+    private MySqlType[] preparingTypes;
+
+    /**
+     * The number of executions that have been sent but not completed, only used in pipelining.
+     */
+    private int executions;
+
+    /**
+     * If an execution has failed in pipelining, results of the following executions should be discarded.
+     */
+    private boolean failed;
+
+    /**
+     * The number of fetch messages that have been sent but not completed.
+     */
+    private int fetches;
+
+    /**
+     * If the last row of cursor has been received, responses of the prefetched fetches should be discarded.
+     */
+    private boolean draining;
+
+    /**
+     * The number of received rows in adaptive fetching.
+     */
+    private long rows;
+
+    /**
+     * The total size of received rows in adaptive fetching.
+     */
+    private long rowBytes;
+
+    /**
+     * If the remaining bindings can be sent by bulk executions. It will be disabled if the first binding returns a
+     * result set.
+     */
+    private boolean bulk;
+
+    /**
+     * The binding that conflicts with parameter types of the previous bulk execution.
+     */
+    @Nullable
+    private Binding pending;
+
+    /**
+     * The metadata of unit results in the current bulk execution.
+     */
+    @Nullable
+    private MySqlColumnDescriptor[] unitMetadata;
+
+    PrepareExchangeable(Client client, String sql, Iterator<Binding> bindings, int fetchSize) {
+        this.client = client;
+        this.sql = sql;
+        this.bindings = bindings;
+        this.fetchSize = fetchSize;
+        this.fetchWindows = fetchSize > 0 && client.getContext().isCursorPrefetch() ? PREFETCH_WINDOWS : 1;
+        this.adaptive = fetchSize > 0 && client.getContext().isAdaptiveFetch();
+        this.pipelining = fetchSize <= 0 && client.getContext().isPipelining();
+        // The bulk capability is negotiated only if bulk execution is enabled.
+        this.bulk = fetchSize <= 0 && client.getContext().getCapability().isBulkExecutionSupported();
+        this.metadataCache = client.getContext().getCapability().isMetadataCacheSupported();
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super ClientMessage> actual) {
+        // It is also initialization method.
+        requests.asFlux().subscribe(actual);
+
+        // After subscribe.
+        Integer statementId = client.getContext().getPrepareCache().getIfPresent(sql);
+        if (statementId == null && pipelining && client.getContext().isLastPreparedSupported() &&
+            !peekBinding().hasLongData()) {
+            logger.debug("Prepare cache mismatch, try to preparing and executing");
+            this.shouldClose = true;
+            QueryLogger.log(sql);
+            doPrepareAndExecute();
+        } else if (statementId == null) {
+            logger.debug("Prepare cache mismatch, try to preparing");
+            this.shouldClose = true;
+            QueryLogger.log(sql);
+            Sinks.EmitResult result = this.requests.tryEmitNext(new PrepareQueryMessage(sql));
+
+            if (result != Sinks.EmitResult.OK) {
+                logger.error("Fail to emit prepare query message due to {}", result);
+            }
+        } else if (client.getContext().isResetRequired(statementId)) {
+            logger.debug("Prepare cache matched statement {} when getting, try to resetting", statementId);
+            // Should reset only when it comes from cache and a cursor may be still open.
+            this.shouldClose = false;
+            this.statementId = statementId;
+            QueryLogger.log(statementId, sql);
+            Sinks.EmitResult result = this.requests.tryEmitNext(new PreparedResetMessage(statementId));
+
+            if (result != Sinks.EmitResult.OK) {
+                logger.error("Fail to emit reset statement message due to {}", result);
+            }
+        } else {
+            logger.debug("Prepare cache matched statement {} when getting, skip resetting", statementId);
+            this.shouldClose = false;
+            this.statementId = statementId;
+            QueryLogger.log(statementId, sql);
+            doFirstExecute(statementId);
+        }
+    }
+
+    @Override
+    public void accept(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+        if (failed) {
+            onDiscardMessage(message, sink);
+            return;
+        }
+
+        if (draining) {
+            onDrainingMessage(message, sink);
+            return;
+        }
+
+        if (preparing) {
+            onPreparingMessage(message, sink);
+            return;
+        }
+
+        if (message instanceof ErrorMessage) {
+            Integer statementId = this.statementId;
+
+            if (statementId != null) {
+                // The server may not receive parameter types of the failed execution.
+                client.getContext().removeParameterTypes(statementId);
+            }
+
+            sink.next(((ErrorMessage) message).offendedBy(sql));
+
+            if (fetches > 1) {
+                // Prefetching: stop fetching and wait for the responses of in-flight fetches.
+                this.failed = true;
+                this.executions = fetches - 1;
+                clearBindings();
+            } else if (executions > 1) {
+                // Pipelining: stop sending and wait for the results of in-flight executions.
+                this.failed = true;
+                --this.executions;
+                clearBindings();
+            } else {
+                sink.complete();
+            }
+            return;
+        }
+
+        switch (mode) {
+            case PREPARE_OR_RESET:
+                if (message instanceof OkMessage) {
+                    // Reset succeed.
+                    Integer statementId = this.statementId;
+                    if (statementId == null) {
+                        logger.error("Reset succeed but statement ID was null");
+                        return;
+                    }
+
+                    client.getContext().setResetRequired(statementId, false);
+                    doNextExecute(statementId, sink);
+                } else if (message instanceof PreparedOkMessage) {
+                    PreparedOkMessage ok = (PreparedOkMessage) message;
+                    int statementId = ok.getStatementId();
+                    int columns = ok.getTotalColumns();
+                    int parameters = ok.getTotalParameters();
+
+                    this.statementId = statementId;
+                    this.hasColumns = columns > 0;
+                    QueryLogger.log(statementId, sql);
+
+                    // columns + parameters <= 0, has not metadata follow in,
+                    if (columns <= -parameters) {
+                        putToCache(statementId);
+                        doNextExecute(statementId, sink);
+                    } else if (pipelining) {
+                        // The metadata will be received before the results of the execution.
+                        this.preparing = true;
+                        doNextExecute(statementId, sink);
+                    }
+                } else if (message instanceof SyntheticMetadataMessage &&
+                    ((SyntheticMetadataMessage) message).isCompleted()) {
+                    Integer statementId = this.statementId;
+                    if (statementId == null) {
+                        logger.error("Prepared OK message not found");
+                        return;
+                    }
+
+                    if (metadataCache && hasColumns) {
+                        // The completed metadata is column metadata if the statement has columns.
+                        client.getContext().putRowDescriptor(statementId,
+                            MySqlRowDescriptor.create(((SyntheticMetadataMessage) message).unwrap()));
+                    }
+
+                    putToCache(statementId);
+                    doNextExecute(statementId, sink);
+                } else {
+                    ReferenceCountUtil.safeRelease(message);
+                }
+                // Ignore all messages in preparing phase.
+                break;
+            case EXECUTE:
+                if (message instanceof CompleteMessage && ((CompleteMessage) message).isDone()) {
+                    // Complete message means execute or fetch phase done (when cursor is not opened).
+                    onCompleteMessage((CompleteMessage) message, sink);
+                } else if (message instanceof SyntheticMetadataMessage) {
+                    // Bulk execution does not support statements that return result sets.
+                    this.bulk = false;
+
+                    EofMessage eof = ((SyntheticMetadataMessage) message).getEof();
+                    if (eof instanceof ServerStatusMessage) {
+                        // Otherwise, cursor does not be opened, wait for end of row EOF message.
+                        if ((((ServerStatusMessage) eof).getServerStatuses() &
+                            ServerStatuses.CURSOR_EXISTS) != 0) {
+                            if (doNextFetches(sink)) {
+                                onMetadataMessage((SyntheticMetadataMessage) message, sink);
+                            }
+
+                            break;
+                        }
+                    }
+                    // EOF is deprecated (null) or using EOF without statuses.
+                    // EOF is deprecated: wait for OK message.
+                    // EOF without statuses: means cursor does not be opened, wait for end of row EOF message.
+                    // Metadata message should be always emitted in EXECUTE phase.
+                    setMode(FETCH);
+                    onMetadataMessage((SyntheticMetadataMessage) message, sink);
+                } else if (message instanceof ColumnCountMessage) {
+                    // MariaDB skipped the cached metadata, EOF is deprecated: wait for OK message.
+                    this.bulk = false;
+                    setMode(FETCH);
+                    onSkippedMetadata(sink);
+                } else {
+                    sink.next(message);
+                }
+
+                break;
+            case BULK:
+                onBulkMessage(message, sink);
+                break;
+            default:
+                if (message instanceof CompleteMessage && ((CompleteMessage) message).isDone()) {
+                    onCompleteMessage((CompleteMessage) message, sink);
+                } else if (message instanceof SyntheticMetadataMessage) {
+                    // Metadata of pipelined executions.
+                    onMetadataMessage((SyntheticMetadataMessage) message, sink);
+                } else if (message instanceof ColumnCountMessage) {
+                    onSkippedMetadata(sink);
+                } else {
+                    if (adaptive && message instanceof RowMessage) {
+                        this.rows++;
+                        this.rowBytes += ((RowMessage) message).readableBytes();
+                    }
+
+                    sink.next(message);
+                }
+                break;
+        }
+    }
+
+    @Override
+    public void onRequest(long n) {
+        if (!adaptive) {
+            return;
+        }
+
+        demand.getAndUpdate(it -> Operators.addCap(it, n));
+
+        if (parked.compareAndSet(true, false)) {
+            Integer statementId = this.statementId;
+            int size = nextFetchSize();
+
+            if (statementId != null && size > 0) {
+                emitFetch(statementId, size);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed.compareAndSet(false, true)) {
+            Integer statementId = this.statementId;
+            if (!shouldClose && statementId != null && executions > 0) {
+                // Disposed before executions completed, parameter types may not be sent.
+                client.getContext().removeParameterTypes(statementId);
+            }
+
+            if (statementId != null && parked.compareAndSet(true, false)) {
+                // The cursor is waiting for demand, reset it to close the cursor and complete the exchange.
+                logger.debug("Resetting statement {} to close the parked cursor", statementId);
+
+                Sinks.EmitResult result = requests.tryEmitNext(new PreparedResetMessage(statementId));
+
+                if (result != Sinks.EmitResult.OK) {
+                    logger.error("Fail to reset statement {} due to {}", statementId, result);
+                }
+            }
+
+            if (shouldClose && statementId != null) {
+                logger.debug("Closing statement {} after used", statementId);
+                client.getContext().removeStatement(statementId);
+
+                Sinks.EmitResult result = requests.tryEmitNext(new PreparedCloseMessage(statementId));
+
+                if (result != Sinks.EmitResult.OK) {
+                    logger.error("Fail to close statement {} due to {}", statementId, result);
+                }
+            }
+            // No particular error condition handling for complete signal.
+            requests.tryEmitComplete();
+            clearBindings();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed.get();
+    }
+
+    private void putToCache(Integer statementId) {
+        boolean putSucceed;
+
+        try {
+            putSucceed = client.getContext().getPrepareCache().putIfAbsent(sql, statementId, evictId -> {
+                logger.debug("Prepare cache evicts statement {} when putting", evictId);
+                client.getContext().removeStatement(evictId);
+
+                Sinks.EmitResult result = requests.tryEmitNext(new PreparedCloseMessage(evictId));
+
+                if (result != Sinks.EmitResult.OK) {
+                    logger.error("Fail to close evicted statement {} due to {}", statementId, result);
+                }
+            });
+        } catch (Throwable e) {
+            logger.error("Put statement {} to cache failed", statementId, e);
+            putSucceed = false;
+        }
+
+        // If put failed, should close it.
+        this.shouldClose = !putSucceed;
+        logger.debug("Prepare cache put statement {} is {}", statementId, putSucceed ? "succeed" : "fails");
+    }
+
+    private void onMetadataMessage(SyntheticMetadataMessage message, SynchronousSink<ServerMessage> sink) {
+        Integer statementId = this.statementId;
+
+        if (!metadataCache || statementId == null || message.unwrap().length == 0) {
+            sink.next(message);
+            return;
+        }
+
+        // Metadata has been changed, cache it for the following executions.
+        MySqlRowDescriptor descriptor = MySqlRowDescriptor.create(message.unwrap());
+
+        client.getContext().putRowDescriptor(statementId, descriptor);
+        sink.next(new RowMetadataMessage(descriptor));
+    }
+
+    private void onSkippedMetadata(SynchronousSink<ServerMessage> sink) {
+        Integer statementId = this.statementId;
+        MySqlRowDescriptor descriptor = statementId == null ? null :
+            client.getContext().getRowDescriptor(statementId);
+
+        if (descriptor == null) {
+            sink.error(new IllegalStateException("Result metadata of statement " + statementId +
+                " is skipped but not cached"));
+            return;
+        }
+
+        sink.next(new RowMetadataMessage(descriptor));
+    }
+
+    private void doNextExecute(int statementId, SynchronousSink<ServerMessage> sink) {
+        if (bulk && mode != PREPARE_OR_RESET) {
+            doNextBulkExecute(statementId, sink);
+            return;
+        }
+
+        setMode(EXECUTE);
+
+        do {
+            Binding binding = nextBinding();
+
+            if (binding.size() == 0) {
+                // Bulk execution requires parameters.
+                this.bulk = false;
+            }
+
+            PreparedExecuteMessage message = toExecuteMessage(binding, statementId);
+            Sinks.EmitResult result = emitExecuteMessage(message, statementId);
+
+            if (result != Sinks.EmitResult.OK) {
+                logger.error("Fail to execute {} due to {}", statementId, result);
+                message.dispose();
+                sink.complete();
+                return;
+            }
+
+            ++this.executions;
+        } while (pipelining && !bulk && executions < PIPELINED_EXECUTIONS && hasNextBinding());
+    }
+
+    /**
+     * Executes the first binding without resetting and pipelining, it is called outside the response handler.
+     *
+     * @param statementId the statement ID from the prepare cache.
+     */
+    private void doFirstExecute(int statementId) {
+        setMode(EXECUTE);
+
+        Binding binding = nextBinding();
+
+        if (binding.size() == 0) {
+            // Bulk execution requires parameters.
+            this.bulk = false;
+        }
+
+        PreparedExecuteMessage message = toExecuteMessage(binding, statementId);
+
+        // Count it before emitting, the response may be handled in another thread.
+        ++this.executions;
+
+        Sinks.EmitResult result = emitExecuteMessage(message, statementId);
+
+        if (result != Sinks.EmitResult.OK) {
+            logger.error("Fail to execute {} due to {}", statementId, result);
+            --this.executions;
+            message.dispose();
+        }
+    }
+
+    /**
+     * Sends the prepare query and the execution of the first binding together, the execution refers to the
+     * statement by {@link #LAST_PREPARED}. It is called outside the response handler.
+     */
+    private void doPrepareAndExecute() {
+        Binding binding = nextBinding();
+
+        if (binding.size() == 0) {
+            // Bulk execution requires parameters.
+            this.bulk = false;
+        }
+
+        // Types must be sent, they will be recorded when the statement ID is received.
+        this.preparingTypes = binding.getTypes();
+
+        PreparedExecuteMessage message = binding.toExecuteMessage(LAST_PREPARED, true, true);
+
+        // Update states before emitting, the response may be handled in another thread.
+        this.preparing = true;
+        setMode(EXECUTE);
+        ++this.executions;
+
+        Sinks.EmitResult result = requests.tryEmitNext(new PrepareQueryMessage(sql));
+
+        if (result == Sinks.EmitResult.OK) {
+            result = requests.tryEmitNext(message);
+
+            if (result == Sinks.EmitResult.OK) {
+                return;
+            }
+        }
+
+        logger.error("Fail to prepare and execute due to {}", result);
+        --this.executions;
+        message.dispose();
+    }
+
+    private void onPreparingMessage(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+        if (message instanceof ErrorMessage) {
+            // Preparing failed, the execution of the last prepared statement will also fail and be discarded.
+            this.preparing = false;
+            this.failed = true;
+            clearBindings();
+            sink.next(((ErrorMessage) message).offendedBy(sql));
+        } else if (message instanceof PreparedOkMessage) {
+            PreparedOkMessage ok = (PreparedOkMessage) message;
+            int statementId = ok.getStatementId();
+            MySqlType[] types = this.preparingTypes;
+
+            this.statementId = statementId;
+            this.hasColumns = ok.getTotalColumns() > 0;
+            QueryLogger.log(statementId, sql);
+
+            if (types != null) {
+                this.preparingTypes = null;
+                client.getContext().putParameterTypes(statementId, types);
+            }
+
+            if (ok.getTotalColumns() <= -ok.getTotalParameters()) {
+                // Has not metadata follow in.
+                this.preparing = false;
+                putToCache(statementId);
+            }
+        } else if (message instanceof SyntheticMetadataMessage &&
+            ((SyntheticMetadataMessage) message).isCompleted()) {
+            Integer statementId = this.statementId;
+
+            this.preparing = false;
+
+            if (statementId == null) {
+                sink.error(new IllegalStateException("Prepared OK message not found"));
+                return;
+            }
+
+            if (metadataCache && hasColumns) {
+                client.getContext().putRowDescriptor(statementId,
+                    MySqlRowDescriptor.create(((SyntheticMetadataMessage) message).unwrap()));
+            }
+
+            putToCache(statementId);
+        } else {
+            ReferenceCountUtil.safeRelease(message);
+        }
+    }
+
+    private PreparedExecuteMessage toExecuteMessage(Binding binding, int statementId) {
+        ConnectionContext context = client.getContext();
+        // Skip sending parameter types if they have not changed since the last execution of the statement.
+        boolean rebound = !binding.isSameTypes(context.getParameterTypes(statementId));
+
+        if (rebound) {
+            context.putParameterTypes(statementId, binding.getTypes());
+        }
+
+        return binding.toExecuteMessage(statementId, fetchSize <= 0, rebound);
+    }
+
+    /**
+     * Emits the long data of parameters and then the execution. The server does not respond to long data, so
+     * they can be pipelined with the execution.
+     *
+     * @param message     the execute message.
+     * @param statementId the statement ID.
+     * @return the result of the last emission.
+     */
+    private Sinks.EmitResult emitExecuteMessage(PreparedExecuteMessage message, int statementId) {
+        List<PreparedLargeDataMessage> largeData = message.toLargeDataMessages();
+
+        if (!largeData.isEmpty()) {
+            // The server keeps long data of parameters until the statement is reset.
+            client.getContext().setResetRequired(statementId, true);
+
+            for (PreparedLargeDataMessage data : largeData) {
+                Sinks.EmitResult result = requests.tryEmitNext(data);
+
+                if (result != Sinks.EmitResult.OK) {
+                    return result;
+                }
+            }
+        }
+
+        return requests.tryEmitNext(message);
+    }
+
+    private void doNextBulkExecute(int statementId, SynchronousSink<ServerMessage> sink) {
+        setMode(BULK);
+
+        Binding first = nextBinding();
+        MySqlType[] types = new MySqlType[first.size()];
+        List<Binding> rows = new ArrayList<>();
+
+        first.mergeTypes(types);
+        rows.add(first);
+
+        while (rows.size() < BULK_BINDINGS && hasNextBinding()) {
+            Binding binding = nextBinding();
+
+            if (!binding.mergeTypes(types)) {
+                // Send it in the next bulk execution.
+                this.pending = binding;
+                break;
+            }
+
+            rows.add(binding);
+        }
+
+        int size = types.length;
+        MySqlParameter[] values = new MySqlParameter[rows.size() * size];
+
+        for (int i = 0; i < rows.size(); ++i) {
+            rows.get(i).drainTo(statementId, values, i * size);
+        }
+
+        for (int i = 0; i < size; ++i) {
+            if (types[i] == null) {
+                // All parameters are null.
+                types[i] = MySqlType.NULL;
+            }
+        }
+
+        ConnectionContext context = client.getContext();
+        boolean unitResults = context.getCapability().isBulkUnitResultsSupported();
+
+        // Bulk execution sends its own parameter types, the next execution should send types again.
+        context.removeParameterTypes(statementId);
+        PreparedBulkExecuteMessage message = new PreparedBulkExecuteMessage(statementId, types, values,
+            unitResults);
+        Sinks.EmitResult result = requests.tryEmitNext(message);
+
+        if (result != Sinks.EmitResult.OK) {
+            logger.error("Fail to bulk execute {} due to {}", statementId, result);
+            message.dispose();
+            sink.complete();
+            return;
+        }
+
+        ++this.executions;
+    }
+
+    private void onBulkMessage(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+        if (message instanceof SyntheticMetadataMessage) {
+            // Unit results is a result set of last insert-id and affected rows for each binding.
+            this.unitMetadata = MySqlRowDescriptor.create(((SyntheticMetadataMessage) message).unwrap())
+                .unwrap();
+        } else if (message instanceof RowMessage) {
+            sink.next(toUnitResult((RowMessage) message));
+        } else if (message instanceof CompleteMessage && ((CompleteMessage) message).isDone()) {
+            if (unitMetadata == null) {
+                // Without unit results, it contains the total affected rows of the bulk execution.
+                onCompleteMessage((CompleteMessage) message, sink);
+            } else {
+                // Each binding has emitted its unit result, the end of unit results should not be emitted.
+                this.unitMetadata = null;
+                doNextOrComplete(sink);
+            }
+        } else {
+            ReferenceCountUtil.safeRelease(message);
+        }
+    }
+
+    private OkMessage toUnitResult(RowMessage message) {
+        MySqlColumnDescriptor[] metadata = this.unitMetadata;
+        RowFields fields = null;
+
+        try {
+            if (metadata == null || metadata.length < 2) {
+                throw new IllegalStateException("Unexpected unit results of bulk execution");
+            }
+
+            fields = message.fields(true, metadata);
+
+            return OkMessage.unitResult(readLong(fields.get(1)), readLong(fields.get(0)),
+                client.getContext().getServerStatuses());
+        } finally {
+            if (fields != null) {
+                fields.release();
+            }
+
+            message.release();
+        }
+    }
+
+    private boolean hasNextBinding() {
+        return pending != null || bindings.hasNext();
+    }
+
+    private Binding peekBinding() {
+        Binding binding = this.pending;
+
+        if (binding == null) {
+            this.pending = binding = bindings.next();
+        }
+
+        return binding;
+    }
+
+    private Binding nextBinding() {
+        Binding binding = this.pending;
+
+        if (binding == null) {
+            return bindings.next();
+        }
+
+        this.pending = null;
+
+        return binding;
+    }
+
+    private void clearBindings() {
+        Binding pending = this.pending;
+
+        if (pending != null) {
+            this.pending = null;
+            pending.clear();
+        }
+
+        while (bindings.hasNext()) {
+            bindings.next().clear();
+        }
+    }
+
+    private void onDiscardMessage(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+        if (message instanceof ErrorMessage ||
+            (message instanceof CompleteMessage && ((CompleteMessage) message).isDone())) {
+            if (--this.executions <= 0) {
+                sink.complete();
+            }
+        } else {
+            ReferenceCountUtil.safeRelease(message);
+        }
+    }
+
+    private void onDrainingMessage(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+        if (message instanceof ErrorMessage ||
+            (message instanceof CompleteMessage && ((CompleteMessage) message).isDone())) {
+            // The cursor has been closed after the last row, so it is an error or an empty fetch.
+            if (--this.fetches <= 0) {
+                this.draining = false;
+                doNextOrComplete(sink);
+            }
+        } else {
+            ReferenceCountUtil.safeRelease(message);
+        }
+    }
+
+    private boolean doNextFetches(SynchronousSink<ServerMessage> sink) {
+        Integer statementId = this.statementId;
+
+        if (statementId == null) {
+            sink.error(new IllegalStateException("Statement ID must not be null when fetching"));
+            return false;
+        }
+
+        // A cursor has been opened, it should be reset before the statement is reused from the prepare cache.
+        client.getContext().setResetRequired(statementId, true);
+        setMode(FETCH);
+
+        if (disposed.get()) {
+            // Cancelled, the cursor will be closed with the statement or reset before reuse.
+            if (fetches > 0) {
+                this.draining = true;
+            } else {
+                sink.complete();
+            }
+            return false;
+        }
+
+        while (fetches < fetchWindows) {
+            int size = nextFetchSize();
+
+            if (size <= 0) {
+                if (fetches <= 0) {
+                    // No demand and no fetch in flight, the next fetch will be sent by onRequest.
+                    parked.set(true);
+
+                    if (demand.get() > 0 && parked.compareAndSet(true, false)) {
+                        continue;
+                    }
+                }
+
+                break;
+            }
+
+            if (!emitFetch(statementId, size)) {
+                sink.complete();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean emitFetch(int statementId, int size) {
+        // Count it before sending, the response may be received on another thread.
+        ++this.fetches;
+
+        Sinks.EmitResult result = requests.tryEmitNext(new PreparedFetchMessage(statementId, size));
+
+        if (result == Sinks.EmitResult.OK) {
+            return true;
+        }
+
+        --this.fetches;
+        logger.error("Fail to fetch {} due to {}", statementId, result);
+
+        return false;
+    }
+
+    private int nextFetchSize() {
+        if (!adaptive) {
+            return fetchSize;
+        }
+
+        long rows = this.rows;
+        long limit = rows > 0 ? Math.max(1, ADAPTIVE_FETCH_BYTES / Math.max(1, rowBytes / rows)) : fetchSize;
+
+        while (true) {
+            long demand = this.demand.get();
+
+            if (demand <= 0) {
+                return 0;
+            }
+
+            long size = Math.min(demand, limit);
+
+            if (demand == Long.MAX_VALUE || this.demand.compareAndSet(demand, demand - size)) {
+                return (int) size;
+            }
+        }
+    }
+
+    private void setMode(int mode) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Mode is changed to {}", mode == EXECUTE ? "EXECUTE" : mode == BULK ? "BULK" : "FETCH");
+        }
+
+        this.mode = mode;
+    }
+
+    private static long readLong(FieldValue field) {
+        if (field instanceof NormalFieldValue) {
+            ByteBuf buf = ((NormalFieldValue) field).getBufferSlice();
+
+            // Binary protocol, the column type of unit results is BIGINT.
+            return buf.getLongLE(buf.readerIndex());
+        }
+
+        return 0;
+    }
+
+    private void onCompleteMessage(CompleteMessage message, SynchronousSink<ServerMessage> sink) {
+        if (fetches > 0) {
+            // It is the response of a fetch message.
+            --this.fetches;
+        }
+
+        if (requests.scanOrDefault(Scannable.Attr.TERMINATED, Boolean.FALSE)) {
+            if (disposed.get()) {
+                // Cancelled, stop fetching. An opened cursor will be closed with the statement or reset before reuse.
+                logger.debug("Exchange has been cancelled, stop fetching");
+            } else {
+                logger.error("Unexpected terminated on requests");
+            }
+
+            sink.next(message);
+
+            if (fetches > 0) {
+                // Prefetching: wait for the responses of in-flight fetches.
+                this.draining = true;
+            } else {
+                sink.complete();
+            }
+            return;
+        }
+
+        if (message instanceof ServerStatusMessage) {
+            short statuses = ((ServerStatusMessage) message).getServerStatuses();
+            if ((statuses & ServerStatuses.CURSOR_EXISTS) != 0 &&
+                (statuses & ServerStatuses.LAST_ROW_SENT) == 0) {
+                doNextFetches(sink);
+                // Not last complete message, no need emit.
+                return;
+            }
+            // Otherwise, it is last row sent or did not open cursor.
+        }
+
+        // The last row complete message should be emitted, whatever cursor has been opened.
+        sink.next(message);
+
+        if (fetches > 0) {
+            // Prefetching: wait for the responses of fetches which were sent after the last row.
+            this.draining = true;
+            return;
+        }
+
+        doNextOrComplete(sink);
+    }
+
+    private void doNextOrComplete(SynchronousSink<ServerMessage> sink) {
+        --this.executions;
+
+        if (hasNextBinding()) {
+            Integer statementId = this.statementId;
+
+            if (statementId == null) {
+                sink.error(new IllegalStateException("Statement ID must not be null when executing"));
+                return;
+            }
+
+            doNextExecute(statementId, sink);
+        } else if (executions <= 0) {
+            sink.complete();
+        }
+    }
+}
@@ -20,34 +20,26 @@ import io.asyncer.r2dbc.mysql.api.MySqlBatch;
 import io.asyncer.r2dbc.mysql.api.MySqlTransactionDefinition;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.client.FluxExchangeable;
-import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
 import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
 import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
 import io.asyncer.r2dbc.mysql.message.client.LocalInfileResponse;
 import io.asyncer.r2dbc.mysql.message.client.PingMessage;
-import io.asyncer.r2dbc.mysql.message.client.PrepareQueryMessage;
-import io.asyncer.r2dbc.mysql.message.client.PreparedCloseMessage;
-import io.asyncer.r2dbc.mysql.message.client.PreparedExecuteMessage;
-import io.asyncer.r2dbc.mysql.message.client.PreparedFetchMessage;
-import io.asyncer.r2dbc.mysql.message.client.PreparedResetMessage;
 import io.asyncer.r2dbc.mysql.message.client.PreparedTextQueryMessage;
 import io.asyncer.r2dbc.mysql.message.client.TextQueryMessage;
 import io.asyncer.r2dbc.mysql.message.server.CompleteMessage;
-import io.asyncer.r2dbc.mysql.message.server.EofMessage;
 import io.asyncer.r2dbc.mysql.message.server.ErrorMessage;
 import io.asyncer.r2dbc.mysql.message.server.LocalInfileRequest;
-import io.asyncer.r2dbc.mysql.message.server.OkMessage;
-import io.asyncer.r2dbc.mysql.message.server.PreparedOkMessage;
 import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
-import io.asyncer.r2dbc.mysql.message.server.ServerStatusMessage;
-import io.asyncer.r2dbc.mysql.message.server.SyntheticMetadataMessage;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ReferenceCounted;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.TransactionDefinition;
 import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.Scannable;
 import reactor.core.publisher.Flux;
@@ -129,21 +121,25 @@ final class QueryFlow {
      * and cancel subsequent {@link Binding}s. This exchange will be completed by {@link CompleteMessage} after receive
      * the last result for the last binding.
      *
-     * @param client    the {@link Client} to exchange messages with.
-     * @param query     the {@link Query} for synthetic client-preparing statement.
-     * @param returning the {@code RETURNING} identifiers.
-     * @param bindings  the data of bindings.
+     * @param client      the {@link Client} to exchange messages with.
+     * @param query       the {@link Query} for synthetic client-preparing statement.
+     * @param returning   the {@code RETURNING} identifiers.
+     * @param bindings    the data of bindings.
+     * @param localInfile the data of the first {@code LOAD DATA LOCAL INFILE} request, or {@code null} if the
+     *                    requested files should be read.
      * @return the messages received in response to this exchange.
      */
     static Flux<Flux<ServerMessage>> execute(
-        Client client, Query query, String returning, List<Binding> bindings
+        Client client, Query query, String returning, List<Binding> bindings,
+        @Nullable Publisher<? extends ByteBuf> localInfile
     ) {
         return Flux.defer(() -> {
             if (bindings.isEmpty()) {
                 return Flux.empty();
             }
 
-            return client.exchange(new TextQueryExchangeable(query, returning, bindings.iterator()))
+            return client.exchange(new TextQueryExchangeable(query, returning, bindings.iterator(),
+                    bindings.size() == 1, localInfile))
                 .windowUntil(RESULT_DONE);
         });
     }
@@ -161,6 +157,20 @@ final class QueryFlow {
         return Flux.defer(() -> execute0(client, sql).windowUntil(RESULT_DONE));
     }
 
+    /**
+     * Execute a simple query which loads local infile data from a {@link Publisher} instead of a file. The data
+     * will be used by the first {@code LOAD DATA LOCAL INFILE} request of the query.
+     *
+     * @param client      the {@link Client} to exchange messages with.
+     * @param sql         the query to execute, can be contains multi-statements.
+     * @param localInfile the data of {@code LOAD DATA LOCAL INFILE}.
+     * @return the messages received in response to this exchange.
+     */
+    static Flux<Flux<ServerMessage>> execute(Client client, String sql, Publisher<? extends ByteBuf> localInfile) {
+        return Flux.defer(() -> client.exchange(new SimpleQueryExchangeable(sql, localInfile))
+            .windowUntil(RESULT_DONE));
+    }
+
     /**
      * Execute multiple simple compound queries with one-by-one. Query execution terminates with the last
      * {@link CompleteMessage} or a {@link ErrorMessage}. The {@link ErrorMessage} will emit an exception and cancel
@@ -300,36 +310,35 @@ final class QueryFlow {
      * @return a {@link Mono} receives complete signal.
      */
     static Mono<Void> setSessionVariables(Client client, List<String> sessionVariables) {
-        switch (sessionVariables.size()) {
-            case 0:
-                return Mono.empty();
-            case 1:
-                return setSessionVariable(client, sessionVariables.get(0));
-            default: {
-                StringBuilder query = new StringBuilder(sessionVariables.size() * 32 + 16).append("SET ");
-                boolean comma = false;
-
-                for (String variable : sessionVariables) {
-                    if (variable.isEmpty()) {
-                        continue;
-                    }
-
-                    if (comma) {
-                        query.append(',');
-                    } else {
-                        comma = true;
-                    }
-
-                    if (variable.startsWith("@")) {
-                        query.append(variable);
-                    } else {
-                        query.append("SESSION ").append(variable);
-                    }
-                }
+        String sql = setSessionVariablesStatement(sessionVariables);
+
+        return sql.isEmpty() ? Mono.empty() : executeVoid(client, sql);
+    }
+
+    /**
+     * Builds a statement that sets multiple session variables.
+     *
+     * @param sessionVariables the session variables to set, e.g. {@code ["sql_mode='ANSI'", "time_zone='+09:00'"]}.
+     * @return the statement, or an empty string if there is no variable to set.
+     */
+    static String setSessionVariablesStatement(List<String> sessionVariables) {
+        StringBuilder query = new StringBuilder(sessionVariables.size() * 32 + 16);
+
+        for (String variable : sessionVariables) {
+            if (variable.isEmpty()) {
+                continue;
+            }
 
-                return executeVoid(client, query.toString());
+            query.append(query.length() == 0 ? "SET " : ",");
+
+            if (variable.startsWith("@")) {
+                query.append(variable);
+            } else {
+                query.append("SESSION ").append(variable);
             }
         }
+
+        return query.toString();
     }
 
     /**
@@ -355,6 +364,13 @@ final class QueryFlow {
  */
 abstract class BaseFluxExchangeable extends FluxExchangeable<ServerMessage> {
 
+    /**
+     * The data of subsequent {@code LOAD DATA LOCAL INFILE} requests after the bound data has been used, so that
+     * they send an empty file and fail instead of reading the requested files.
+     */
+    protected static final Publisher<ByteBuf> LOCAL_INFILE_USED = Flux.error(() ->
+        new R2dbcNonTransientResourceException("Bound local infile data has been used by the first request"));
+
     protected final Sinks.Many<ClientMessage> requests = Sinks.many().unicast()
         .onBackpressureBuffer(Queues.<ClientMessage>one().get());
 
@@ -364,6 +380,11 @@ abstract class BaseFluxExchangeable extends FluxExchangeable<ServerMessage> {
         tryNextOrComplete(null);
     }
 
+    @Override
+    public boolean isKillable() {
+        return true;
+    }
+
     @Override
     public final void accept(ServerMessage message, SynchronousSink<ServerMessage> sink) {
         if (message instanceof ErrorMessage) {
@@ -376,7 +397,7 @@ abstract class BaseFluxExchangeable extends FluxExchangeable<ServerMessage> {
             QueryLogger.logLocalInfile(path);
 
             requests.emitNext(
-                new LocalInfileResponse(path, sink),
+                new LocalInfileResponse(path, pollLocalInfile(), sink),
                 Sinks.EmitFailureHandler.FAIL_FAST
             );
         } else {
@@ -391,6 +412,17 @@ abstract class BaseFluxExchangeable extends FluxExchangeable<ServerMessage> {
     protected abstract void tryNextOrComplete(@Nullable SynchronousSink<ServerMessage> sink);
 
     protected abstract String offendingSql();
+
+    /**
+     * Polls the bound data of a {@code LOAD DATA LOCAL INFILE} statement. Only the first poll gets the bound
+     * data, the following ones get {@link #LOCAL_INFILE_USED}.
+     *
+     * @return the bound data, or {@code null} if no data is bound and the requested file should be read.
+     */
+    @Nullable
+    protected Publisher<? extends ByteBuf> pollLocalInfile() {
+        return null;
+    }
 }
 
 final class SimpleQueryExchangeable extends BaseFluxExchangeable {
@@ -405,8 +437,21 @@ final class SimpleQueryExchangeable extends BaseFluxExchangeable {
 
     private final String sql;
 
+    @Nullable
+    private Publisher<? extends ByteBuf> localInfile;
+
     SimpleQueryExchangeable(String sql) {
+        this(sql, null);
+    }
+
+    SimpleQueryExchangeable(String sql, @Nullable Publisher<? extends ByteBuf> localInfile) {
         this.sql = sql;
+        this.localInfile = localInfile;
+    }
+
+    @Override
+    public boolean isPipelinable() {
+        return !StringUtils.mayLoadLocalInfile(sql);
     }
 
     @Override
@@ -444,6 +489,19 @@ final class SimpleQueryExchangeable extends BaseFluxExchangeable {
     protected String offendingSql() {
         return sql;
     }
+
+    @Nullable
+    @Override
+    protected Publisher<? extends ByteBuf> pollLocalInfile() {
+        Publisher<? extends ByteBuf> data = this.localInfile;
+
+        if (data != null) {
+            // Only the first request uses the bound data, the following ones must not read files instead.
+            this.localInfile = LOCAL_INFILE_USED;
+        }
+
+        return data;
+    }
 }
 
 /**
@@ -459,10 +517,24 @@ final class TextQueryExchangeable extends BaseFluxExchangeable {
 
     private final Iterator<Binding> bindings;
 
-    TextQueryExchangeable(Query query, String returning, Iterator<Binding> bindings) {
+    private final boolean single;
+
+    @Nullable
+    private Publisher<? extends ByteBuf> localInfile;
+
+    TextQueryExchangeable(Query query, String returning, Iterator<Binding> bindings, boolean single,
+        @Nullable Publisher<? extends ByteBuf> localInfile) {
         this.query = query;
         this.returning = returning;
         this.bindings = bindings;
+        this.single = single;
+        this.localInfile = localInfile;
+    }
+
+    @Override
+    public boolean isPipelinable() {
+        // Multiple bindings should not be pipelined, because subsequent bindings will be canceled by an error.
+        return single && !StringUtils.mayLoadLocalInfile(query.getFormattedSql());
     }
 
     @Override
@@ -505,6 +577,19 @@ final class TextQueryExchangeable extends BaseFluxExchangeable {
     protected String offendingSql() {
         return StringUtils.extendReturning(query.getFormattedSql(), returning);
     }
+
+    @Nullable
+    @Override
+    protected Publisher<? extends ByteBuf> pollLocalInfile() {
+        Publisher<? extends ByteBuf> data = this.localInfile;
+
+        if (data != null) {
+            // Only the first request uses the bound data, the following ones must not read files instead.
+            this.localInfile = LOCAL_INFILE_USED;
+        }
+
+        return data;
+    }
 }
 
 /**
@@ -559,294 +644,6 @@ final class MultiQueryExchangeable extends BaseFluxExchangeable {
     }
 }
 
-/**
- * An implementation of {@link FluxExchangeable} that considers server-preparing queries. Which contains a built-in
- * state machine.
- * <p>
- * It will reset a prepared statement if cache has matched it, otherwise it will prepare statement to a new statement ID
- * and put the ID into the cache. If the statement ID does not exist in the cache after the last row sent, the ID will
- * be closed.
- */
-final class PrepareExchangeable extends FluxExchangeable<ServerMessage> {
-
-    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PrepareExchangeable.class);
-
-    private static final int PREPARE_OR_RESET = 1;
-
-    private static final int EXECUTE = 2;
-
-    private static final int FETCH = 3;
-
-    private final AtomicBoolean disposed = new AtomicBoolean();
-
-    private final Sinks.Many<ClientMessage> requests = Sinks.many().unicast()
-        .onBackpressureBuffer(Queues.<ClientMessage>one().get());
-
-    private final Client client;
-
-    private final String sql;
-
-    private final Iterator<Binding> bindings;
-
-    private final int fetchSize;
-
-    private int mode = PREPARE_OR_RESET;
-
-    @Nullable
-    private Integer statementId;
-
-    private boolean shouldClose;
-
-    PrepareExchangeable(Client client, String sql, Iterator<Binding> bindings, int fetchSize) {
-        this.client = client;
-        this.sql = sql;
-        this.bindings = bindings;
-        this.fetchSize = fetchSize;
-    }
-
-    @Override
-    public void subscribe(CoreSubscriber<? super ClientMessage> actual) {
-        // It is also initialization method.
-        requests.asFlux().subscribe(actual);
-
-        // After subscribe.
-        Integer statementId = client.getContext().getPrepareCache().getIfPresent(sql);
-        if (statementId == null) {
-            logger.debug("Prepare cache mismatch, try to preparing");
-            this.shouldClose = true;
-            QueryLogger.log(sql);
-            Sinks.EmitResult result = this.requests.tryEmitNext(new PrepareQueryMessage(sql));
-
-            if (result != Sinks.EmitResult.OK) {
-                logger.error("Fail to emit prepare query message due to {}", result);
-            }
-        } else {
-            logger.debug("Prepare cache matched statement {} when getting", statementId);
-            // Should reset only when it comes from cache.
-            this.shouldClose = false;
-            this.statementId = statementId;
-            QueryLogger.log(statementId, sql);
-            Sinks.EmitResult result = this.requests.tryEmitNext(new PreparedResetMessage(statementId));
-
-            if (result != Sinks.EmitResult.OK) {
-                logger.error("Fail to emit reset statement message due to {}", result);
-            }
-        }
-    }
-
-    @Override
-    public void accept(ServerMessage message, SynchronousSink<ServerMessage> sink) {
-        if (message instanceof ErrorMessage) {
-            sink.next(((ErrorMessage) message).offendedBy(sql));
-            sink.complete();
-            return;
-        }
-
-        switch (mode) {
-            case PREPARE_OR_RESET:
-                if (message instanceof OkMessage) {
-                    // Reset succeed.
-                    Integer statementId = this.statementId;
-                    if (statementId == null) {
-                        logger.error("Reset succeed but statement ID was null");
-                        return;
-                    }
-
-                    doNextExecute(statementId, sink);
-                } else if (message instanceof PreparedOkMessage) {
-                    PreparedOkMessage ok = (PreparedOkMessage) message;
-                    int statementId = ok.getStatementId();
-                    int columns = ok.getTotalColumns();
-                    int parameters = ok.getTotalParameters();
-
-                    this.statementId = statementId;
-                    QueryLogger.log(statementId, sql);
-
-                    // columns + parameters <= 0, has not metadata follow in,
-                    if (columns <= -parameters) {
-                        putToCache(statementId);
-                        doNextExecute(statementId, sink);
-                    }
-                } else if (message instanceof SyntheticMetadataMessage &&
-                    ((SyntheticMetadataMessage) message).isCompleted()) {
-                    Integer statementId = this.statementId;
-                    if (statementId == null) {
-                        logger.error("Prepared OK message not found");
-                        return;
-                    }
-
-                    putToCache(statementId);
-                    doNextExecute(statementId, sink);
-                } else {
-                    ReferenceCountUtil.safeRelease(message);
-                }
-                // Ignore all messages in preparing phase.
-                break;
-            case EXECUTE:
-                if (message instanceof CompleteMessage && ((CompleteMessage) message).isDone()) {
-                    // Complete message means execute or fetch phase done (when cursor is not opened).
-                    onCompleteMessage((CompleteMessage) message, sink);
-                } else if (message instanceof SyntheticMetadataMessage) {
-                    EofMessage eof = ((SyntheticMetadataMessage) message).getEof();
-                    if (eof instanceof ServerStatusMessage) {
-                        // Otherwise, cursor does not be opened, wait for end of row EOF message.
-                        if ((((ServerStatusMessage) eof).getServerStatuses() &
-                            ServerStatuses.CURSOR_EXISTS) != 0) {
-                            if (doNextFetch(sink)) {
-                                sink.next(message);
-                            }
-
-                            break;
-                        }
-                    }
-                    // EOF is deprecated (null) or using EOF without statuses.
-                    // EOF is deprecated: wait for OK message.
-                    // EOF without statuses: means cursor does not be opened, wait for end of row EOF message.
-                    // Metadata message should be always emitted in EXECUTE phase.
-                    setMode(FETCH);
-                    sink.next(message);
-                } else {
-                    sink.next(message);
-                }
-
-                break;
-            default:
-                if (message instanceof CompleteMessage && ((CompleteMessage) message).isDone()) {
-                    onCompleteMessage((CompleteMessage) message, sink);
-                } else {
-                    sink.next(message);
-                }
-                break;
-        }
-    }
-
-    @Override
-    public void dispose() {
-        if (disposed.compareAndSet(false, true)) {
-            Integer statementId = this.statementId;
-            if (shouldClose && statementId != null) {
-                logger.debug("Closing statement {} after used", statementId);
-
-                Sinks.EmitResult result = requests.tryEmitNext(new PreparedCloseMessage(statementId));
-
-                if (result != Sinks.EmitResult.OK) {
-                    logger.error("Fail to close statement {} due to {}", statementId, result);
-                }
-            }
-            // No particular error condition handling for complete signal.
-            requests.tryEmitComplete();
-
-            while (bindings.hasNext()) {
-                bindings.next().clear();
-            }
-        }
-    }
-
-    @Override
-    public boolean isDisposed() {
-        return disposed.get();
-    }
-
-    private void putToCache(Integer statementId) {
-        boolean putSucceed;
-
-        try {
-            putSucceed = client.getContext().getPrepareCache().putIfAbsent(sql, statementId, evictId -> {
-                logger.debug("Prepare cache evicts statement {} when putting", evictId);
-
-                Sinks.EmitResult result = requests.tryEmitNext(new PreparedCloseMessage(evictId));
-
-                if (result != Sinks.EmitResult.OK) {
-                    logger.error("Fail to close evicted statement {} due to {}", statementId, result);
-                }
-            });
-        } catch (Throwable e) {
-            logger.error("Put statement {} to cache failed", statementId, e);
-            putSucceed = false;
-        }
-
-        // If put failed, should close it.
-        this.shouldClose = !putSucceed;
-        logger.debug("Prepare cache put statement {} is {}", statementId, putSucceed ? "succeed" : "fails");
-    }
-
-    private void doNextExecute(int statementId, SynchronousSink<ServerMessage> sink) {
-        setMode(EXECUTE);
-
-        PreparedExecuteMessage message = bindings.next().toExecuteMessage(statementId, fetchSize <= 0);
-        Sinks.EmitResult result = requests.tryEmitNext(message);
-
-        if (result != Sinks.EmitResult.OK) {
-            logger.error("Fail to execute {} due to {}", statementId, result);
-            message.dispose();
-            sink.complete();
-        }
-    }
-
-    private boolean doNextFetch(SynchronousSink<ServerMessage> sink) {
-        Integer statementId = this.statementId;
-
-        if (statementId == null) {
-            sink.error(new IllegalStateException("Statement ID must not be null when fetching"));
-            return false;
-        }
-
-        setMode(FETCH);
-
-        Sinks.EmitResult result = requests.tryEmitNext(new PreparedFetchMessage(statementId, fetchSize));
-
-        if (result == Sinks.EmitResult.OK) {
-            return true;
-        }
-
-        logger.error("Fail to fetch {} due to {}", statementId, result);
-        sink.complete();
-
-        return false;
-    }
-
-    private void setMode(int mode) {
-        logger.debug("Mode is changed to {}", mode == EXECUTE ? "EXECUTE" : "FETCH");
-        this.mode = mode;
-    }
-
-    private void onCompleteMessage(CompleteMessage message, SynchronousSink<ServerMessage> sink) {
-        if (requests.scanOrDefault(Scannable.Attr.TERMINATED, Boolean.FALSE)) {
-            logger.error("Unexpected terminated on requests");
-            sink.next(message);
-            sink.complete();
-            return;
-        }
-
-        if (message instanceof ServerStatusMessage) {
-            short statuses = ((ServerStatusMessage) message).getServerStatuses();
-            if ((statuses & ServerStatuses.CURSOR_EXISTS) != 0 &&
-                (statuses & ServerStatuses.LAST_ROW_SENT) == 0) {
-                doNextFetch(sink);
-                // Not last complete message, no need emit.
-                return;
-            }
-            // Otherwise, it is last row sent or did not open cursor.
-        }
-
-        // The last row complete message should be emitted, whatever cursor has been opened.
-        sink.next(message);
-
-        if (bindings.hasNext()) {
-            Integer statementId = this.statementId;
-
-            if (statementId == null) {
-                sink.error(new IllegalStateException("Statement ID must not be null when executing"));
-                return;
-            }
-
-            doNextExecute(statementId, sink);
-        } else {
-            sink.complete();
-        }
-    }
-}
-
 abstract class AbstractTransactionState {
 
     final Client client;
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.asyncer.r2dbc.mysql.message.server.SyntheticMetadataMessage;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * A synthetic message which carries the row metadata of a prepared statement execution. It is emitted instead of
+ * {@link SyntheticMetadataMessage} when the server can skip sending the cached metadata, so the descriptor can be
+ * shared by all executions of the statement.
+ */
+final class RowMetadataMessage implements ServerMessage {
+
+    private final MySqlRowDescriptor descriptor;
+
+    RowMetadataMessage(MySqlRowDescriptor descriptor) {
+        this.descriptor = requireNonNull(descriptor, "descriptor must not be null");
+    }
+
+    MySqlRowDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public String toString() {
+        return "RowMetadataMessage{descriptor=" + descriptor + '}';
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import org.jetbrains.annotations.Nullable;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * The facts of a server which are the same for all sessions, e.g. the product name, the system time zone and whether
+ * the InnoDB lock wait timeout is supported. They are discovered by the first connection and shared by all connections
+ * from the same {@link MySqlConnectionFactory}, so new connections can skip the discovery queries.
+ * <p>
+ * The facts are keyed by the server version and the connection ID epoch. Connection IDs are increasing during the
+ * lifetime of a server, so a smaller connection ID or a different version means the server has been restarted or
+ * replaced, e.g. by a failover, and the facts should be discovered again.
+ */
+final class ServerFacts {
+
+    private final ServerVersion version;
+
+    private final int connectionId;
+
+    @Nullable
+    private final String product;
+
+    @Nullable
+    private final String systemTimeZone;
+
+    private final boolean lockWaitTimeoutSupported;
+
+    ServerFacts(
+        ServerVersion version,
+        int connectionId,
+        @Nullable String product,
+        @Nullable String systemTimeZone,
+        boolean lockWaitTimeoutSupported
+    ) {
+        this.version = requireNonNull(version, "version must not be null");
+        this.connectionId = connectionId;
+        this.product = product;
+        this.systemTimeZone = systemTimeZone;
+        this.lockWaitTimeoutSupported = lockWaitTimeoutSupported;
+    }
+
+    /**
+     * Checks if the facts are discovered from the same server of a connection.
+     *
+     * @param context the connection context after handshake.
+     * @return if the facts can be used by the connection.
+     */
+    boolean isValidFor(ConnectionContext context) {
+        return version.equals(context.getServerVersion()) &&
+            Integer.toUnsignedLong(connectionId) <= Integer.toUnsignedLong(context.getConnectionId());
+    }
+
+    @Nullable
+    String getProduct() {
+        return product;
+    }
+
+    @Nullable
+    String getSystemTimeZone() {
+        return systemTimeZone;
+    }
+
+    boolean isLockWaitTimeoutSupported() {
+        return lockWaitTimeoutSupported;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerFacts{version=" + version +
+            ", connectionId=" + connectionId +
+            ", product='" + product +
+            "', systemTimeZone='" + systemTimeZone +
+            "', lockWaitTimeoutSupported=" + lockWaitTimeoutSupported +
+            '}';
+    }
+}
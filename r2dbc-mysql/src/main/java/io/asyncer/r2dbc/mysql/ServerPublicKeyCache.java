@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.authentication.ServerPublicKey;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A cache of the server RSA public key, which is shared by all connections from the same
+ * {@link MySqlConnectionFactory}, so only the first login needs to request the public key from server.
+ * <p>
+ * The configured public key file is loaded once when the cache is created. A requested public key will be evicted
+ * if the login using it has failed, e.g. the server has been restarted with a new key pair.
+ */
+final class ServerPublicKeyCache {
+
+    @Nullable
+    private final ServerPublicKey preloaded;
+
+    private final boolean retrievable;
+
+    private final AtomicReference<ServerPublicKey> retrieved = new AtomicReference<>();
+
+    ServerPublicKeyCache(@Nullable Path file, boolean retrievable) {
+        this.preloaded = file == null ? null : load(file);
+        this.retrievable = retrievable;
+    }
+
+    @Nullable
+    ServerPublicKey get() {
+        ServerPublicKey preloaded = this.preloaded;
+
+        return preloaded == null ? retrieved.get() : preloaded;
+    }
+
+    boolean isRetrievable() {
+        return preloaded == null && retrievable;
+    }
+
+    void retrieved(ServerPublicKey key) {
+        retrieved.set(key);
+    }
+
+    void evict(ServerPublicKey key) {
+        retrieved.compareAndSet(key, null);
+    }
+
+    private static ServerPublicKey load(Path file) {
+        try {
+            return ServerPublicKey.parse(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to load server RSA public key file " + file, e);
+        }
+    }
+}
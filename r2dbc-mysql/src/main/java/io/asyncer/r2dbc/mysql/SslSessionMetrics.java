@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+/**
+ * Statistics of TLS handshakes of all connections created by a {@link MySqlConnectionFactory}. All connections from
+ * the same factory share a {@link io.netty.handler.ssl.SslContext}, so a reconnection can resume a previous TLS
+ * session and skip the full handshake with certificate verification.
+ *
+ * @since 1.4.0
+ */
+public interface SslSessionMetrics {
+
+    /**
+     * Gets the number of completed TLS handshakes which did not resume a previous session.
+     *
+     * @return the number of full handshakes.
+     */
+    long getFullHandshakes();
+
+    /**
+     * Gets the number of completed TLS handshakes which resumed a previous session.
+     *
+     * @return the number of resumed handshakes.
+     */
+    long getResumedHandshakes();
+
+    /**
+     * Gets the ratio of resumed handshakes to all completed handshakes.
+     *
+     * @return the resumption hit rate between {@code 0.0} and {@code 1.0}, or {@code 0.0} if no handshake has
+     * completed.
+     */
+    default double getResumptionHitRate() {
+        long resumed = getResumedHandshakes();
+        long total = resumed + getFullHandshakes();
+
+        return total == 0 ? 0.0 : (double) resumed / total;
+    }
+}
@@ -17,24 +17,45 @@
 package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.api.MySqlResult;
+import io.asyncer.r2dbc.mysql.api.MySqlStatement;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
+import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
 import java.util.List;
 
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
 /**
  * An implementation of {@link ParameterizedStatementSupport} based on MySQL text query.
  */
 final class TextParameterizedStatement extends ParameterizedStatementSupport {
 
+    @Nullable
+    private Publisher<? extends ByteBuf> localInfile;
+
     TextParameterizedStatement(Client client, Codecs codecs, Query query) {
         super(client, codecs, query);
     }
 
     @Override
     protected Flux<MySqlResult> execute(List<Binding> bindings) {
-        return Flux.defer(() -> QueryFlow.execute(client, query, returningIdentifiers(), bindings))
+        return Flux.defer(() -> QueryFlow.execute(client, query, returningIdentifiers(), bindings, localInfile))
             .map(messages -> MySqlSegmentResult.toResult(false, client, codecs, syntheticKeyName(), messages));
     }
+
+    @Override
+    public MySqlStatement localInfile(Publisher<? extends ByteBuf> data) {
+        this.localInfile = requireNonNull(data, "data must not be null");
+        return this;
+    }
+
+    @Override
+    public MySqlStatement localInfileText(Publisher<? extends CharSequence> data) {
+        this.localInfile = encodeLocalInfile(requireNonNull(data, "data must not be null"));
+        return this;
+    }
 }
@@ -17,25 +17,51 @@
 package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.api.MySqlResult;
+import io.asyncer.r2dbc.mysql.api.MySqlStatement;
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
 import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
 /**
  * An implementations of {@link SimpleStatementSupport} based on MySQL text query.
  */
 final class TextSimpleStatement extends SimpleStatementSupport {
 
+    @Nullable
+    private Publisher<? extends ByteBuf> localInfile;
+
     TextSimpleStatement(Client client, Codecs codecs, String sql) {
         super(client, codecs, sql);
     }
 
     @Override
     public Flux<MySqlResult> execute() {
-        return Flux.defer(() -> QueryFlow.execute(
-            client,
-            StringUtils.extendReturning(sql, returningIdentifiers())
-        ).map(messages -> MySqlSegmentResult.toResult(false, client, codecs, syntheticKeyName(), messages)));
+        return Flux.defer(() -> {
+            String sql = StringUtils.extendReturning(this.sql, returningIdentifiers());
+            Publisher<? extends ByteBuf> localInfile = this.localInfile;
+            Flux<Flux<ServerMessage>> messages = localInfile == null ? QueryFlow.execute(client, sql) :
+                QueryFlow.execute(client, sql, localInfile);
+
+            return messages.map(it -> MySqlSegmentResult.toResult(false, client, codecs, syntheticKeyName(), it));
+        });
+    }
+
+    @Override
+    public MySqlStatement localInfile(Publisher<? extends ByteBuf> data) {
+        this.localInfile = requireNonNull(data, "data must not be null");
+        return this;
+    }
+
+    @Override
+    public MySqlStatement localInfileText(Publisher<? extends CharSequence> data) {
+        this.localInfile = encodeLocalInfile(requireNonNull(data, "data must not be null"));
+        return this;
     }
 }
@@ -21,9 +21,15 @@ import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.Lifecycle;
 import io.r2dbc.spi.TransactionDefinition;
 import io.r2dbc.spi.ValidationDepth;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
 /**
  * A {@link Connection} for connecting to a MySQL database.
@@ -200,4 +206,53 @@ public interface MySqlConnection extends Connection, Lifecycle {
      */
     @Override
     Mono<Void> preRelease();
+
+    /**
+     * Loads rows into a table by a {@code LOAD DATA LOCAL INFILE} statement.  The rows are encoded by the codecs
+     * of the connection into the default data format of {@code LOAD DATA} directly, it is usually much faster than
+     * inserting rows in batches.  The rows are requested only when the previous data has been written to the
+     * socket.
+     * <p>
+     * Text values are encoded in UTF-8, binary values are written as raw bytes.  Note: {@code BIT} columns can
+     * not be loaded directly, see also MySQL documentation of {@code LOAD DATA}.
+     * <p>
+     * It requires {@code allowLoadLocalInfileFromPublisher} to be enabled, and {@code local_infile} to be
+     * enabled on the server.
+     *
+     * @param table   the table name, it will be quoted as an identifier.
+     * @param columns the column names, each row should have the same size.
+     * @param rows    the rows to load, {@code null} elements of a row mean {@code NULL}.
+     * @return a {@link Mono} of the number of loaded rows.
+     * @throws IllegalArgumentException      if {@code table} is empty, {@code columns} is empty, or {@code rows}
+     *                                       is {@code null}
+     * @throws UnsupportedOperationException if the connection does not support it
+     * @since 1.4.0
+     */
+    default Mono<Long> loadData(String table, List<String> columns, Publisher<Object[]> rows) {
+        throw new UnsupportedOperationException("Bulk loading is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Loads rows into a table by a {@code LOAD DATA LOCAL INFILE} statement, each element is mapped to a row by
+     * {@code mapper}.
+     *
+     * @param table   the table name, it will be quoted as an identifier.
+     * @param columns the column names, each row should have the same size.
+     * @param rows    the elements to load.
+     * @param mapper  the mapper that maps an element to values of the row.
+     * @param <T>     the type of elements.
+     * @return a {@link Mono} of the number of loaded rows.
+     * @throws IllegalArgumentException      if {@code table} is empty, {@code columns} is empty, or {@code rows}
+     *                                       or {@code mapper} is {@code null}
+     * @throws UnsupportedOperationException if the connection does not support it
+     * @see #loadData(String, List, Publisher)
+     * @since 1.4.0
+     */
+    default <T> Mono<Long> loadData(String table, List<String> columns, Publisher<T> rows,
+        Function<? super T, Object[]> mapper) {
+        requireNonNull(rows, "rows must not be null");
+        requireNonNull(mapper, "mapper must not be null");
+
+        return loadData(table, columns, Flux.from(rows).map(mapper));
+    }
 }
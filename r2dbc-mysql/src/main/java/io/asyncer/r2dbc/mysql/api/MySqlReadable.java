@@ -18,6 +18,8 @@ package io.asyncer.r2dbc.mysql.api;
 
 import io.r2dbc.spi.Readable;
 
+import java.util.Objects;
+
 /**
  * {@link Readable Readable data} for a row or a collection of {@code OUT} parameters that's against a MySQL
  * database.
@@ -27,4 +29,124 @@ import io.r2dbc.spi.Readable;
  * @since 1.1.3
  */
 public interface MySqlReadable extends Readable {
+
+    /**
+     * Returns the value for a parameter or column as an {@code int}. The default implementation boxes
+     * the value by {@link #get(int, Class)}, implementations may decode it without boxing.
+     *
+     * @param index the index, starting at {@code 0}.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalArgumentException  if the value cannot be decoded.
+     * @throws NullPointerException      if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default int getInt(int index) {
+        return Objects.requireNonNull(get(index, Integer.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as an {@code int}. The default implementation boxes
+     * the value by {@link #get(String, Class)}, implementations may decode it without boxing.
+     *
+     * @param name the name.
+     * @return the value.
+     * @throws IllegalArgumentException if {@code name} is {@code null} or not present, or the value cannot be
+     *                                  decoded.
+     * @throws NullPointerException     if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default int getInt(String name) {
+        return Objects.requireNonNull(get(name, Integer.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code long}. The default implementation boxes
+     * the value by {@link #get(int, Class)}, implementations may decode it without boxing.
+     *
+     * @param index the index, starting at {@code 0}.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalArgumentException  if the value cannot be decoded.
+     * @throws NullPointerException      if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default long getLong(int index) {
+        return Objects.requireNonNull(get(index, Long.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code long}. The default implementation boxes
+     * the value by {@link #get(String, Class)}, implementations may decode it without boxing.
+     *
+     * @param name the name.
+     * @return the value.
+     * @throws IllegalArgumentException if {@code name} is {@code null} or not present, or the value cannot be
+     *                                  decoded.
+     * @throws NullPointerException     if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default long getLong(String name) {
+        return Objects.requireNonNull(get(name, Long.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code double}. The default implementation boxes
+     * the value by {@link #get(int, Class)}, implementations may decode it without boxing.
+     *
+     * @param index the index, starting at {@code 0}.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalArgumentException  if the value cannot be decoded.
+     * @throws NullPointerException      if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default double getDouble(int index) {
+        return Objects.requireNonNull(get(index, Double.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code double}. The default implementation boxes
+     * the value by {@link #get(String, Class)}, implementations may decode it without boxing.
+     *
+     * @param name the name.
+     * @return the value.
+     * @throws IllegalArgumentException if {@code name} is {@code null} or not present, or the value cannot be
+     *                                  decoded.
+     * @throws NullPointerException     if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default double getDouble(String name) {
+        return Objects.requireNonNull(get(name, Double.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code boolean}. The default implementation boxes
+     * the value by {@link #get(int, Class)}, implementations may decode it without boxing.
+     *
+     * @param index the index, starting at {@code 0}.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalArgumentException  if the value cannot be decoded.
+     * @throws NullPointerException      if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default boolean getBoolean(int index) {
+        return Objects.requireNonNull(get(index, Boolean.TYPE), "value must not be a null value");
+    }
+
+    /**
+     * Returns the value for a parameter or column as a {@code boolean}. The default implementation boxes
+     * the value by {@link #get(String, Class)}, implementations may decode it without boxing.
+     *
+     * @param name the name.
+     * @return the value.
+     * @throws IllegalArgumentException if {@code name} is {@code null} or not present, or the value cannot be
+     *                                  decoded.
+     * @throws NullPointerException     if the value is a {@code null} value.
+     * @since 1.4.0
+     */
+    default boolean getBoolean(String name) {
+        return Objects.requireNonNull(get(name, Boolean.TYPE), "value must not be a null value");
+    }
 }
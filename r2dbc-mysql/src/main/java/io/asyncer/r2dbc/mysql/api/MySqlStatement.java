@@ -16,7 +16,10 @@
 
 package io.asyncer.r2dbc.mysql.api;
 
+import io.netty.buffer.ByteBuf;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
 import java.util.NoSuchElementException;
@@ -126,4 +129,46 @@ public interface MySqlStatement extends Statement {
         require(rows >= 0, "Fetch size must be greater or equal to zero");
         return this;
     }
+
+    /**
+     * Binds a {@link Publisher} as the data of the {@code LOAD DATA LOCAL INFILE} statement, the file name in
+     * the statement will be ignored.  The data is requested only when the server asks for it, and the next
+     * buffer is requested after the previous one has been written to the socket.  The buffers will be released
+     * after they are written.
+     * <p>
+     * It requires {@code allowLoadLocalInfileFromPublisher} or {@code allowLoadLocalInfileInPath} to be set, so
+     * that the server can request local infile data.  It can be bound only to text statements, because
+     * {@code LOAD DATA} can not be server-prepared.
+     * <p>
+     * The data is used only by the first {@code LOAD DATA LOCAL INFILE} request of the execution.  If the query
+     * contains multiple statements, or the statement has multiple bindings, the following requests will never
+     * read the requested files, they send no data and emit an {@link R2dbcNonTransientResourceException}.
+     *
+     * @param data the data of the local infile.
+     * @return {@link MySqlStatement this}
+     * @throws IllegalArgumentException      if {@code data} is {@code null}
+     * @throws UnsupportedOperationException if the statement does not support it
+     * @since 1.4.0
+     */
+    default MySqlStatement localInfile(Publisher<? extends ByteBuf> data) {
+        requireNonNull(data, "data must not be null");
+        throw new UnsupportedOperationException("Local infile data is only supported by text statements");
+    }
+
+    /**
+     * Binds a {@link Publisher} of text as the data of the {@code LOAD DATA LOCAL INFILE} statement.  The text is
+     * encoded by the character set of the client collation, the statement should specify the same character set
+     * by {@code CHARACTER SET} clause if it is not the default character set of the database.
+     *
+     * @param data the text data of the local infile.
+     * @return {@link MySqlStatement this}
+     * @throws IllegalArgumentException      if {@code data} is {@code null}
+     * @throws UnsupportedOperationException if the statement does not support it
+     * @see #localInfile(Publisher)
+     * @since 1.4.0
+     */
+    default MySqlStatement localInfileText(Publisher<? extends CharSequence> data) {
+        requireNonNull(data, "data must not be null");
+        throw new UnsupportedOperationException("Local infile data is only supported by text statements");
+    }
 }
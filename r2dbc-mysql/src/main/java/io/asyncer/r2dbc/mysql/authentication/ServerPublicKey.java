@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.authentication;
+
+import io.asyncer.r2dbc.mysql.collation.CharCollation;
+
+import javax.crypto.Cipher;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.require;
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * A parsed RSA public key of the server, which is used to encrypt the password of "caching_sha2_password" and
+ * "sha256_password" when the connection is not secured by SSL.
+ * <p>
+ * Notice: it is unstable API, should not be used outer than {@literal r2dbc-mysql}.
+ */
+public final class ServerPublicKey {
+
+    /**
+     * The request of "caching_sha2_password" for the public key in full authentication phase.
+     */
+    public static final byte CACHING_SHA2_REQUEST = 2;
+
+    /**
+     * The request of "sha256_password" for the public key.
+     */
+    public static final byte SHA256_REQUEST = 1;
+
+    private static final String OAEP_PADDING = "RSA/ECB/OAEPWithSHA-1AndMGF1Padding";
+
+    private static final String PKCS1_PADDING = "RSA/ECB/PKCS1Padding";
+
+    private static final String PEM_BEGIN = "-----BEGIN PUBLIC KEY-----";
+
+    private static final String PEM_END = "-----END PUBLIC KEY-----";
+
+    private final PublicKey key;
+
+    private ServerPublicKey(PublicKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Encrypts the password with the salt, the result can be sent as the authentication response.
+     *
+     * @param password  the password.
+     * @param salt      the salt of challenge.
+     * @param collation the collation of the password encoding.
+     * @param oaep      if use OAEP padding, otherwise use PKCS#1 v1.5 padding.
+     * @return the encrypted password.
+     * @throws IllegalArgumentException if the RSA cipher is unavailable or the key is invalid.
+     */
+    public byte[] encrypt(CharSequence password, byte[] salt, CharCollation collation, boolean oaep) {
+        requireNonNull(password, "password must not be null");
+        requireNonNull(salt, "salt must not be null");
+        requireNonNull(collation, "collation must not be null");
+        require(salt.length > 0, "salt must not be empty");
+
+        byte[] plain = AuthUtils.encodeTerminal(CharBuffer.wrap(password), collation.getCharset());
+
+        for (int i = 0; i < plain.length; ++i) {
+            plain[i] ^= salt[i % salt.length];
+        }
+
+        try {
+            Cipher cipher = Cipher.getInstance(oaep ? OAEP_PADDING : PKCS1_PADDING);
+
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+
+            return cipher.doFinal(plain);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Failed to encrypt password by server RSA public key", e);
+        }
+    }
+
+    /**
+     * Parses a RSA public key in PEM format, i.e. an X.509 {@code SubjectPublicKeyInfo} which is the format of
+     * server {@code public_key.pem} and the response of public key requests.
+     *
+     * @param pem the public key in PEM format.
+     * @return the parsed public key.
+     * @throws IllegalArgumentException if {@code pem} is not a valid RSA public key.
+     */
+    public static ServerPublicKey parse(byte[] pem) {
+        requireNonNull(pem, "pem must not be null");
+
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        int begin = text.indexOf(PEM_BEGIN);
+        int end = text.indexOf(PEM_END);
+
+        require(begin >= 0 && end > begin, "pem must contain a public key");
+
+        String base64 = text.substring(begin + PEM_BEGIN.length(), end).replaceAll("\\s", "");
+
+        try {
+            X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+
+            return new ServerPublicKey(KeyFactory.getInstance("RSA").generatePublic(spec));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("pem must contain a valid RSA public key", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServerPublicKey{algorithm=" + key.getAlgorithm() + ", format=" + key.getFormat() + '}';
+    }
+}
@@ -107,6 +107,14 @@ public interface Client {
      */
     boolean isConnected();
 
+    /**
+     * Checks if the connection has no active or queued exchange, which means the {@link ConnectionContext} has been
+     * updated by all previous responses.
+     *
+     * @return if connection is idle
+     */
+    boolean isIdle();
+
     /**
      * Sends a signal to the connection, which means server does not support SSL.
      */
@@ -121,6 +129,7 @@ public interface Client {
      * Connects to {@code address} with configurations.  Normally, should log-in after connected.
      *
      * @param ssl            the SSL configuration
+     * @param sslContexts    the cache of SSL contexts, shared among all connections from the same factory
      * @param address        socket address, may be host address, or Unix Domain Socket address
      * @param tcpKeepAlive   if enable the {@link ChannelOption#SO_KEEPALIVE}
      * @param tcpNoDelay     if enable the {@link ChannelOption#TCP_NODELAY}
@@ -129,13 +138,15 @@ public interface Client {
      * @param loopResources  the loop resources to use
      * @param metrics        if enable the {@link TcpClient#metrics)}
      * @return A {@link Mono} that will emit a connected {@link Client}.
-     * @throws IllegalArgumentException if {@code ssl}, {@code address} or {@code context} is {@code null}.
+     * @throws IllegalArgumentException if {@code ssl}, {@code sslContexts}, {@code address} or {@code context} is
+     *                                  {@code null}.
      * @throws ArithmeticException      if {@code connectTimeout} milliseconds overflow as an int
      */
-    static Mono<Client> connect(MySqlSslConfiguration ssl, SocketAddress address, boolean tcpKeepAlive,
-        boolean tcpNoDelay, ConnectionContext context, @Nullable Duration connectTimeout,
+    static Mono<Client> connect(MySqlSslConfiguration ssl, SslContextCache sslContexts, SocketAddress address,
+        boolean tcpKeepAlive, boolean tcpNoDelay, ConnectionContext context, @Nullable Duration connectTimeout,
         LoopResources loopResources, @Nullable AddressResolverGroup<?> resolver, boolean metrics) {
         requireNonNull(ssl, "ssl must not be null");
+        requireNonNull(sslContexts, "sslContexts must not be null");
         requireNonNull(address, "address must not be null");
         requireNonNull(context, "context must not be null");
 
@@ -158,6 +169,6 @@ public interface Client {
         }
 
         return tcpClient.remoteAddress(() -> address).connect()
-            .map(conn -> new ReactorNettyClient(conn, ssl, context));
+            .map(conn -> new ReactorNettyClient(conn, ssl, sslContexts, context));
     }
 }
@@ -18,6 +18,7 @@ package io.asyncer.r2dbc.mysql.client;
 
 import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.ChannelPromise;
@@ -27,6 +28,8 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -59,6 +62,12 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
 
     private final Cumulator writeCumulator = MERGE_CUMULATOR;
 
+    /**
+     * The promises of cumulated buffers. They are completed by the write of the frame which contains the end of
+     * the buffers, so that streaming writers get the backpressure of the socket.
+     */
+    private final List<ChannelPromise> writePromises = new ArrayList<>();
+
     private int frameLength = -1;
 
     CompressionDuplexCodec(Compressor compressor) {
@@ -72,6 +81,9 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
                 this.writeCumulated;
 
             this.writeCumulated = cumulated = writeCumulator.cumulate(ctx.alloc(), cumulated, (ByteBuf) msg);
+            this.writePromises.add(promise);
+
+            ChannelFuture future = null;
 
             while (cumulated.readableBytes() >= Packets.MAX_PAYLOAD_SIZE) {
                 logger.trace("Accumulated to the maximum payload, compressing");
@@ -83,17 +95,24 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
                     logger.trace("Sending uncompressed due to compressed payload is larger than original");
                     compressed.release();
                     ctx.write(buildHeader(ctx, slice.readableBytes(), 0));
-                    ctx.write(slice.retain());
+                    future = ctx.write(slice.retain());
                 } else {
                     logger.trace("Sending compressed payload");
                     ctx.write(buildHeader(ctx, compressed.readableBytes(), Packets.MAX_PAYLOAD_SIZE));
-                    ctx.write(compressed);
+                    future = ctx.write(compressed);
                 }
             }
 
             if (!cumulated.isReadable()) {
                 this.writeCumulated = null;
                 cumulated.release();
+
+                if (future == null) {
+                    // Nothing to write, e.g. empty buffers.
+                    completeWrites(ctx.newSucceededFuture());
+                } else {
+                    completeWrites(future);
+                }
             } else {
                 logger.trace("Accumulated writing buffers, waiting for flush");
             }
@@ -102,6 +121,25 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
         }
     }
 
+    private void completeWrites(ChannelFuture future) {
+        if (writePromises.isEmpty()) {
+            return;
+        }
+
+        ChannelPromise[] promises = writePromises.toArray(new ChannelPromise[0]);
+
+        writePromises.clear();
+        future.addListener(f -> {
+            for (ChannelPromise promise : promises) {
+                if (f.isSuccess()) {
+                    promise.trySuccess();
+                } else {
+                    promise.tryFailure(f.cause());
+                }
+            }
+        });
+    }
+
     private ByteBuf buildHeader(ChannelHandlerContext ctx, int compressedSize, int uncompressedSize) {
         return ctx.alloc().ioBuffer(Packets.COMPRESS_HEADER_SIZE)
             .writeMediumLE(compressedSize)
@@ -125,7 +163,7 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
         if (uncompressedSize < MIN_COMPRESS_LENGTH) {
             logger.trace("flushing, payload is too small to compress, sending uncompressed");
             ctx.write(buildHeader(ctx, uncompressedSize, 0));
-            ctx.writeAndFlush(cumulated);
+            completeWrites(ctx.writeAndFlush(cumulated));
         } else {
             try {
                 logger.trace("flushing, compressing payload");
@@ -136,11 +174,11 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
                     logger.trace("Sending uncompressed due to compressed payload is larger than original");
                     compressed.release();
                     ctx.write(buildHeader(ctx, uncompressedSize, 0));
-                    ctx.writeAndFlush(cumulated.retain());
+                    completeWrites(ctx.writeAndFlush(cumulated.retain()));
                 } else {
                     logger.trace("Sending compressed payload");
                     ctx.write(buildHeader(ctx, compressed.readableBytes(), uncompressedSize));
-                    ctx.writeAndFlush(compressed);
+                    completeWrites(ctx.writeAndFlush(compressed));
                 }
             } finally {
                 cumulated.release();
@@ -238,6 +276,15 @@ final class CompressionDuplexCodec extends ByteToMessageDecoder implements Chann
 
     @Override
     protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        ByteBuf cumulated = this.writeCumulated;
+
+        this.writeCumulated = null;
+
+        if (cumulated != null) {
+            cumulated.release();
+        }
+
+        completeWrites(ctx.newFailedFuture(new ClosedChannelException()));
         this.compressor.dispose();
     }
 }
@@ -32,5 +32,34 @@ import java.util.function.BiConsumer;
 public abstract class FluxExchangeable<T> extends Flux<ClientMessage>
     implements BiConsumer<ServerMessage, SynchronousSink<T>>, Disposable {
 
-    // It is an empty abstraction.
+    /**
+     * Returns whether the exchange can be written before the responses of previous exchanges have been received.
+     * It must emit all request messages synchronously on subscribe, and every message should be
+     * {@link ClientMessage#isPipelinable() pipelinable}.
+     *
+     * @return {@code true} if it can be pipelined.
+     */
+    public boolean isPipelinable() {
+        return false;
+    }
+
+    /**
+     * Returns whether the running query can be killed by another connection if it is cancelled and its remaining
+     * result is large. It must not be pipelined, because another exchange may be killed.
+     *
+     * @return {@code true} if it can be killed.
+     */
+    public boolean isKillable() {
+        return false;
+    }
+
+    /**
+     * Called when the downstream requests more responses. It can be used to send requests on demand, and it may be
+     * called on a thread other than the one that handles responses.
+     *
+     * @param n the number of requested responses.
+     */
+    public void onRequest(long n) {
+        // Do nothing by default.
+    }
 }
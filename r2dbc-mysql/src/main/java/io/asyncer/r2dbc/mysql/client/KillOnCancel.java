@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.client;
+
+import io.asyncer.r2dbc.mysql.message.server.RowMessage;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.function.IntFunction;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * Kills the running query over another connection if too many rows are discarded after the exchange has been
+ * cancelled. The next exchange should run after the kill is done, so that it will not be killed accidentally.
+ */
+final class KillOnCancel {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(KillOnCancel.class);
+
+    /**
+     * The number of rows discarded after cancel which makes the query considered as large.
+     */
+    private static final int DISCARDED_ROWS = 1024;
+
+    private final IntFunction<Mono<Void>> killer;
+
+    private final int connectionId;
+
+    private volatile boolean cancelled;
+
+    private int discarded;
+
+    @Nullable
+    private volatile Mono<Void> killing;
+
+    KillOnCancel(IntFunction<Mono<Void>> killer, int connectionId) {
+        this.killer = requireNonNull(killer, "killer must not be null");
+        this.connectionId = connectionId;
+    }
+
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    void onNext(Object message) {
+        if (!cancelled || killing != null || !(message instanceof RowMessage) || ++discarded < DISCARDED_ROWS) {
+            return;
+        }
+
+        logger.debug("Killing query of connection {} after {} rows discarded",
+            Integer.toUnsignedString(connectionId), discarded);
+
+        Mono<Void> killing = killer.apply(connectionId)
+            .onErrorResume(e -> {
+                logger.warn("Failed to kill query of connection {}, keep discarding",
+                    Integer.toUnsignedString(connectionId), e);
+                return Mono.empty();
+            })
+            .cache();
+
+        this.killing = killing;
+        killing.subscribe();
+    }
+
+    /**
+     * Runs the next exchange after the kill is done, or runs it immediately if the query was not killed.
+     *
+     * @param next the next exchange runner.
+     */
+    void afterTerminate(Runnable next) {
+        Mono<Void> killing = this.killing;
+
+        if (killing == null) {
+            next.run();
+        } else {
+            killing.subscribe(null, null, next);
+        }
+    }
+}
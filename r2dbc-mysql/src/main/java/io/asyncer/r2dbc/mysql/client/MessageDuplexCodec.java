@@ -20,8 +20,10 @@ import io.asyncer.r2dbc.mysql.ConnectionContext;
 import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.asyncer.r2dbc.mysql.internal.util.OperatorUtils;
 import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
+import io.asyncer.r2dbc.mysql.message.client.LocalInfileResponse;
 import io.asyncer.r2dbc.mysql.message.client.PrepareQueryMessage;
 import io.asyncer.r2dbc.mysql.message.client.PreparedFetchMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedLargeDataMessage;
 import io.asyncer.r2dbc.mysql.message.client.SslRequest;
 import io.asyncer.r2dbc.mysql.message.server.ColumnCountMessage;
 import io.asyncer.r2dbc.mysql.message.server.CompleteMessage;
@@ -36,17 +38,25 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandler;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.File;
 import java.net.SocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
@@ -61,12 +71,24 @@ final class MessageDuplexCodec extends ByteToMessageDecoder implements ChannelOu
 
     static final String NAME = "R2dbcMySqlMessageDuplexCodec";
 
+    /**
+     * A packet of the maximum payload size will be merged with the next one by the server, so the terminal empty
+     * packet must not follow it.
+     */
+    private static final int MAX_FILE_REGION_SIZE = Packets.MAX_PAYLOAD_SIZE - 1;
+
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(MessageDuplexCodec.class);
 
     private final AtomicInteger sequenceId = new AtomicInteger(0);
 
     private DecodeContext decodeContext = DecodeContext.login();
 
+    /**
+     * The number of fetch messages that have been written but not completed. Rows of the next fetch follow the
+     * completion of the previous one directly if cursor prefetching is enabled.
+     */
+    private int fetches;
+
     /**
      * It can be retained because reconnect and redirect will re-create the {@link MessageDuplexCodec}.
      */
@@ -96,17 +118,29 @@ final class MessageDuplexCodec extends ByteToMessageDecoder implements ChannelOu
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
-        if (msg instanceof ClientMessage) {
+        if (msg instanceof LocalInfileResponse && isZeroCopyAvailable(ctx, (LocalInfileResponse) msg)) {
+            writeFileRegions(ctx, (LocalInfileResponse) msg, promise);
+        } else if (msg instanceof ClientMessage) {
             ByteBufAllocator allocator = ctx.alloc();
             ClientMessage message = (ClientMessage) msg;
             Flux<ByteBuf> encoded = Flux.from(message.encode(allocator, this.context));
-
-            OperatorUtils.envelope(encoded, allocator, sequenceId, message.isCumulative())
-                .subscribe(new WriteSubscriber(ctx, promise));
+            // A command starts a new sequence, it should not be affected by responses of pipelined commands.
+            AtomicInteger sequenceId = message.isSequenceReset() ? new AtomicInteger(0) : this.sequenceId;
+
+            if (msg instanceof PreparedLargeDataMessage) {
+                // Each buffer is a separate command without response.
+                writeStreaming(ctx, encoded, () -> new AtomicInteger(0), promise);
+            } else if (msg instanceof LocalInfileResponse) {
+                writeStreaming(ctx, encoded, () -> sequenceId, promise);
+            } else {
+                OperatorUtils.envelope(encoded, allocator, sequenceId, message.isCumulative())
+                    .subscribe(new WriteSubscriber(ctx, promise));
+            }
 
             if (msg instanceof PrepareQueryMessage) {
                 setDecodeContext(DecodeContext.prepareQuery());
             } else if (msg instanceof PreparedFetchMessage) {
+                ++this.fetches;
                 setDecodeContext(DecodeContext.fetch());
             } else if (msg instanceof SslRequest) {
                 ctx.channel().pipeline().fireUserEventTriggered(SslState.BRIDGING);
@@ -119,6 +153,121 @@ final class MessageDuplexCodec extends ByteToMessageDecoder implements ChannelOu
         }
     }
 
+    /**
+     * Writes each buffer as a packet, and requests the next buffer after the previous packet has been flushed, so
+     * that large data will not be queued entirely in the outbound buffer. Each buffer must be smaller than
+     * {@link Packets#MAX_PAYLOAD_SIZE}.
+     *
+     * @param ctx        the channel handler context.
+     * @param encoded    the buffers to write.
+     * @param sequenceId the supplier of sequence ID for each buffer.
+     * @param promise    the promise of the message.
+     */
+    private static void writeStreaming(
+        ChannelHandlerContext ctx,
+        Flux<ByteBuf> encoded,
+        Supplier<AtomicInteger> sequenceId,
+        ChannelPromise promise
+    ) {
+        encoded.concatMap(buf -> Mono.<Void>create(sink -> {
+            ByteBuf header;
+
+            try {
+                header = ctx.alloc().ioBuffer(Packets.NORMAL_HEADER_SIZE)
+                    .writeMediumLE(buf.readableBytes())
+                    .writeByte(sequenceId.get().getAndIncrement());
+            } catch (Throwable e) {
+                buf.release();
+                sink.error(e);
+                return;
+            }
+
+            ctx.write(header);
+            ctx.writeAndFlush(buf).addListener(future -> {
+                if (future.isSuccess()) {
+                    sink.success();
+                } else {
+                    sink.error(future.cause());
+                }
+            });
+        }), 1).subscribe(null, e -> {
+            // Ignore this cause for this promise because it is channel exception.
+            promise.trySuccess();
+            ctx.flush();
+            ctx.fireExceptionCaught(e);
+        }, promise::trySuccess);
+    }
+
+    /**
+     * Writes the requested file of a {@link LocalInfileResponse} by {@link DefaultFileRegion}s, so the transport can
+     * send the file by zero-copy, e.g. {@code sendfile}. Only packet headers are allocated in this case.
+     *
+     * @param ctx      the channel handler context.
+     * @param response the response of local infile request which does not bind data.
+     * @param promise  the promise of the message.
+     */
+    private void writeFileRegions(ChannelHandlerContext ctx, LocalInfileResponse response, ChannelPromise promise) {
+        response.resolveFile(this.context).flatMap(file -> Mono.fromCallable(() -> {
+            long size;
+
+            // Open the file eagerly, so that an unreadable file can be reported like reading buffers.
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                size = channel.size();
+            }
+
+            File f = file.toFile();
+
+            for (long position = 0; position < size; position += MAX_FILE_REGION_SIZE) {
+                long count = Math.min(MAX_FILE_REGION_SIZE, size - position);
+
+                ctx.write(header(ctx, (int) count));
+                ctx.write(new DefaultFileRegion(f, position, count));
+            }
+
+            return size;
+        })).subscribe(null, e -> {
+            // Server needs an empty packet, so emit error to upstream after the terminal packet.
+            writeTerminal(ctx, promise);
+            response.fail(e);
+        }, () -> writeTerminal(ctx, promise));
+    }
+
+    private void writeTerminal(ChannelHandlerContext ctx, ChannelPromise promise) {
+        ctx.writeAndFlush(header(ctx, 0)).addListener(future -> {
+            // Ignore this cause for this promise because it is channel exception.
+            promise.trySuccess();
+
+            if (!future.isSuccess()) {
+                ctx.fireExceptionCaught(future.cause());
+            }
+        });
+    }
+
+    private ByteBuf header(ChannelHandlerContext ctx, int size) {
+        return ctx.alloc().ioBuffer(Packets.NORMAL_HEADER_SIZE)
+            .writeMediumLE(size)
+            .writeByte(this.sequenceId.getAndIncrement());
+    }
+
+    /**
+     * Checks if the requested file can be written by {@link DefaultFileRegion}s. The file regions will be sent by
+     * the transport directly, so they must not be encrypted or compressed by other handlers.
+     *
+     * @param ctx      the channel handler context.
+     * @param response the response of local infile request.
+     * @return if zero-copy is available.
+     */
+    private static boolean isZeroCopyAvailable(ChannelHandlerContext ctx, LocalInfileResponse response) {
+        if (response.isDataBound()) {
+            return false;
+        }
+
+        ChannelPipeline pipeline = ctx.pipeline();
+
+        return pipeline.get(SslHandler.class) == null && pipeline.get(SslBridgeHandler.NAME) == null &&
+            pipeline.get(CompressionDuplexCodec.NAME) == null;
+    }
+
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
         if (evt instanceof PacketEvent) {
@@ -191,17 +340,30 @@ final class MessageDuplexCodec extends ByteToMessageDecoder implements ChannelOu
             this.context.setServerStatuses(((ServerStatusMessage) msg).getServerStatuses());
         }
 
-        if (msg instanceof CompleteMessage) {
+        if (msg instanceof CompleteMessage || msg instanceof ErrorMessage) {
             // Metadata EOF message will be not receive in here.
+            if (this.decodeContext == DecodeContext.fetch() && this.fetches > 0 && --this.fetches > 0) {
+                // Responses of prefetched fetch messages follow.
+                out.add(msg);
+                return;
+            }
+
             setDecodeContext(DecodeContext.command());
         } else if (msg instanceof SyntheticMetadataMessage) {
             if (((SyntheticMetadataMessage) msg).isCompleted()) {
                 setDecodeContext(DecodeContext.command());
             }
         } else if (msg instanceof ColumnCountMessage) {
-            setDecodeContext(DecodeContext.result(this.context.getCapability().isEofDeprecated(),
-                ((ColumnCountMessage) msg).getTotalColumns()));
-            return; // Done, no need use generic handle.
+            ColumnCountMessage message = (ColumnCountMessage) msg;
+
+            if (message.isMetadataFollows()) {
+                setDecodeContext(DecodeContext.result(this.context.getCapability().isEofDeprecated(),
+                    message.getTotalColumns()));
+                return; // Done, no need use generic handle.
+            }
+
+            // MariaDB skipped the cached metadata, rows follow directly like fetching.
+            setDecodeContext(DecodeContext.fetch());
         } else if (msg instanceof PreparedOkMessage) {
             PreparedOkMessage message = (PreparedOkMessage) msg;
             int columns = message.getTotalColumns();
@@ -216,8 +378,6 @@ final class MessageDuplexCodec extends ByteToMessageDecoder implements ChannelOu
             } else {
                 setDecodeContext(DecodeContext.command());
             }
-        } else if (msg instanceof ErrorMessage) {
-            setDecodeContext(DecodeContext.command());
         }
 
         // Generic handle.
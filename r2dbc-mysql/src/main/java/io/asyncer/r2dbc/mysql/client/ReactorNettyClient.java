@@ -47,6 +47,7 @@ import reactor.util.context.ContextView;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.require;
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -82,23 +83,26 @@ final class ReactorNettyClient implements Client {
     private final Sinks.Many<ServerMessage> responseProcessor =
         Sinks.many().multicast().onBackpressureBuffer(512, false);
 
-    private final RequestQueue requestQueue = new RequestQueue();
+    private final RequestQueue requestQueue;
 
-    ReactorNettyClient(Connection connection, MySqlSslConfiguration ssl, ConnectionContext context) {
+    ReactorNettyClient(Connection connection, MySqlSslConfiguration ssl, SslContextCache sslContexts,
+        ConnectionContext context) {
         requireNonNull(connection, "connection must not be null");
         requireNonNull(context, "context must not be null");
         requireNonNull(ssl, "ssl must not be null");
+        requireNonNull(sslContexts, "sslContexts must not be null");
         require(responseProcessor.asFlux() instanceof Subscriber,
             "responseProcessor(" + responseProcessor + ") must be a Subscriber");
 
         this.connection = connection;
         this.context = context;
+        this.requestQueue = new RequestQueue(context.isPipelining());
 
         // Note: encoder/decoder should before reactor bridge.
         connection.addHandlerLast(MessageDuplexCodec.NAME, new MessageDuplexCodec(context));
 
         if (ssl.getSslMode().startSsl()) {
-            connection.addHandlerFirst(SslBridgeHandler.NAME, new SslBridgeHandler(context, ssl));
+            connection.addHandlerFirst(SslBridgeHandler.NAME, new SslBridgeHandler(context, ssl, sslContexts));
         }
 
         if (logger.isTraceEnabled()) {
@@ -156,6 +160,19 @@ final class ReactorNettyClient implements Client {
                 return;
             }
 
+            if (isPipelinable(request.isPipelinable())) {
+                Flux<T> responses = OperatorUtils.discardOnCancel(
+                    responseProcessor.asFlux()
+                        .handle(handler)
+                        .doOnTerminate(requestQueue)
+                ).doOnDiscard(ReferenceCounted.class, ReferenceCounted::release);
+                Disposable disposable = request instanceof Disposable ? (Disposable) request : null;
+
+                requestQueue.submit(RequestTask.pipelined(disposable, () -> emitNextRequest(request), sink,
+                    responses));
+                return;
+            }
+
             Flux<T> responses = OperatorUtils.discardOnCancel(
                 responseProcessor.asFlux()
                     .doOnSubscribe(ignored -> emitNextRequest(request))
@@ -182,21 +199,50 @@ final class ReactorNettyClient implements Client {
                 return;
             }
 
-            Flux<T> responses = responseProcessor
-                .asFlux()
-                .doOnSubscribe(ignored -> exchangeable.subscribe(
-                    this::emitNextRequest,
-                    e -> requests.emitError(e, Sinks.EmitFailureHandler.FAIL_FAST)
-                ))
-                .handle(exchangeable)
-                .doOnTerminate(() -> {
+            Runnable writer = () -> exchangeable.subscribe(
+                this::emitNextRequest,
+                e -> requests.emitError(e, Sinks.EmitFailureHandler.FAIL_FAST)
+            );
+            boolean pipelined = isPipelinable(exchangeable.isPipelinable());
+            Flux<ServerMessage> messages = responseProcessor.asFlux();
+
+            if (!pipelined) {
+                messages = messages.doOnSubscribe(ignored -> writer.run());
+            }
+
+            IntFunction<Mono<Void>> killer = context.getQueryKiller();
+            KillOnCancel kill = killer != null && !pipelined && exchangeable.isKillable() ?
+                new KillOnCancel(killer, context.getConnectionId()) : null;
+            Flux<T> handled = messages.handle(exchangeable).doOnRequest(exchangeable::onRequest);
+
+            if (kill != null) {
+                handled = handled.doOnNext(kill::onNext);
+            }
+
+            Flux<T> responses = OperatorUtils.discardOnCancel(handled
+                    .doOnTerminate(() -> {
+                        exchangeable.dispose();
+
+                        if (kill == null) {
+                            requestQueue.run();
+                        } else {
+                            kill.afterTerminate(requestQueue);
+                        }
+                    }))
+                .doOnDiscard(ReferenceCounted.class, ReferenceCounted::release)
+                .doOnCancel(() -> {
+                    if (kill != null) {
+                        kill.cancel();
+                    }
+
                     exchangeable.dispose();
-                    requestQueue.run();
                 });
 
-            requestQueue.submit(RequestTask.wrap(exchangeable, sink, OperatorUtils.discardOnCancel(responses)
-                .doOnDiscard(ReferenceCounted.class, ReferenceCounted::release)
-                .doOnCancel(exchangeable::dispose)));
+            if (pipelined) {
+                requestQueue.submit(RequestTask.pipelined(exchangeable, writer, sink, responses));
+            } else {
+                requestQueue.submit(RequestTask.wrap(exchangeable, sink, responses));
+            }
         }).flatMapMany(Function.identity());
     }
 
@@ -250,6 +296,11 @@ final class ReactorNettyClient implements Client {
         return state < ST_CLOSED && connection.channel().isOpen();
     }
 
+    @Override
+    public boolean isIdle() {
+        return requestQueue.isIdle();
+    }
+
     @Override
     public void sslUnsupported() {
         connection.channel().pipeline().fireUserEventTriggered(SslState.UNSUPPORTED);
@@ -264,6 +315,17 @@ final class ReactorNettyClient implements Client {
         }
     }
 
+    /**
+     * Checks if an exchange can be pipelined. Compression is excluded because the compressed sequence is shared by
+     * requests and responses.
+     *
+     * @param pipelinable if the exchange is pipelinable.
+     * @return if the exchange should be pipelined.
+     */
+    private boolean isPipelinable(boolean pipelinable) {
+        return pipelinable && requestQueue.isPipelining() && context.isPipelining();
+    }
+
     private static void resetSequence(Connection connection) {
         connection.channel().pipeline().fireUserEventTriggered(PacketEvent.RESET_SEQUENCE);
     }
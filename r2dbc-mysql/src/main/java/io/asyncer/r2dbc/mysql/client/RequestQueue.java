@@ -53,21 +53,74 @@ abstract class ActiveStatus extends LeftPadding {
  * Drains queued commands on exchange completion if there are queued commands or disable active flag.
  * <p>
  * It should discard all tasks when it is discarded by connection.
+ * <p>
+ * If pipelining is enabled, a pipelinable task will be written immediately on submission when the active exchange
+ * and all queued tasks are pipelinable and written, so the server receives commands back to back. The responses are
+ * still consumed in submission order, because each task subscribes responses only after previous exchange
+ * terminated. A non-pipelinable task closes the pipeline until it has been executed.
  */
 final class RequestQueue extends ActiveStatus implements Runnable {
 
+    /**
+     * The maximum number of tasks that have been written but not yet executed.
+     */
+    static final int MAX_PIPELINED = 64;
+
     private final Queue<RequestTask<?>> queue = Queues.<RequestTask<?>>small().get();
 
     private final ReentrantLock lock = new ReentrantLock();
 
+    private final boolean pipelining;
+
+    /**
+     * If the active exchange is pipelinable, guarded by {@link #lock} in pipelining mode.
+     */
+    private boolean activePipelinable;
+
+    /**
+     * The number of queued tasks that have been written, guarded by {@link #lock} in pipelining mode.
+     */
+    private int written;
+
+    /**
+     * The number of queued tasks that have not been written, guarded by {@link #lock} in pipelining mode.
+     */
+    private int unwritten;
+
     @Nullable
     private volatile RuntimeException disposed;
 
+    RequestQueue() {
+        this(false);
+    }
+
+    RequestQueue(boolean pipelining) {
+        this.pipelining = pipelining;
+    }
+
+    boolean isPipelining() {
+        return pipelining;
+    }
+
+    /**
+     * Checks if there is no active or queued task.
+     *
+     * @return if the queue is idle.
+     */
+    boolean isIdle() {
+        return status == IDLE && queue.isEmpty();
+    }
+
     /**
      * Current exchange completed, refresh to next exchange or set to inactive.
      */
     @Override
     public void run() {
+        if (pipelining) {
+            runPipelining();
+            return;
+        }
+
         for (;;) {
             RequestTask<?> task = queue.poll();
             final int status = this.status;
@@ -100,6 +153,11 @@ final class RequestQueue extends ActiveStatus implements Runnable {
      * @param <T> the type argument of {@link RequestTask}.
      */
     <T> void submit(RequestTask<T> task) {
+        if (pipelining) {
+            submitPipelining(task);
+            return;
+        }
+
         int status = this.status;
 
         if (status == DISPOSE) {
@@ -128,6 +186,88 @@ final class RequestQueue extends ActiveStatus implements Runnable {
         }
     }
 
+    private void runPipelining() {
+        for (;;) {
+            RequestTask<?> task;
+
+            lock.lock();
+            try {
+                task = queue.poll();
+
+                if (task == null) {
+                    this.activePipelinable = false;
+                    STATUS_UPDATER.compareAndSet(this, ACTIVE, IDLE);
+                    return;
+                }
+
+                if (task.isWritten()) {
+                    --this.written;
+                } else {
+                    --this.unwritten;
+
+                    if (status != DISPOSE && !task.isCancelled()) {
+                        task.write();
+                    }
+                }
+
+                this.activePipelinable = task.isPipelinable();
+            } finally {
+                lock.unlock();
+            }
+
+            if (status == DISPOSE) {
+                // Cancel and no need clear queue because it should be cleared by other one.
+                task.cancel(requireDisposed());
+                return;
+            }
+
+            if (!task.isCancelled()) {
+                task.run();
+            }
+
+            if (task.isCancelled()) {
+                if (task.isWritten()) {
+                    // Responses of a written task must be consumed, it will refresh to next exchange on terminate.
+                    task.drain();
+                    return;
+                }
+                // Otherwise, the execution of a canceled task would result in a stall of the request queue.
+            } else {
+                return;
+            }
+        }
+    }
+
+    private <T> void submitPipelining(RequestTask<T> task) {
+        boolean execute = false;
+        RuntimeException cancelled = null;
+
+        lock.lock();
+        try {
+            if (status == DISPOSE) {
+                cancelled = requireDisposed();
+            } else if (!queue.offer(task)) {
+                cancelled = new IllegalStateException("Request queue is full");
+            } else if (STATUS_UPDATER.compareAndSet(this, IDLE, ACTIVE)) {
+                ++this.unwritten;
+                execute = true;
+            } else if (activePipelinable && unwritten == 0 && written < MAX_PIPELINED && task.isPipelinable()) {
+                ++this.written;
+                task.write();
+            } else {
+                ++this.unwritten;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (cancelled != null) {
+            task.cancel(cancelled);
+        } else if (execute) {
+            runPipelining();
+        }
+    }
+
     /**
      * Keep padding, maybe useful, maybe useless, whatever we should make sure padding would not be reduced by
      * compiler.
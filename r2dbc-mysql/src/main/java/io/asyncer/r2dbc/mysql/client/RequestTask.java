@@ -17,6 +17,7 @@
 package io.asyncer.r2dbc.mysql.client;
 
 import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
+import io.netty.util.ReferenceCountUtil;
 import org.jetbrains.annotations.Nullable;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -38,18 +39,77 @@ final class RequestTask<T> {
 
     private final T supplier;
 
+    /**
+     * The writer of request messages if the task is pipelinable, otherwise {@code null}.
+     */
+    @Nullable
+    private final Runnable writer;
+
+    /**
+     * Consumes and releases all responses if the task has been written but cancelled before it runs.
+     */
+    @Nullable
+    private final Runnable drainer;
+
     private volatile boolean isCancelled;
 
+    /**
+     * If the requests have been written, it should be accessed by {@link RequestQueue} only.
+     */
+    private boolean written;
+
     private RequestTask(@Nullable Disposable disposable, MonoSink<T> sink, T supplier) {
+        this(disposable, sink, supplier, null, null);
+    }
+
+    private RequestTask(
+        @Nullable Disposable disposable, MonoSink<T> sink, T supplier,
+        @Nullable Runnable writer, @Nullable Runnable drainer
+    ) {
         this.disposable = disposable;
         this.sink = sink;
         this.supplier = supplier;
+        this.writer = writer;
+        this.drainer = drainer;
     }
 
     void run() {
         sink.success(supplier);
     }
 
+    boolean isPipelinable() {
+        return writer != null;
+    }
+
+    boolean isWritten() {
+        return written;
+    }
+
+    /**
+     * Writes the request messages before the task runs. It should be called by {@link RequestQueue} only, and
+     * at most once.
+     */
+    void write() {
+        Runnable writer = this.writer;
+
+        if (writer != null && !written) {
+            written = true;
+            writer.run();
+        }
+    }
+
+    /**
+     * Drains the responses of a written task that has been cancelled, so the responses of subsequent tasks
+     * will not be misrouted.
+     */
+    void drain() {
+        Runnable drainer = this.drainer;
+
+        if (drainer != null) {
+            drainer.run();
+        }
+    }
+
     /**
      * Cancel task and release resources.
      *
@@ -95,6 +155,27 @@ final class RequestTask<T> {
         return task;
     }
 
+    /**
+     * Wraps a pipelinable task, the request messages will be written by {@link RequestQueue} via {@code writer}
+     * instead of the subscription of {@code supplier}.
+     *
+     * @param disposable the requests resources, or {@code null} if nothing should be released.
+     * @param writer     the writer of request messages.
+     * @param sink       the sink of the task result.
+     * @param supplier   the responses which should not write requests when subscribing.
+     * @param <T>        the type of responses.
+     * @return the pipelinable task.
+     */
+    static <T> RequestTask<Flux<T>> pipelined(
+        @Nullable Disposable disposable, Runnable writer, MonoSink<Flux<T>> sink, Flux<T> supplier
+    ) {
+        final RequestTask<Flux<T>> task = new RequestTask<>(disposable, sink, supplier, writer,
+            () -> supplier.subscribe(ReferenceCountUtil::safeRelease,
+                e -> Client.logger.debug("Error on draining responses of a cancelled exchange", e)));
+        sink.onCancel(task::cancel0);
+        return task;
+    }
+
     private static final class DisposableFlux implements Disposable {
 
         private final Flux<? extends ClientMessage> messages;
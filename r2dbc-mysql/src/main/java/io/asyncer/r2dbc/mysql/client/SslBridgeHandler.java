@@ -33,6 +33,7 @@ import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
+import org.jetbrains.annotations.Nullable;
 import reactor.netty.tcp.SslProvider;
 
 import javax.net.ssl.HostnameVerifier;
@@ -40,6 +41,9 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import java.io.File;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -84,11 +88,21 @@ final class SslBridgeHandler extends ChannelDuplexHandler {
 
     private final MySqlSslConfiguration ssl;
 
+    private final SslContextCache sslContexts;
+
     private SSLEngine sslEngine;
 
-    SslBridgeHandler(ConnectionContext context, MySqlSslConfiguration ssl) {
+    /**
+     * The IDs of sessions cached by the {@link SslContext} before the handshake, see also
+     * {@link SslContextCache#cachedSessionIds(SslContext)}.
+     */
+    @Nullable
+    private Set<ByteBuffer> cachedSessionIds;
+
+    SslBridgeHandler(ConnectionContext context, MySqlSslConfiguration ssl, SslContextCache sslContexts) {
         this.context = requireNonNull(context, "context must not be null");
         this.ssl = requireNonNull(ssl, "ssl must not be null");
+        this.sslContexts = requireNonNull(sslContexts, "sslContexts must not be null");
     }
 
     @Override
@@ -118,9 +132,20 @@ final class SslBridgeHandler extends ChannelDuplexHandler {
         }
 
         SslMode mode = ssl.getSslMode();
+        SSLEngine sslEngine = this.sslEngine;
+
+        Set<ByteBuffer> cachedSessionIds = this.cachedSessionIds;
+
+        if (sslEngine != null && cachedSessionIds != null) {
+            this.cachedSessionIds = null;
+
+            boolean resumed = SslContextCache.isResumed(cachedSessionIds, sslEngine.getSession());
+
+            logger.debug("SSL handshake completed, session resumed: {}", resumed);
+            sslContexts.onHandshake(resumed);
+        }
 
         if (mode.verifyIdentity()) {
-            SSLEngine sslEngine = this.sslEngine;
             if (sslEngine == null) {
                 ctx.fireExceptionCaught(new IllegalStateException(
                     "sslEngine must not be null when verify identity"));
@@ -152,12 +177,20 @@ final class SslBridgeHandler extends ChannelDuplexHandler {
             case BRIDGING:
                 logger.debug("SSL event triggered, enable SSL handler to pipeline");
 
-                SslProvider sslProvider = SslProvider.builder()
-                    .sslContext(MySqlSslContextSpec.forClient(ssl, context))
-                    .build();
-                SslHandler sslHandler = sslProvider.getSslContext().newHandler(ctx.alloc());
+                String[] protocols = MySqlSslContextSpec.protocols(ssl, context);
+                SslContext sslContext = sslContexts.get(protocols, () -> SslProvider.builder()
+                    .sslContext(MySqlSslContextSpec.forClient(ssl, protocols))
+                    .build()
+                    .getSslContext());
+                SocketAddress remote = ctx.channel().remoteAddress();
+                // Session resumption requires the peer address, see also SSLContext.createSSLEngine(String, int).
+                SslHandler sslHandler = remote instanceof InetSocketAddress ?
+                    sslContext.newHandler(ctx.alloc(), ((InetSocketAddress) remote).getHostString(),
+                        ((InetSocketAddress) remote).getPort()) :
+                    sslContext.newHandler(ctx.alloc());
 
                 this.sslEngine = sslHandler.engine();
+                this.cachedSessionIds = SslContextCache.cachedSessionIds(sslContext);
 
                 ctx.pipeline().addBefore(NAME, SSL_NAME, sslHandler);
 
@@ -217,29 +250,34 @@ final class SslBridgeHandler extends ChannelDuplexHandler {
             return builder.build();
         }
 
-        static MySqlSslContextSpec forClient(MySqlSslConfiguration ssl, ConnectionContext context) {
+        static String[] protocols(MySqlSslConfiguration ssl, ConnectionContext context) {
+            String[] tlsProtocols = ssl.getTlsVersion();
+
+            if (tlsProtocols.length > 0 || ssl.getSslMode() == SslMode.TUNNEL) {
+                return tlsProtocols;
+            } else if (isTls13Enabled(context)) {
+                return TLS_PROTOCOLS;
+            }
+
+            // Not sure if we need to check the JDK version, suggest not.
+            if (logger.isWarnEnabled()) {
+                logger.warn("{} {} does not support TLS1.2, TLS1.1 is disabled in latest JDKs",
+                    context.isMariaDb() ? "MariaDB" : "MySQL",
+                    context.getServerVersion());
+            }
+
+            return OLD_TLS_PROTOCOLS;
+        }
+
+        static MySqlSslContextSpec forClient(MySqlSslConfiguration ssl, String[] protocols) {
             // Same default configuration as TcpSslContextSpec.
             SslContextBuilder builder = SslContextBuilder.forClient()
                 .sslProvider(OpenSsl.isAvailable() ? OPENSSL : JDK)
                 .ciphers(null, IdentityCipherSuiteFilter.INSTANCE)
                 .applicationProtocolConfig(null);
-            String[] tlsProtocols = ssl.getTlsVersion();
-
-            if (tlsProtocols.length > 0 || ssl.getSslMode() == SslMode.TUNNEL) {
-                if (tlsProtocols.length > 0) {
-                    builder.protocols(tlsProtocols);
-                }
-            } else if (isTls13Enabled(context)) {
-                builder.protocols(TLS_PROTOCOLS);
-            } else {
-                // Not sure if we need to check the JDK version, suggest not.
-                if (logger.isWarnEnabled()) {
-                    logger.warn("{} {} does not support TLS1.2, TLS1.1 is disabled in latest JDKs",
-                        context.isMariaDb() ? "MariaDB" : "MySQL",
-                        context.getServerVersion());
-                }
 
-                builder.protocols(OLD_TLS_PROTOCOLS);
+            if (protocols.length > 0) {
+                builder.protocols(protocols);
             }
 
             String sslKey = ssl.getSslKey();
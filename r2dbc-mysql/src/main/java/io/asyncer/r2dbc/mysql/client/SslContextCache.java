@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.client;
+
+import io.asyncer.r2dbc.mysql.SslSessionMetrics;
+import io.netty.handler.ssl.SslContext;
+
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A cache of {@link SslContext}s which is shared among all connections created by the same connection factory, so
+ * connections can resume TLS sessions from the session cache of the {@link SslContext}.
+ * <p>
+ * The {@link SslContext} depends on the TLS protocols which may be chosen by the server version, so it is cached by
+ * the protocols.
+ * <p>
+ * Note: it is an internal utility, should not be used outer than {@literal r2dbc-mysql}.
+ */
+public final class SslContextCache implements SslSessionMetrics {
+
+    private final ConcurrentMap<List<String>, SslContext> contexts = new ConcurrentHashMap<>();
+
+    private final LongAdder fullHandshakes = new LongAdder();
+
+    private final LongAdder resumedHandshakes = new LongAdder();
+
+    @Override
+    public long getFullHandshakes() {
+        return fullHandshakes.sum();
+    }
+
+    @Override
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    SslContext get(String[] protocols, Supplier<SslContext> builder) {
+        return contexts.computeIfAbsent(Arrays.asList(protocols), ignored -> builder.get());
+    }
+
+    /**
+     * Gets the IDs of sessions which are cached by the session context of a {@link SslContext}. It should be
+     * called before a handshake, so that {@link #isResumed(Set, SSLSession)} can check if the handshake resumed
+     * one of them.
+     *
+     * @param context the {@link SslContext} which creates the engine of the handshake.
+     * @return the IDs of cached sessions.
+     */
+    static Set<ByteBuffer> cachedSessionIds(SslContext context) {
+        SSLSessionContext sessions = context.sessionContext();
+
+        if (sessions == null) {
+            return Collections.emptySet();
+        }
+
+        Set<ByteBuffer> ids = new HashSet<>();
+        Enumeration<byte[]> it = sessions.getIds();
+
+        while (it.hasMoreElements()) {
+            ids.add(ByteBuffer.wrap(it.nextElement()));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Checks if a completed handshake resumed a cached session. A resumed session has the ID of the cached session,
+     * and a full handshake creates a session with a new ID. Note that a TLSv1.3 session is resumed from the session
+     * which is created by a {@code NewSessionTicket} after the previous handshake, so its ID is different from the
+     * ID of the previous session but still cached.
+     *
+     * @param cachedSessionIds the IDs of cached sessions before the handshake.
+     * @param session          the session of the completed handshake.
+     * @return if the session is resumed.
+     */
+    static boolean isResumed(Set<ByteBuffer> cachedSessionIds, SSLSession session) {
+        byte[] id = session.getId();
+
+        return id != null && id.length > 0 && cachedSessionIds.contains(ByteBuffer.wrap(id));
+    }
+
+    void onHandshake(boolean resumed) {
+        if (resumed) {
+            resumedHandshakes.increment();
+        } else {
+            fullHandshakes.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SslContextCache{contexts=" + contexts.size() + ", fullHandshakes=" + fullHandshakes +
+            ", resumedHandshakes=" + resumedHandshakes + '}';
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.codec;
+
+import io.asyncer.r2dbc.mysql.MySqlParameter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base class considers non null scalar values for {@link MySqlParameter} implementations, which can be
+ * written synchronously into a buffer of the execute message.
+ */
+abstract class AbstractScalarMySqlParameter extends AbstractMySqlParameter {
+
+    @Override
+    public final Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
+        return Mono.fromSupplier(() -> {
+            ByteBuf buf = allocator.buffer(binarySize());
+
+            try {
+                writeBinary(buf);
+                return buf;
+            } catch (Throwable e) {
+                buf.release();
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public abstract int binarySize();
+
+    @Override
+    public abstract void writeBinary(ByteBuf buf);
+}
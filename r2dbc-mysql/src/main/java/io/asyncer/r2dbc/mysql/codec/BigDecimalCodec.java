@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -128,7 +127,7 @@ final class BigDecimalCodec extends AbstractClassedCodec<BigDecimal> {
         return new BigDecimal(buf.toString(StandardCharsets.US_ASCII));
     }
 
-    private static final class BigDecimalMySqlParameter extends AbstractMySqlParameter {
+    private static final class BigDecimalMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final BigDecimal value;
 
@@ -137,8 +136,13 @@ final class BigDecimalCodec extends AbstractClassedCodec<BigDecimal> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> CodecUtils.encodeAscii(allocator, value.toString()));
+        public int binarySize() {
+            return CodecUtils.asciiSize(value.toString());
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            CodecUtils.writeAscii(buf, value.toString());
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -140,7 +139,7 @@ final class BigIntegerCodec extends AbstractClassedCodec<BigInteger> {
         return new BigDecimal(buf.toString(StandardCharsets.US_ASCII)).toBigInteger();
     }
 
-    private static final class BigIntegerMySqlParameter extends AbstractMySqlParameter {
+    private static final class BigIntegerMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final BigInteger value;
 
@@ -149,8 +148,13 @@ final class BigIntegerCodec extends AbstractClassedCodec<BigInteger> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> CodecUtils.encodeAscii(allocator, value.toString()));
+        public int binarySize() {
+            return CodecUtils.asciiSize(value.toString());
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            CodecUtils.writeAscii(buf, value.toString());
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufUtil;
 import reactor.core.publisher.Mono;
 
@@ -109,7 +108,7 @@ final class BitSetCodec extends AbstractClassedCodec<BitSet> {
         return bytes;
     }
 
-    private static final class BitSetMySqlParameter extends AbstractMySqlParameter {
+    private static final class BitSetMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final long value;
 
@@ -121,16 +120,34 @@ final class BitSetCodec extends AbstractClassedCodec<BitSet> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
+        public int binarySize() {
             switch (type) {
                 case TINYINT:
-                    return Mono.fromSupplier(() -> allocator.buffer(Byte.BYTES).writeByte((int) value));
+                    return Byte.BYTES;
                 case SMALLINT:
-                    return Mono.fromSupplier(() -> allocator.buffer(Short.BYTES).writeShortLE((int) value));
+                    return Short.BYTES;
                 case INT:
-                    return Mono.fromSupplier(() -> allocator.buffer(Integer.BYTES).writeIntLE((int) value));
+                    return Integer.BYTES;
                 default: // BIGINT
-                    return Mono.fromSupplier(() -> allocator.buffer(Long.BYTES).writeLongLE(value));
+                    return Long.BYTES;
+            }
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            switch (type) {
+                case TINYINT:
+                    buf.writeByte((int) value);
+                    break;
+                case SMALLINT:
+                    buf.writeShortLE((int) value);
+                    break;
+                case INT:
+                    buf.writeIntLE((int) value);
+                    break;
+                default: // BIGINT
+                    buf.writeLongLE(value);
+                    break;
             }
         }
 
@@ -23,7 +23,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import reactor.core.publisher.Mono;
 
@@ -101,7 +100,7 @@ final class BooleanCodec extends AbstractPrimitiveCodec<Boolean> {
         return b.compareTo(BigInteger.valueOf(0)) > 0 || b.compareTo(BigInteger.valueOf(-1)) == 0;
     }
 
-    private static final class BooleanMySqlParameter extends AbstractMySqlParameter {
+    private static final class BooleanMySqlParameter extends AbstractScalarMySqlParameter {
 
         private static final BooleanMySqlParameter TRUE = new BooleanMySqlParameter(true);
 
@@ -114,8 +113,13 @@ final class BooleanCodec extends AbstractPrimitiveCodec<Boolean> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> allocator.buffer(Byte.BYTES).writeByte(value ? 1 : 0));
+        public int binarySize() {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeByte(value ? 1 : 0);
         }
 
         @Override
@@ -20,10 +20,12 @@ import io.asyncer.r2dbc.mysql.MySqlParameter;
 import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
@@ -66,36 +68,33 @@ final class ByteArrayCodec extends AbstractClassedCodec<byte[]> {
         return metadata.getType().isBinary();
     }
 
-    static ByteBuf encodeBytes(ByteBufAllocator alloc, byte[] value) {
-        int size = value.length;
+    private static final class ByteArrayMySqlParameter extends AbstractScalarMySqlParameter {
 
-        if (size == 0) {
-            // It is zero of var int, not terminal.
-            return alloc.buffer(Byte.BYTES).writeByte(0);
-        }
-
-        ByteBuf buf = alloc.buffer(VarIntUtils.varIntBytes(size) + size);
+        private final byte[] value;
 
-        try {
-            VarIntUtils.writeVarInt(buf, size);
-            return buf.writeBytes(value);
-        } catch (Throwable e) {
-            buf.release();
-            throw e;
+        private ByteArrayMySqlParameter(byte[] value) {
+            this.value = value;
         }
-    }
 
-    private static final class ByteArrayMySqlParameter extends AbstractMySqlParameter {
+        @Override
+        public int binarySize() {
+            return VarIntUtils.varIntBytes(value.length) + value.length;
+        }
 
-        private final byte[] value;
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            VarIntUtils.writeVarInt(buf, value.length);
+            buf.writeBytes(value);
+        }
 
-        private ByteArrayMySqlParameter(byte[] value) {
-            this.value = value;
+        @Override
+        public boolean isLongData() {
+            return value.length > Packets.MAX_LONG_DATA_SIZE;
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> encodeBytes(allocator, value));
+        public Mono<ByteBuf> publishLongData(ByteBufAllocator allocator) {
+            return Mono.fromSupplier(() -> Unpooled.wrappedBuffer(value));
         }
 
         @Override
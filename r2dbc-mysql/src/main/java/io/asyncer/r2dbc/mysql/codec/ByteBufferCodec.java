@@ -20,9 +20,11 @@ import io.asyncer.r2dbc.mysql.MySqlParameter;
 import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
@@ -70,7 +72,7 @@ final class ByteBufferCodec extends AbstractClassedCodec<ByteBuffer> {
         return metadata.getType().isBinary();
     }
 
-    private static final class ByteBufferMySqlParameter extends AbstractMySqlParameter {
+    private static final class ByteBufferMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final ByteBuffer buffer;
 
@@ -79,24 +81,26 @@ final class ByteBufferCodec extends AbstractClassedCodec<ByteBuffer> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> {
-                if (!buffer.hasRemaining()) {
-                    // It is zero of var int, not terminal.
-                    return allocator.buffer(Byte.BYTES).writeByte(0);
-                }
-
-                int size = buffer.remaining();
-                ByteBuf buf = allocator.buffer(VarIntUtils.varIntBytes(size) + size);
-
-                try {
-                    VarIntUtils.writeVarInt(buf, size);
-                    return buf.writeBytes(buffer);
-                } catch (Throwable e) {
-                    buf.release();
-                    throw e;
-                }
-            });
+        public int binarySize() {
+            int size = buffer.remaining();
+
+            return VarIntUtils.varIntBytes(size) + size;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            VarIntUtils.writeVarInt(buf, buffer.remaining());
+            buf.writeBytes(buffer);
+        }
+
+        @Override
+        public boolean isLongData() {
+            return buffer.remaining() > Packets.MAX_LONG_DATA_SIZE;
+        }
+
+        @Override
+        public Mono<ByteBuf> publishLongData(ByteBufAllocator allocator) {
+            return Mono.fromSupplier(() -> Unpooled.wrappedBuffer(buffer));
         }
 
         @Override
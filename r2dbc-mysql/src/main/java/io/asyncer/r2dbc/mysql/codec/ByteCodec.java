@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 /**
@@ -56,7 +55,7 @@ final class ByteCodec extends AbstractPrimitiveCodec<Byte> {
         return metadata.getType().isNumeric();
     }
 
-    static final class ByteMySqlParameter extends AbstractMySqlParameter {
+    static final class ByteMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final byte value;
 
@@ -65,8 +64,13 @@ final class ByteCodec extends AbstractPrimitiveCodec<Byte> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> allocator.buffer(Byte.BYTES).writeByte(value));
+        public int binarySize() {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeByte(value);
         }
 
         @Override
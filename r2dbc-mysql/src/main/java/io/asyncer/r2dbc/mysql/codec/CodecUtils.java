@@ -18,7 +18,6 @@ package io.asyncer.r2dbc.mysql.codec;
 
 import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.ParameterizedType;
@@ -54,31 +53,27 @@ final class CodecUtils {
     }
 
     /**
-     * Encodes a {@link String} as a {@link ByteBuf} in ASCII.
+     * Gets the size of a {@link String} in ASCII with a var integer length prefix.
      *
-     * @param alloc the allocator for create {@link ByteBuf}.
      * @param ascii the {@link String} which should only contain ASCII characters.
-     * @return encoded {@link ByteBuf}.
+     * @return the encoded size.
      */
-    static ByteBuf encodeAscii(ByteBufAllocator alloc, String ascii) {
+    static int asciiSize(String ascii) {
         // Using ASCII, so byte size is string length.
         int size = ascii.length();
 
-        if (size == 0) {
-            // It is zero of var int, not terminal.
-            return alloc.buffer(Byte.BYTES).writeByte(0);
-        }
-
-        ByteBuf buf = alloc.buffer(VarIntUtils.varIntBytes(size) + size);
+        return VarIntUtils.varIntBytes(size) + size;
+    }
 
-        try {
-            VarIntUtils.writeVarInt(buf, size);
-            buf.writeCharSequence(ascii, StandardCharsets.US_ASCII);
-            return buf;
-        } catch (Throwable e) {
-            buf.release();
-            throw e;
-        }
+    /**
+     * Writes a {@link String} in ASCII with a var integer length prefix into a {@link ByteBuf}.
+     *
+     * @param buf   the {@link ByteBuf} to write into.
+     * @param ascii the {@link String} which should only contain ASCII characters.
+     */
+    static void writeAscii(ByteBuf buf, String ascii) {
+        VarIntUtils.writeVarInt(buf, ascii.length());
+        buf.writeCharSequence(ascii, StandardCharsets.US_ASCII);
     }
 
     /**
@@ -23,6 +23,7 @@ import io.netty.buffer.ByteBufAllocator;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Objects;
 
 /**
  * Bind all codecs for all types.
@@ -61,6 +62,82 @@ public interface Codecs {
     <T> T decode(FieldValue value, MySqlReadableMetadata metadata, ParameterizedType type, boolean binary,
         CodecContext context);
 
+    /**
+     * Decode a {@link FieldValue} as an {@code int}, it should avoid boxing if possible.
+     *
+     * @param value    the {@link FieldValue}.
+     * @param metadata the metadata of the column or the {@code OUT} parameter.
+     * @param binary   if the value should be decoded by binary protocol.
+     * @param context  the codec context.
+     * @return the decoded result.
+     * @throws IllegalArgumentException if any parameter is {@code null}, or {@code value} cannot be decoded.
+     * @throws NullPointerException     if {@code value} is a {@code null} value.
+     * @since 1.4.0
+     */
+    default int decodeInt(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        Integer result = decode(value, metadata, Integer.TYPE, binary, context);
+
+        return Objects.requireNonNull(result, "value must not be a null value");
+    }
+
+    /**
+     * Decode a {@link FieldValue} as a {@code long}, it should avoid boxing if possible.
+     *
+     * @param value    the {@link FieldValue}.
+     * @param metadata the metadata of the column or the {@code OUT} parameter.
+     * @param binary   if the value should be decoded by binary protocol.
+     * @param context  the codec context.
+     * @return the decoded result.
+     * @throws IllegalArgumentException if any parameter is {@code null}, or {@code value} cannot be decoded.
+     * @throws NullPointerException     if {@code value} is a {@code null} value.
+     * @since 1.4.0
+     */
+    default long decodeLong(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        Long result = decode(value, metadata, Long.TYPE, binary, context);
+
+        return Objects.requireNonNull(result, "value must not be a null value");
+    }
+
+    /**
+     * Decode a {@link FieldValue} as a {@code double}, it should avoid boxing if possible.
+     *
+     * @param value    the {@link FieldValue}.
+     * @param metadata the metadata of the column or the {@code OUT} parameter.
+     * @param binary   if the value should be decoded by binary protocol.
+     * @param context  the codec context.
+     * @return the decoded result.
+     * @throws IllegalArgumentException if any parameter is {@code null}, or {@code value} cannot be decoded.
+     * @throws NullPointerException     if {@code value} is a {@code null} value.
+     * @since 1.4.0
+     */
+    default double decodeDouble(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        Double result = decode(value, metadata, Double.TYPE, binary, context);
+
+        return Objects.requireNonNull(result, "value must not be a null value");
+    }
+
+    /**
+     * Decode a {@link FieldValue} as a {@code boolean}, it should avoid boxing if possible.
+     *
+     * @param value    the {@link FieldValue}.
+     * @param metadata the metadata of the column or the {@code OUT} parameter.
+     * @param binary   if the value should be decoded by binary protocol.
+     * @param context  the codec context.
+     * @return the decoded result.
+     * @throws IllegalArgumentException if any parameter is {@code null}, or {@code value} cannot be decoded.
+     * @throws NullPointerException     if {@code value} is a {@code null} value.
+     * @since 1.4.0
+     */
+    default boolean decodeBoolean(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        Boolean result = decode(value, metadata, Boolean.TYPE, binary, context);
+
+        return Objects.requireNonNull(result, "value must not be a null value");
+    }
+
     /**
      * Decode the last inserted ID from {@code OkMessage} as a specified {@link Class type}.
      *
@@ -33,9 +33,13 @@ import java.lang.reflect.ParameterizedType;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -86,6 +90,19 @@ final class DefaultCodecs implements Codecs {
         ByteArrayCodec.INSTANCE
     );
 
+    /**
+     * The built-in codecs, their decoding resolutions only depend on the {@link MySqlType}, the precision (for
+     * {@link Boolean}) and the target class, their encoding resolutions only depend on the class of value (except
+     * {@link SetCodec}), so the resolutions can be cached.
+     */
+    private static final Set<Codec<?>> BUILT_IN = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private static final int DECODE_INDEXES = MySqlType.values().length << 1;
+
+    static {
+        BUILT_IN.addAll(DEFAULT_CODECS);
+    }
+
     private final List<Codec<?>> codecs;
 
     private final ParameterizedCodec<?>[] parameterizedCodecs;
@@ -96,6 +113,29 @@ final class DefaultCodecs implements Codecs {
 
     private final Map<Class<?>, Codec<?>> fastPath;
 
+    /**
+     * Resolved codecs for decoding, keyed by the target class and indexed by {@link #decodeIndex}. It only caches
+     * the resolutions which are decided by built-in codecs, because custom codecs may decide by any metadata.
+     */
+    private final Map<Class<?>, Codec<?>[]> decodeCache = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved codecs for encoding, keyed by the class of value. It only caches the resolutions which are decided
+     * by built-in codecs.
+     */
+    private final Map<Class<?>, Codec<?>> encodeCache = new ConcurrentHashMap<>();
+
+    /**
+     * If the built-in codecs are used for primitive types, then they can be decoded without boxing.
+     */
+    private final boolean primitiveInt;
+
+    private final boolean primitiveLong;
+
+    private final boolean primitiveDouble;
+
+    private final boolean primitiveBoolean;
+
     private DefaultCodecs(List<Codec<?>> codecs) {
         requireNonNull(codecs, "codecs must not be null");
 
@@ -129,6 +169,10 @@ final class DefaultCodecs implements Codecs {
         }
 
         this.fastPath = fastPath;
+        this.primitiveInt = fastPath.get(Integer.TYPE) == IntegerCodec.INSTANCE;
+        this.primitiveLong = fastPath.get(Long.TYPE) == LongCodec.INSTANCE;
+        this.primitiveDouble = fastPath.get(Double.TYPE) == DoubleCodec.INSTANCE;
+        this.primitiveBoolean = fastPath.get(Boolean.TYPE) == BooleanCodec.INSTANCE;
         this.codecs = codecs;
         this.massiveCodecs = massiveCodecs.toArray(new MassiveCodec<?>[0]);
         this.massiveParameterizedCodecs = massiveParamCodecs.toArray(new MassiveParameterizedCodec<?>[0]);
@@ -185,6 +229,47 @@ final class DefaultCodecs implements Codecs {
         throw new IllegalArgumentException("Unknown value " + value.getClass().getSimpleName());
     }
 
+    @Override
+    public int decodeInt(FieldValue value, MySqlReadableMetadata metadata, boolean binary, CodecContext context) {
+        if (primitiveInt && value instanceof NormalFieldValue && IntegerCodec.INSTANCE.doCanDecode(metadata)) {
+            return IntegerCodec.decodeInt(((NormalFieldValue) value).getBufferSlice(), binary, metadata.getType());
+        }
+
+        return Codecs.super.decodeInt(value, metadata, binary, context);
+    }
+
+    @Override
+    public long decodeLong(FieldValue value, MySqlReadableMetadata metadata, boolean binary, CodecContext context) {
+        if (primitiveLong && value instanceof NormalFieldValue && LongCodec.INSTANCE.doCanDecode(metadata)) {
+            return LongCodec.decodeLong(((NormalFieldValue) value).getBufferSlice(), binary, metadata.getType());
+        }
+
+        return Codecs.super.decodeLong(value, metadata, binary, context);
+    }
+
+    @Override
+    public double decodeDouble(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        if (primitiveDouble && value instanceof NormalFieldValue && DoubleCodec.INSTANCE.doCanDecode(metadata)) {
+            return DoubleCodec.decodeDouble(((NormalFieldValue) value).getBufferSlice(), binary,
+                metadata.getType());
+        }
+
+        return Codecs.super.decodeDouble(value, metadata, binary, context);
+    }
+
+    @Override
+    public boolean decodeBoolean(FieldValue value, MySqlReadableMetadata metadata, boolean binary,
+        CodecContext context) {
+        if (primitiveBoolean && value instanceof NormalFieldValue && BooleanCodec.INSTANCE.doCanDecode(metadata)) {
+            // Boolean values are cached, so it will not allocate.
+            return BooleanCodec.INSTANCE.decode(((NormalFieldValue) value).getBufferSlice(), metadata,
+                Boolean.TYPE, binary, context);
+        }
+
+        return Codecs.super.decodeBoolean(value, metadata, binary, context);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T decodeLastInsertId(long value, Class<?> type) {
@@ -227,19 +312,46 @@ final class DefaultCodecs implements Codecs {
             return encodeNull();
         }
 
+        Class<?> valueClass = valueToEncode.getClass();
+        Codec<?> resolved = encodeCache.get(valueClass);
+
+        if (resolved != null) {
+            return resolved.encode(valueToEncode, context);
+        }
+
         Codec<?> fast = encodeFast(valueToEncode);
+        boolean cacheable = true;
 
-        if (fast != null && fast.canEncode(valueToEncode)) {
-            return fast.encode(valueToEncode, context);
+        if (fast != null) {
+            cacheable = isEncodeCacheable(fast);
+
+            if (fast.canEncode(valueToEncode)) {
+                resolved = fast;
+            }
         }
 
-        for (Codec<?> codec : codecs) {
-            if (codec != fast && codec.canEncode(valueToEncode)) {
-                return codec.encode(valueToEncode, context);
+        if (resolved == null) {
+            for (Codec<?> codec : codecs) {
+                if (codec != fast) {
+                    cacheable &= isEncodeCacheable(codec);
+
+                    if (codec.canEncode(valueToEncode)) {
+                        resolved = codec;
+                        break;
+                    }
+                }
             }
         }
 
-        throw new IllegalArgumentException("Cannot encode " + valueToEncode.getClass());
+        if (resolved == null) {
+            throw new IllegalArgumentException("Cannot encode " + valueClass);
+        }
+
+        if (cacheable) {
+            encodeCache.putIfAbsent(valueClass, resolved);
+        }
+
+        return resolved.encode(valueToEncode, context);
     }
 
     @Nullable
@@ -290,21 +402,55 @@ final class DefaultCodecs implements Codecs {
     @Nullable
     private <T> T decodeNormal(NormalFieldValue value, MySqlReadableMetadata metadata, Class<?> type,
         boolean binary, CodecContext context) {
-        Codec<T> fast = decodeFast(type);
+        Codec<T> codec = resolveDecoder(metadata, type);
+
+        return codec.decode(value.getBufferSlice(), metadata, type, binary, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Codec<T> resolveDecoder(MySqlReadableMetadata metadata, Class<?> type) {
+        int index = decodeIndex(metadata);
+        Codec<?>[] cached = decodeCache.get(type);
 
-        if (fast != null && fast.canDecode(metadata, type)) {
-            return fast.decode(value.getBufferSlice(), metadata, type, binary, context);
+        if (cached != null && cached[index] != null) {
+            return (Codec<T>) cached[index];
         }
 
-        for (Codec<?> codec : codecs) {
-            if (codec != fast && codec.canDecode(metadata, type)) {
-                @SuppressWarnings("unchecked")
-                Codec<T> c = (Codec<T>) codec;
-                return c.decode(value.getBufferSlice(), metadata, type, binary, context);
+        Codec<?> fast = decodeFast(type);
+        Codec<?> resolved = null;
+        boolean cacheable = true;
+
+        if (fast != null) {
+            cacheable = BUILT_IN.contains(fast);
+
+            if (fast.canDecode(metadata, type)) {
+                resolved = fast;
             }
         }
 
-        throw new IllegalArgumentException("Cannot decode " + type + " for " + metadata.getType());
+        if (resolved == null) {
+            for (Codec<?> codec : codecs) {
+                if (codec != fast) {
+                    cacheable &= BUILT_IN.contains(codec);
+
+                    if (codec.canDecode(metadata, type)) {
+                        resolved = codec;
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (resolved == null) {
+            throw new IllegalArgumentException("Cannot decode " + type + " for " + metadata.getType());
+        }
+
+        if (cacheable) {
+            // Racy writes are safe, all threads resolve the same codec for the same index.
+            decodeCache.computeIfAbsent(type, k -> new Codec<?>[DECODE_INDEXES])[index] = resolved;
+        }
+
+        return (Codec<T>) resolved;
     }
 
     @Nullable
@@ -355,6 +501,20 @@ final class DefaultCodecs implements Codecs {
         throw new IllegalArgumentException("Cannot decode massive  " + type + " for " + metadata.getType());
     }
 
+    private static boolean isEncodeCacheable(Codec<?> codec) {
+        // SetCodec checks the elements of the value.
+        return codec != SetCodec.INSTANCE && BUILT_IN.contains(codec);
+    }
+
+    private static int decodeIndex(MySqlReadableMetadata metadata) {
+        MySqlType type = metadata.getType();
+        // The precision only affects built-in codecs for BIT and TINYINT.
+        boolean precisionOne = (type == MySqlType.BIT || type == MySqlType.TINYINT) &&
+            INTEGER_ONE.equals(metadata.getPrecision());
+
+        return (type.ordinal() << 1) | (precisionOne ? 1 : 0);
+    }
+
     /**
      * Chooses the {@link Class} to use for decoding. It helps to find {@link Codec} on the fast path. e.g.
      * {@link Object} -> {@link String} for {@code TEXT}, {@link Number} -> {@link Integer} for {@code INT}, etc.
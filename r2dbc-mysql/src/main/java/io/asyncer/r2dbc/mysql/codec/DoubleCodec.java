@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
@@ -40,21 +39,7 @@ final class DoubleCodec extends AbstractPrimitiveCodec<Double> {
     @Override
     public Double decode(ByteBuf value, MySqlReadableMetadata metadata, Class<?> target, boolean binary,
         CodecContext context) {
-        MySqlType type = metadata.getType();
-
-        if (binary) {
-            return decodeBinary(value, type);
-        }
-
-        switch (metadata.getType()) {
-            case FLOAT:
-            case DOUBLE:
-            case DECIMAL:
-            case BIGINT_UNSIGNED:
-                return Double.parseDouble(value.toString(StandardCharsets.US_ASCII));
-            default:
-                return (double) CodecUtils.parseLong(value);
-        }
+        return decodeDouble(value, binary, metadata.getType());
     }
 
     @Override
@@ -72,6 +57,22 @@ final class DoubleCodec extends AbstractPrimitiveCodec<Double> {
         return metadata.getType().isNumeric();
     }
 
+    static double decodeDouble(ByteBuf buf, boolean binary, MySqlType type) {
+        if (binary) {
+            return decodeBinary(buf, type);
+        }
+
+        switch (type) {
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case BIGINT_UNSIGNED:
+                return Double.parseDouble(buf.toString(StandardCharsets.US_ASCII));
+            default:
+                return (double) CodecUtils.parseLong(buf);
+        }
+    }
+
     private static double decodeBinary(ByteBuf buf, MySqlType type) {
         switch (type) {
             case BIGINT_UNSIGNED:
@@ -110,7 +111,7 @@ final class DoubleCodec extends AbstractPrimitiveCodec<Double> {
         throw new IllegalStateException("Cannot decode type " + type + " as a Double");
     }
 
-    private static final class DoubleMySqlParameter extends AbstractMySqlParameter {
+    private static final class DoubleMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final double value;
 
@@ -119,16 +120,13 @@ final class DoubleCodec extends AbstractPrimitiveCodec<Double> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> {
-                ByteBuf buf = allocator.buffer(Double.BYTES);
-                try {
-                    return buf.writeDoubleLE(value);
-                } catch (Throwable e) {
-                    buf.release();
-                    throw e;
-                }
-            });
+        public int binarySize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeDoubleLE(value);
         }
 
         @Override
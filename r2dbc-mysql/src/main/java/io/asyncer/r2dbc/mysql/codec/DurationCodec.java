@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -160,7 +159,7 @@ final class DurationCodec extends AbstractClassedCodec<Duration> {
         return Duration.ofSeconds(isNegative ? -totalSeconds : totalSeconds, isNegative ? -nanos : nanos);
     }
 
-    private static final class DurationMySqlParameter extends AbstractMySqlParameter {
+    private static final class DurationMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final Duration value;
 
@@ -169,50 +168,45 @@ final class DurationCodec extends AbstractClassedCodec<Duration> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> {
-                long seconds = value.getSeconds();
-                int nanos = value.getNano();
-
-                if (seconds == 0 && nanos == 0) {
-                    // It is zero of var int, not terminal.
-                    return allocator.buffer(Byte.BYTES).writeByte(0);
-                }
-
-                boolean isNegative = value.isNegative();
-                if (isNegative) {
-                    if (nanos > 0) {
-                        // Note: nanos should always be a positive integer or 0, see Duration.getNano().
-                        // So the seconds should be humanity seconds - 1, so +1 then negate.
-                        seconds = -(seconds + 1);
-                        nanos = NANOS_OF_SECOND - nanos;
-                    } else {
-                        seconds = -seconds;
-                    }
-                }
+        public int binarySize() {
+            return Byte.BYTES + MICRO_TIME_SIZE;
+        }
 
-                int size = nanos > 0 ? MICRO_TIME_SIZE : TIME_SIZE;
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            long seconds = value.getSeconds();
+            int nanos = value.getNano();
+
+            if (seconds == 0 && nanos == 0) {
+                // It is zero of var int, not terminal.
+                buf.writeByte(0);
+                return;
+            }
 
-                ByteBuf buf = allocator.buffer(Byte.BYTES + size);
+            boolean isNegative = value.isNegative();
+            if (isNegative) {
+                if (nanos > 0) {
+                    // Note: nanos should always be a positive integer or 0, see Duration.getNano().
+                    // So the seconds should be humanity seconds - 1, so +1 then negate.
+                    seconds = -(seconds + 1);
+                    nanos = NANOS_OF_SECOND - nanos;
+                } else {
+                    seconds = -seconds;
+                }
+            }
 
-                try {
-                    buf.writeByte(size)
-                        .writeBoolean(isNegative)
-                        .writeIntLE((int) (seconds / SECONDS_OF_DAY))
-                        .writeByte((int) ((seconds % SECONDS_OF_DAY) / SECONDS_OF_HOUR))
-                        .writeByte((int) ((seconds % SECONDS_OF_HOUR) / SECONDS_OF_MINUTE))
-                        .writeByte((int) (seconds % SECONDS_OF_MINUTE));
+            int size = nanos > 0 ? MICRO_TIME_SIZE : TIME_SIZE;
 
-                    if (nanos > 0) {
-                        return buf.writeIntLE(nanos / NANOS_OF_MICRO);
-                    }
+            buf.writeByte(size)
+                .writeBoolean(isNegative)
+                .writeIntLE((int) (seconds / SECONDS_OF_DAY))
+                .writeByte((int) ((seconds % SECONDS_OF_DAY) / SECONDS_OF_HOUR))
+                .writeByte((int) ((seconds % SECONDS_OF_HOUR) / SECONDS_OF_MINUTE))
+                .writeByte((int) (seconds % SECONDS_OF_MINUTE));
 
-                    return buf;
-                } catch (Throwable e) {
-                    buf.release();
-                    throw e;
-                }
-            });
+            if (nanos > 0) {
+                buf.writeIntLE(nanos / NANOS_OF_MICRO);
+            }
         }
 
         @Override
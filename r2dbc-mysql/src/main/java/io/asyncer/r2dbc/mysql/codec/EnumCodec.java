@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.Charset;
@@ -66,7 +65,7 @@ final class EnumCodec implements Codec<Enum> {
         return new EnumMySqlParameter((Enum<?>) value, context);
     }
 
-    private static final class EnumMySqlParameter extends AbstractMySqlParameter {
+    private static final class EnumMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final Enum<?> value;
 
@@ -78,8 +77,13 @@ final class EnumCodec implements Codec<Enum> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> StringCodec.encodeCharSequence(allocator, value.name(), context));
+        public int binarySize() {
+            return StringCodec.charSequenceSize(value.name());
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            StringCodec.writeCharSequence(buf, value.name(), context);
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
@@ -110,7 +109,7 @@ final class FloatCodec extends AbstractPrimitiveCodec<Float> {
         throw new IllegalStateException("Cannot decode type " + type + " as a Float");
     }
 
-    private static final class FloatMySqlParameter extends AbstractMySqlParameter {
+    private static final class FloatMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final float value;
 
@@ -119,16 +118,13 @@ final class FloatCodec extends AbstractPrimitiveCodec<Float> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> {
-                ByteBuf buf = allocator.buffer(Float.BYTES);
-                try {
-                    return buf.writeFloatLE(value);
-                } catch (Throwable e) {
-                    buf.release();
-                    throw e;
-                }
-            });
+        public int binarySize() {
+            return Float.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeFloatLE(value);
         }
 
         @Override
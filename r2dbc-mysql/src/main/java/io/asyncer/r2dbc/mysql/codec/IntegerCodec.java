@@ -23,7 +23,6 @@ import io.asyncer.r2dbc.mysql.codec.ByteCodec.ByteMySqlParameter;
 import io.asyncer.r2dbc.mysql.codec.ShortCodec.ShortMySqlParameter;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -121,7 +120,7 @@ final class IntegerCodec extends AbstractPrimitiveCodec<Integer> {
         return new BigDecimal(buf.toString(StandardCharsets.US_ASCII)).intValue();
     }
 
-    static final class IntMySqlParameter extends AbstractMySqlParameter {
+    static final class IntMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final int value;
 
@@ -130,8 +129,13 @@ final class IntegerCodec extends AbstractPrimitiveCodec<Integer> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> allocator.buffer(Integer.BYTES).writeIntLE(value));
+        public int binarySize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeIntLE(value);
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
@@ -98,18 +97,11 @@ final class LocalDateCodec extends AbstractClassedCodec<LocalDate> {
         return LocalDate.of(year, month, day);
     }
 
-    static ByteBuf encodeDate(ByteBufAllocator alloc, LocalDate date) {
-        ByteBuf buf = alloc.buffer(Byte.BYTES + DateTimes.DATE_SIZE);
-
-        try {
-            return buf.writeByte(DateTimes.DATE_SIZE)
-                .writeShortLE(date.getYear())
-                .writeByte(date.getMonthValue())
-                .writeByte(date.getDayOfMonth());
-        } catch (Throwable e) {
-            buf.release();
-            throw e;
-        }
+    static void encodeDate(ByteBuf buf, LocalDate date) {
+        buf.writeByte(DateTimes.DATE_SIZE)
+            .writeShortLE(date.getYear())
+            .writeByte(date.getMonthValue())
+            .writeByte(date.getDayOfMonth());
     }
 
     static void encodeDate(ParameterWriter writer, LocalDate date) {
@@ -158,7 +150,7 @@ final class LocalDateCodec extends AbstractClassedCodec<LocalDate> {
         writer.writeInt(day);
     }
 
-    private static final class LocalDateMySqlParameter extends AbstractMySqlParameter {
+    private static final class LocalDateMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final LocalDate value;
 
@@ -167,8 +159,13 @@ final class LocalDateCodec extends AbstractClassedCodec<LocalDate> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> encodeDate(allocator, value));
+        public int binarySize() {
+            return Byte.BYTES + DateTimes.DATE_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            encodeDate(buf, value);
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
@@ -88,34 +87,27 @@ final class LocalDateTimeCodec implements ParameterizedCodec<LocalDateTime> {
         return dateTime == null ? DateTimes.zeroDate(context.getZeroDateOption(), binary, ROUND) : dateTime;
     }
 
-    static ByteBuf encodeBinary(ByteBufAllocator alloc, LocalDateTime value) {
+    static void encodeBinary(ByteBuf buf, LocalDateTime value) {
         LocalTime time = value.toLocalTime();
 
         if (LocalTime.MIDNIGHT.equals(time)) {
-            return LocalDateCodec.encodeDate(alloc, value.toLocalDate());
+            LocalDateCodec.encodeDate(buf, value.toLocalDate());
+            return;
         }
 
         int nano = time.getNano();
         int bytes = nano > 0 ? DateTimes.MICRO_DATETIME_SIZE : DateTimes.DATETIME_SIZE;
-        ByteBuf buf = alloc.buffer(Byte.BYTES + bytes);
-
-        try {
-            buf.writeByte(bytes)
-                .writeShortLE(value.getYear())
-                .writeByte(value.getMonthValue())
-                .writeByte(value.getDayOfMonth())
-                .writeByte(time.getHour())
-                .writeByte(time.getMinute())
-                .writeByte(time.getSecond());
-
-            if (nano > 0) {
-                return buf.writeIntLE(nano / DateTimes.NANOS_OF_MICRO);
-            }
 
-            return buf;
-        } catch (Throwable e) {
-            buf.release();
-            throw e;
+        buf.writeByte(bytes)
+            .writeShortLE(value.getYear())
+            .writeByte(value.getMonthValue())
+            .writeByte(value.getDayOfMonth())
+            .writeByte(time.getHour())
+            .writeByte(time.getMinute())
+            .writeByte(time.getSecond());
+
+        if (nano > 0) {
+            buf.writeIntLE(nano / DateTimes.NANOS_OF_MICRO);
         }
     }
 
@@ -162,7 +154,7 @@ final class LocalDateTimeCodec implements ParameterizedCodec<LocalDateTime> {
         return LocalDateTime.of(date, LocalTime.of(hour, minute, second, nano));
     }
 
-    private static final class LocalDateTimeMySqlParameter extends AbstractMySqlParameter {
+    private static final class LocalDateTimeMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final LocalDateTime value;
 
@@ -171,8 +163,13 @@ final class LocalDateTimeCodec implements ParameterizedCodec<LocalDateTime> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> encodeBinary(allocator, value));
+        public int binarySize() {
+            return Byte.BYTES + DateTimes.MICRO_DATETIME_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            encodeBinary(buf, value);
         }
 
         @Override
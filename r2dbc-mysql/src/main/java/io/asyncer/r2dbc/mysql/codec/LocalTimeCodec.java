@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalTime;
@@ -148,33 +147,25 @@ final class LocalTimeCodec extends AbstractClassedCodec<LocalTime> {
         return LocalTime.of(hour % HOURS_OF_DAY, minute, second, (int) nano);
     }
 
-    static ByteBuf encodeBinary(ByteBufAllocator alloc, LocalTime time) {
+    static void encodeBinary(ByteBuf buf, LocalTime time) {
         if (LocalTime.MIDNIGHT.equals(time)) {
             // It is zero of var int, not terminal.
-            return alloc.buffer(Byte.BYTES).writeByte(0);
+            buf.writeByte(0);
+            return;
         }
 
         int nanos = time.getNano();
         int size = nanos > 0 ? MICRO_TIME_SIZE : TIME_SIZE;
 
-        ByteBuf buf = alloc.buffer(Byte.BYTES + size);
+        buf.writeByte(size)
+            .writeBoolean(false)
+            .writeIntLE(0)
+            .writeByte(time.getHour())
+            .writeByte(time.getMinute())
+            .writeByte(time.getSecond());
 
-        try {
-            buf.writeByte(size)
-                .writeBoolean(false)
-                .writeIntLE(0)
-                .writeByte(time.getHour())
-                .writeByte(time.getMinute())
-                .writeByte(time.getSecond());
-
-            if (nanos > 0) {
-                return buf.writeIntLE(nanos / NANOS_OF_MICRO);
-            }
-
-            return buf;
-        } catch (Throwable e) {
-            buf.release();
-            throw e;
+        if (nanos > 0) {
+            buf.writeIntLE(nanos / NANOS_OF_MICRO);
         }
     }
 
@@ -195,7 +186,7 @@ final class LocalTimeCodec extends AbstractClassedCodec<LocalTime> {
         return LocalTime.ofNanoOfDay(((total % NANOS_OF_DAY) + NANOS_OF_DAY) % NANOS_OF_DAY);
     }
 
-    private static final class LocalTimeMySqlParameter extends AbstractMySqlParameter {
+    private static final class LocalTimeMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final LocalTime value;
 
@@ -204,8 +195,13 @@ final class LocalTimeCodec extends AbstractClassedCodec<LocalTime> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> encodeBinary(allocator, value));
+        public int binarySize() {
+            return Byte.BYTES + MICRO_TIME_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            encodeBinary(buf, value);
         }
 
         @Override
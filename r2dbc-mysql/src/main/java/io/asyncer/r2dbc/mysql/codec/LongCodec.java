@@ -24,7 +24,6 @@ import io.asyncer.r2dbc.mysql.codec.IntegerCodec.IntMySqlParameter;
 import io.asyncer.r2dbc.mysql.codec.ShortCodec.ShortMySqlParameter;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -44,22 +43,7 @@ final class LongCodec extends AbstractPrimitiveCodec<Long> {
     @Override
     public Long decode(ByteBuf value, MySqlReadableMetadata metadata, Class<?> target, boolean binary,
         CodecContext context) {
-        MySqlType type = metadata.getType();
-
-        if (binary) {
-            return decodeBinary(value, type);
-        }
-
-        switch (type) {
-            case FLOAT:
-                return (long) Float.parseFloat(value.toString(StandardCharsets.US_ASCII));
-            case DOUBLE:
-                return (long) Double.parseDouble(value.toString(StandardCharsets.US_ASCII));
-            case DECIMAL:
-                return decimalLong(value);
-            default:
-                return CodecUtils.parseLong(value);
-        }
+        return decodeLong(value, binary, metadata.getType());
     }
 
     @Override
@@ -77,6 +61,23 @@ final class LongCodec extends AbstractPrimitiveCodec<Long> {
         return metadata.getType().isNumeric();
     }
 
+    static long decodeLong(ByteBuf buf, boolean binary, MySqlType type) {
+        if (binary) {
+            return decodeBinary(buf, type);
+        }
+
+        switch (type) {
+            case FLOAT:
+                return (long) Float.parseFloat(buf.toString(StandardCharsets.US_ASCII));
+            case DOUBLE:
+                return (long) Double.parseDouble(buf.toString(StandardCharsets.US_ASCII));
+            case DECIMAL:
+                return decimalLong(buf);
+            default:
+                return CodecUtils.parseLong(buf);
+        }
+    }
+
     static MySqlParameter encodeLong(long v) {
         if ((byte) v == v) {
             return new ByteMySqlParameter((byte) v);
@@ -127,7 +128,7 @@ final class LongCodec extends AbstractPrimitiveCodec<Long> {
         return new BigDecimal(buf.toString(StandardCharsets.US_ASCII)).longValue();
     }
 
-    private static final class LongMySqlParameter extends AbstractMySqlParameter {
+    private static final class LongMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final long value;
 
@@ -136,8 +137,13 @@ final class LongCodec extends AbstractPrimitiveCodec<Long> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> allocator.buffer(Long.BYTES).writeLongLE(value));
+        public int binarySize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeLongLE(value);
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -74,7 +73,7 @@ final class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
         return DateTimes.canDecodeDateTime(metadata.getType(), target, OffsetDateTime.class);
     }
 
-    private static final class OffsetDateTimeMySqlParameter extends AbstractMySqlParameter {
+    private static final class OffsetDateTimeMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final OffsetDateTime value;
 
@@ -86,8 +85,13 @@ final class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> LocalDateTimeCodec.encodeBinary(allocator, serverValue()));
+        public int binarySize() {
+            return Byte.BYTES + DateTimes.MICRO_DATETIME_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            LocalDateTimeCodec.encodeBinary(buf, serverValue());
         }
 
         @Override
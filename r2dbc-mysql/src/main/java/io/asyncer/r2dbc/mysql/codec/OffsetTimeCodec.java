@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
@@ -67,7 +66,7 @@ final class OffsetTimeCodec extends AbstractClassedCodec<OffsetTime> {
         return metadata.getType() == MySqlType.TIME;
     }
 
-    private static final class OffsetTimeMySqlParameter extends AbstractMySqlParameter {
+    private static final class OffsetTimeMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final OffsetTime value;
 
@@ -79,8 +78,13 @@ final class OffsetTimeCodec extends AbstractClassedCodec<OffsetTime> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> LocalTimeCodec.encodeBinary(allocator, serverValue()));
+        public int binarySize() {
+            return Byte.BYTES + DateTimes.MICRO_TIME_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            LocalTimeCodec.encodeBinary(buf, serverValue());
         }
 
         @Override
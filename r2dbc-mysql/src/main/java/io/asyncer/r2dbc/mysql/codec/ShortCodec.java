@@ -22,7 +22,6 @@ import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.codec.ByteCodec.ByteMySqlParameter;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import reactor.core.publisher.Mono;
 
 /**
@@ -63,7 +62,7 @@ final class ShortCodec extends AbstractPrimitiveCodec<Short> {
         return metadata.getType().isNumeric();
     }
 
-    static final class ShortMySqlParameter extends AbstractMySqlParameter {
+    static final class ShortMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final short value;
 
@@ -72,8 +71,13 @@ final class ShortCodec extends AbstractPrimitiveCodec<Short> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> allocator.buffer(Short.BYTES).writeShortLE(value));
+        public int binarySize() {
+            return Short.BYTES;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            buf.writeShortLE(value);
         }
 
         @Override
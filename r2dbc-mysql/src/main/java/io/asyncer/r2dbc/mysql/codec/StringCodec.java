@@ -22,10 +22,11 @@ import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Codec for {@link String}.
@@ -63,28 +64,34 @@ final class StringCodec extends AbstractClassedCodec<String> {
         return metadata.getType().isString();
     }
 
-    static ByteBuf encodeCharSequence(ByteBufAllocator allocator, CharSequence value, CodecContext context) {
+    static int charSequenceSize(CharSequence value) {
+        // Estimated by length, the buffer will be expanded if it contains multibyte characters.
         int length = value.length();
 
-        if (length <= 0) {
+        return VarIntUtils.varIntBytes(length) + length;
+    }
+
+    static void writeCharSequence(ByteBuf buf, CharSequence value, CodecContext context) {
+        if (value.length() <= 0) {
             // It is zero of var int, not terminal.
-            return allocator.buffer(Byte.BYTES).writeByte(0);
+            buf.writeByte(0);
+            return;
         }
 
         Charset charset = context.getClientCollation().getCharset();
-        ByteBuf content = allocator.buffer();
 
-        try {
-            VarIntUtils.reserveVarInt(content);
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            VarIntUtils.writeVarInt(buf, ByteBufUtil.utf8Bytes(value));
+            ByteBufUtil.writeUtf8(buf, value);
+        } else {
+            byte[] bytes = value.toString().getBytes(charset);
 
-            return VarIntUtils.setReservedVarInt(content, content.writeCharSequence(value, charset));
-        } catch (Throwable e) {
-            content.release();
-            throw e;
+            VarIntUtils.writeVarInt(buf, bytes.length);
+            buf.writeBytes(bytes);
         }
     }
 
-    private static final class StringMySqlParameter extends AbstractMySqlParameter {
+    private static final class StringMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final CharSequence value;
 
@@ -96,8 +103,13 @@ final class StringCodec extends AbstractClassedCodec<String> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> encodeCharSequence(allocator, value, context));
+        public int binarySize() {
+            return charSequenceSize(value);
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            writeCharSequence(buf, value, context);
         }
 
         @Override
@@ -21,7 +21,6 @@ import io.asyncer.r2dbc.mysql.ParameterWriter;
 import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
@@ -93,7 +92,7 @@ final class ZonedDateTimeCodec implements ParameterizedCodec<ZonedDateTime> {
             ZoneId.systemDefault());
     }
 
-    private static final class ZonedDateTimeMySqlParameter extends AbstractMySqlParameter {
+    private static final class ZonedDateTimeMySqlParameter extends AbstractScalarMySqlParameter {
 
         private final ZonedDateTime value;
 
@@ -105,8 +104,13 @@ final class ZonedDateTimeCodec implements ParameterizedCodec<ZonedDateTime> {
         }
 
         @Override
-        public Mono<ByteBuf> publishBinary(final ByteBufAllocator allocator) {
-            return Mono.fromSupplier(() -> LocalDateTimeCodec.encodeBinary(allocator, serverValue()));
+        public int binarySize() {
+            return Byte.BYTES + DateTimes.MICRO_DATETIME_SIZE;
+        }
+
+        @Override
+        public void writeBinary(ByteBuf buf) {
+            LocalDateTimeCodec.encodeBinary(buf, serverValue());
         }
 
         @Override
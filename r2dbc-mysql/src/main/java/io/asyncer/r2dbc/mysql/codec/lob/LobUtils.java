@@ -19,8 +19,10 @@ package io.asyncer.r2dbc.mysql.codec.lob;
 import io.asyncer.r2dbc.mysql.collation.CharCollation;
 import io.asyncer.r2dbc.mysql.internal.util.NettyBufferUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.r2dbc.spi.Blob;
 import io.r2dbc.spi.Clob;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -31,11 +33,20 @@ public final class LobUtils {
 
     /**
      * Create a {@link Blob} from only one {@link ByteBuf}.
+     * <p>
+     * If the {@link ByteBuf} is merged from multiple packets, the {@link Blob} will emit a {@code ByteBuffer} for each
+     * packet, and each packet can be released once it has been emitted.
      *
      * @param value the only one {@link ByteBuf}.
      * @return the {@link Blob} from singleton.
      */
     public static Blob createBlob(ByteBuf value) {
+        List<ByteBuf> packets = packets(value);
+
+        if (packets != null) {
+            return createBlob(packets);
+        }
+
         ByteBuf buf = value.retain();
 
         try {
@@ -107,5 +118,29 @@ public final class LobUtils {
         }
     }
 
+    /**
+     * Gets the packets of a field that is merged from multiple packets, without copying.
+     *
+     * @param value the {@link ByteBuf} of a field.
+     * @return the slices of all packets, or {@code null} if it is not merged from multiple packets.
+     */
+    @Nullable
+    private static List<ByteBuf> packets(ByteBuf value) {
+        ByteBuf unwrapped = value instanceof CompositeByteBuf ? value : value.unwrap();
+
+        if (!(unwrapped instanceof CompositeByteBuf)) {
+            return null;
+        }
+
+        CompositeByteBuf composite = (CompositeByteBuf) unwrapped;
+
+        // Only if the field is the entire composite, otherwise the offset of value is unknown.
+        if (composite.numComponents() <= 1 || composite.readableBytes() != value.readableBytes()) {
+            return null;
+        }
+
+        return composite.decompose(composite.readerIndex(), composite.readableBytes());
+    }
+
     private LobUtils() { }
 }
@@ -50,5 +50,11 @@ public final class Packets {
      */
     public static final byte TERMINAL = 0;
 
+    /**
+     * The max bytes size of parameter data in a single {@code COM_STMT_SEND_LONG_DATA} command, value is 1048576.
+     * A larger binary parameter of prepared statements will be sent by multiple commands.
+     */
+    public static final int MAX_LONG_DATA_SIZE = 1 << 20;
+
     private Packets() { }
 }
@@ -35,6 +35,8 @@ public final class StringUtils {
 
     private static final int ZONE_PREFIX_LENGTH = 6;
 
+    private static final String INFILE = "INFILE";
+
     /**
      * Quotes identifier with backticks, it will escape backticks in the identifier.
      *
@@ -112,6 +114,26 @@ public final class StringUtils {
         return "SET innodb_lock_wait_timeout=" + timeout.getSeconds();
     }
 
+    /**
+     * Checks if a SQL statement may request a {@code LOCAL INFILE} from the client, i.e. it contains the
+     * {@code INFILE} keyword anywhere in the statement. It is conservative, a statement that only contains the
+     * word in a string literal or comment is also considered.
+     *
+     * @param sql the SQL statement
+     * @return if the statement may be a {@code LOAD DATA LOCAL INFILE} or {@code LOAD XML LOCAL INFILE}
+     */
+    public static boolean mayLoadLocalInfile(String sql) {
+        int end = sql.length() - INFILE.length();
+
+        for (int i = 0; i <= end; ++i) {
+            if (sql.regionMatches(true, i, INFILE, 0, INFILE.length())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Parses a normalized {@link ZoneId} from a time zone string of MySQL.
      * <p>
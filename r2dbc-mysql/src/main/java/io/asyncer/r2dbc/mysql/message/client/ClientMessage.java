@@ -45,6 +45,17 @@ public interface ClientMessage {
         return true;
     }
 
+    /**
+     * Returns whether the message can be written before the responses of previous commands have been received.
+     * It should be a single command that would never change the decoding state and never require subsequent
+     * requests from the client.
+     *
+     * @return {@code true} if it can be pipelined.
+     */
+    default boolean isPipelinable() {
+        return false;
+    }
+
     /**
      * Encode a message into {@link ByteBuf}s.
      *
@@ -17,11 +17,15 @@
 package io.asyncer.r2dbc.mysql.message.client;
 
 import io.asyncer.r2dbc.mysql.ConnectionContext;
+import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.asyncer.r2dbc.mysql.internal.util.NettyBufferUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.ReferenceCountUtil;
 import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.R2dbcPermissionDeniedException;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
@@ -29,23 +33,53 @@ import reactor.core.publisher.SynchronousSink;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
 /**
  * A message considers as a chunk of a local in-file data.
+ * <p>
+ * The data is read from the requested file, or from a {@link Publisher} that is bound to the statement. Each
+ * buffer is sent as a packet, so a buffer larger than the maximum payload size will be split.
  */
 public final class LocalInfileResponse implements SubsequenceClientMessage {
 
+    /**
+     * A packet of the maximum payload size will be merged with the next one by the server, so the terminal empty
+     * packet must not follow it.
+     */
+    private static final int MAX_CHUNK_SIZE = Packets.MAX_PAYLOAD_SIZE - 1;
+
     private final String path;
 
+    @Nullable
+    private final Publisher<? extends ByteBuf> data;
+
     private final SynchronousSink<?> errorSink;
 
     public LocalInfileResponse(String path, SynchronousSink<?> errorSink) {
+        this(path, null, errorSink);
+    }
+
+    /**
+     * Creates a response of the local infile request.
+     *
+     * @param path      the requested file path.
+     * @param data      the bound data, or {@code null} if it should read the file.
+     * @param errorSink the sink to emit an error of reading data.
+     * @throws IllegalArgumentException if {@code path} is {@code null}.
+     * @since 1.4.0
+     */
+    public LocalInfileResponse(String path, @Nullable Publisher<? extends ByteBuf> data,
+        SynchronousSink<?> errorSink) {
         requireNonNull(path, "path must not be null");
 
         this.path = path;
+        this.data = data;
         this.errorSink = errorSink;
     }
 
@@ -57,31 +91,9 @@ public final class LocalInfileResponse implements SubsequenceClientMessage {
     @Override
     public Flux<ByteBuf> encode(ByteBufAllocator allocator, ConnectionContext context) {
         return Flux.defer(() -> {
-            int bufferSize = context.getLocalInfileBufferSize();
             AtomicReference<Throwable> error = new AtomicReference<>();
 
-            return Mono.<Path>create(sink -> {
-                try {
-                    Path safePath = context.getLocalInfilePath();
-                    Path file = Paths.get(this.path);
-
-                    if (safePath == null) {
-                        String message = "Allowed local file path not set, but attempted to load '" + file +
-                            '\'';
-                        sink.error(new R2dbcPermissionDeniedException(message));
-                    } else if (file.startsWith(safePath)) {
-                        sink.success(file);
-                    } else {
-                        String message = String.format("The file '%s' is not under the safe path '%s'",
-                            file, safePath);
-                        sink.error(new R2dbcPermissionDeniedException(message));
-                    }
-                } catch (InvalidPathException e) {
-                    sink.error(new R2dbcNonTransientResourceException("Invalid path: " + this.path, e));
-                } catch (Throwable e) {
-                    sink.error(e);
-                }
-            }).flatMapMany(p -> NettyBufferUtils.readFile(p, allocator, bufferSize)).onErrorComplete(e -> {
+            return readData(allocator, context).onErrorComplete(e -> {
                 // Server needs an empty buffer, so emit error to upstream instead of encoding stream.
                 error.set(e);
                 return true;
@@ -95,6 +107,106 @@ public final class LocalInfileResponse implements SubsequenceClientMessage {
         });
     }
 
+    /**
+     * Checks if the data is bound to the statement, otherwise the requested file should be read.
+     *
+     * @return if the data is bound.
+     * @since 1.4.0
+     */
+    public boolean isDataBound() {
+        return data != null;
+    }
+
+    /**
+     * Resolves the requested file with checking the allowed path. It is used by the transport to send the file
+     * without reading it into buffers, see also {@link #isDataBound()}.
+     *
+     * @param context the connection context.
+     * @return the requested file, or an error if it is not allowed to be loaded.
+     * @since 1.4.0
+     */
+    public Mono<Path> resolveFile(ConnectionContext context) {
+        return Mono.create(sink -> {
+            try {
+                Path safePath = context.getLocalInfilePath();
+                Path file = Paths.get(this.path);
+
+                if (safePath == null) {
+                    String message = "Allowed local file path not set, but attempted to load '" + file +
+                        '\'';
+                    sink.error(new R2dbcPermissionDeniedException(message));
+                } else if (file.startsWith(safePath)) {
+                    sink.success(file);
+                } else {
+                    String message = String.format("The file '%s' is not under the safe path '%s'",
+                        file, safePath);
+                    sink.error(new R2dbcPermissionDeniedException(message));
+                }
+            } catch (InvalidPathException e) {
+                sink.error(new R2dbcNonTransientResourceException("Invalid path: " + this.path, e));
+            } catch (Throwable e) {
+                sink.error(e);
+            }
+        });
+    }
+
+    /**
+     * Emits an error of reading data. It should be called after the terminal empty packet has been sent.
+     *
+     * @param e the error of reading data.
+     * @since 1.4.0
+     */
+    public void fail(Throwable e) {
+        errorSink.error(e);
+    }
+
+    private Flux<ByteBuf> readData(ByteBufAllocator allocator, ConnectionContext context) {
+        Flux<ByteBuf> buffers;
+
+        if (data == null) {
+            int bufferSize = context.getLocalInfileBufferSize();
+
+            buffers = resolveFile(context).flatMapMany(p -> NettyBufferUtils.readFile(p, allocator, bufferSize));
+        } else {
+            buffers = Flux.from(data);
+        }
+
+        // An empty packet means the end of data, so empty buffers must be skipped. The buffer size of reading
+        // files is configurable, so buffers of both sources may exceed the maximum payload size.
+        return buffers.concatMapIterable(LocalInfileResponse::split)
+            .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease);
+    }
+
+    private static List<ByteBuf> split(ByteBuf buf) {
+        try {
+            int size = buf.readableBytes();
+
+            if (size == 0) {
+                return Collections.emptyList();
+            } else if (size <= MAX_CHUNK_SIZE) {
+                return Collections.singletonList(buf.retain());
+            }
+
+            List<ByteBuf> chunks = new ArrayList<>();
+
+            try {
+                while (buf.isReadable()) {
+                    chunks.add(buf.readRetainedSlice(Math.min(buf.readableBytes(), MAX_CHUNK_SIZE)));
+                }
+
+                return chunks;
+            } catch (Throwable e) {
+                for (ByteBuf chunk : chunks) {
+                    chunk.release();
+                }
+
+                throw e;
+            }
+        } finally {
+            buf.release();
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -30,6 +30,11 @@ public final class PingMessage extends SizedClientMessage {
      */
     public static final PingMessage INSTANCE = new PingMessage();
 
+    @Override
+    public boolean isPipelinable() {
+        return true;
+    }
+
     @Override
     protected int size() {
         return Byte.BYTES;
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.message.client;
+
+import io.asyncer.r2dbc.mysql.ConnectionContext;
+import io.asyncer.r2dbc.mysql.MySqlParameter;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.internal.util.OperatorUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.require;
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
+
+/**
+ * A message to execute a prepared statement with multiple parameter rows at once, it is a MariaDB extension
+ * {@code COM_STMT_BULK_EXECUTE}.
+ */
+public final class PreparedBulkExecuteMessage implements ClientMessage, Disposable {
+
+    private static final byte BULK_EXECUTE_FLAG = (byte) 0xFA;
+
+    /**
+     * Return a result for each parameter row, requires MariaDB bulk unit results capability.
+     */
+    private static final short SEND_UNIT_RESULTS = 64;
+
+    private static final short SEND_TYPES_TO_SERVER = 128;
+
+    private static final byte INDICATOR_NONE = 0;
+
+    private static final byte INDICATOR_NULL = 1;
+
+    private final int statementId;
+
+    private final MySqlType[] types;
+
+    /**
+     * All parameter rows, the parameters of row {@code i} are in {@code [i * types.length, (i + 1) * types.length)}.
+     */
+    private final MySqlParameter[] values;
+
+    private final boolean unitResults;
+
+    public PreparedBulkExecuteMessage(int statementId, MySqlType[] types, MySqlParameter[] values,
+        boolean unitResults) {
+        requireNonNull(types, "types must not be null");
+        requireNonNull(values, "values must not be null");
+        require(types.length > 0 && values.length % types.length == 0,
+            "values must be rows of parameters with types");
+
+        this.statementId = statementId;
+        this.types = types;
+        this.values = values;
+        this.unitResults = unitResults;
+    }
+
+    @Override
+    public void dispose() {
+        for (MySqlParameter value : values) {
+            if (value != null) {
+                value.dispose();
+            }
+        }
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedBulkExecuteMessage{statementId=" + statementId + ", unitResults=" + unitResults +
+            ", has " + (values.length / types.length) + " rows of " + types.length + " parameters}";
+    }
+
+    @Override
+    public Flux<ByteBuf> encode(ByteBufAllocator allocator, ConnectionContext context) {
+        requireNonNull(allocator, "allocator must not be null");
+        requireNonNull(context, "context must not be null");
+
+        return Flux.defer(() -> {
+            ByteBuf buf = allocator.buffer();
+
+            try {
+                buf.writeByte(BULK_EXECUTE_FLAG)
+                    .writeIntLE(statementId)
+                    .writeShortLE(unitResults ? SEND_TYPES_TO_SERVER | SEND_UNIT_RESULTS : SEND_TYPES_TO_SERVER);
+
+                for (MySqlType type : types) {
+                    buf.writeShortLE(type.getId());
+                }
+
+                Flux<ByteBuf> parameters = OperatorUtils.discardOnCancel(Flux.fromArray(values))
+                    .doOnDiscard(MySqlParameter.class, MySqlParameter::dispose)
+                    .concatMap(value -> {
+                        if (value.isNull()) {
+                            return Mono.fromSupplier(() -> allocator.buffer(Byte.BYTES).writeByte(INDICATOR_NULL));
+                        }
+
+                        return Mono.fromSupplier(() -> allocator.buffer(Byte.BYTES).writeByte(INDICATOR_NONE))
+                            .concatWith(value.publishBinary(allocator));
+                    });
+
+                return Flux.just(buf).concatWith(parameters);
+            } catch (Throwable e) {
+                buf.release();
+                dispose();
+                return Flux.error(e);
+            }
+        });
+    }
+}
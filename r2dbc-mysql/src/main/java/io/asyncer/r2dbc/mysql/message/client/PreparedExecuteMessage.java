@@ -26,6 +26,7 @@ import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
@@ -56,6 +57,11 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
 
     private static final int TIMES = 1;
 
+    /**
+     * The maximum size of scalar parameters that will be written into a single pre-sized buffer.
+     */
+    private static final int MAX_PRE_SIZED = Integer.MAX_VALUE >> 1;
+
     private static final byte EXECUTE_FLAG = 0x17;
 
     private final int statementId;
@@ -65,12 +71,18 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
      */
     private final boolean immediate;
 
+    /**
+     * Send parameter types, otherwise the server uses the types of the previous execution.
+     */
+    private final boolean rebound;
+
     private final MySqlParameter[] values;
 
-    public PreparedExecuteMessage(int statementId, boolean immediate, MySqlParameter[] values) {
+    public PreparedExecuteMessage(int statementId, boolean immediate, boolean rebound, MySqlParameter[] values) {
         this.values = requireNonNull(values, "values must not be null");
         this.statementId = statementId;
         this.immediate = immediate;
+        this.rebound = rebound;
     }
 
     @Override
@@ -81,10 +93,35 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
         Arrays.fill(values, null);
     }
 
+    /**
+     * Creates messages that send long data of parameters, they must be sent before this message. The values
+     * of long data parameters will not be written into this message.
+     *
+     * @return the long data messages, or an empty list if no parameter should be sent as long data.
+     * @see MySqlParameter#isLongData()
+     */
+    public List<PreparedLargeDataMessage> toLargeDataMessages() {
+        List<PreparedLargeDataMessage> messages = null;
+
+        for (int i = 0; i < values.length; ++i) {
+            MySqlParameter value = values[i];
+
+            if (!value.isNull() && value.isLongData()) {
+                if (messages == null) {
+                    messages = new ArrayList<>();
+                }
+
+                messages.add(new PreparedLargeDataMessage(statementId, i, value));
+            }
+        }
+
+        return messages == null ? Collections.emptyList() : messages;
+    }
+
     @Override
     public String toString() {
-        return "PreparedExecuteMessage{statementId=" + statementId + ", immediate=" + immediate + ", has " +
-            values.length + " parameters}";
+        return "PreparedExecuteMessage{statementId=" + statementId + ", immediate=" + immediate +
+            ", rebound=" + rebound + ", has " + values.length + " parameters}";
     }
 
     @Override
@@ -94,26 +131,27 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
 
         return Flux.defer(() -> {
             int size = values.length;
-            ByteBuf buf;
 
             if (size == 0) {
-                buf = allocator.buffer(NO_PARAM_SIZE);
-            } else {
-                buf = allocator.buffer();
+                return Flux.just(writeHeader(allocator.buffer(NO_PARAM_SIZE)));
             }
 
-            try {
-                buf.writeByte(EXECUTE_FLAG)
-                    .writeIntLE(statementId)
-                    .writeByte(immediate ? NO_CURSOR : READ_ONLY)
-                    .writeIntLE(TIMES);
+            List<MySqlParameter> nonNull = new ArrayList<>(size);
+            byte[] nullMap = fillNullBitmap(size, nonNull);
+            int binarySize = binarySize(nonNull);
+            ByteBuf buf;
 
-                if (size == 0) {
-                    return Flux.just(buf);
-                }
+            if (binarySize < 0) {
+                buf = allocator.buffer();
+            } else {
+                // Header, null-bitmap, rebound flag, types and all scalar parameters.
+                int typesSize = rebound ? size * Short.BYTES : 0;
 
-                List<MySqlParameter> nonNull = new ArrayList<>(size);
-                byte[] nullMap = fillNullBitmap(size, nonNull);
+                buf = allocator.buffer(NO_PARAM_SIZE + nullMap.length + Byte.BYTES + typesSize + binarySize);
+            }
+
+            try {
+                writeHeader(buf);
 
                 // Fill null-bitmap.
                 buf.writeBytes(nullMap);
@@ -124,12 +162,27 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
                     return Flux.just(buf);
                 }
 
-                buf.writeBoolean(true);
-                writeTypes(buf, size);
+                buf.writeBoolean(rebound);
+
+                if (rebound) {
+                    writeTypes(buf, size);
+                }
+
+                if (binarySize >= 0) {
+                    // All parameters are scalar values, write them synchronously into the same buffer.
+                    for (MySqlParameter value : nonNull) {
+                        if (!value.isLongData()) {
+                            value.writeBinary(buf);
+                        }
+                    }
+
+                    return Flux.just(buf);
+                }
 
                 Flux<ByteBuf> parameters = OperatorUtils.discardOnCancel(Flux.fromArray(values))
                     .doOnDiscard(MySqlParameter.class, MySqlParameter::dispose)
-                    .concatMap(mySqlParameter -> mySqlParameter.publishBinary(allocator));
+                    .concatMap(mySqlParameter -> mySqlParameter.isLongData() ? Flux.empty() :
+                        mySqlParameter.publishBinary(allocator));
 
                 return Flux.just(buf).concatWith(parameters);
             } catch (Throwable e) {
@@ -140,6 +193,13 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
         });
     }
 
+    private ByteBuf writeHeader(ByteBuf buf) {
+        return buf.writeByte(EXECUTE_FLAG)
+            .writeIntLE(statementId)
+            .writeByte(immediate ? NO_CURSOR : READ_ONLY)
+            .writeIntLE(TIMES);
+    }
+
     private byte[] fillNullBitmap(int size, List<MySqlParameter> nonNull) {
         byte[] nullMap = new byte[ceilDiv8(size)];
 
@@ -162,6 +222,34 @@ public final class PreparedExecuteMessage implements ClientMessage, Disposable {
         }
     }
 
+    /**
+     * Sums the estimated binary sizes of non-null parameters.
+     *
+     * @param nonNull the non-null parameters.
+     * @return the total size, or {@code -1} if any parameter should be published reactively.
+     */
+    private static int binarySize(List<MySqlParameter> nonNull) {
+        long total = 0;
+
+        for (MySqlParameter value : nonNull) {
+            if (value.isLongData()) {
+                // It has been sent by long data commands.
+                continue;
+            }
+
+            int size = value.binarySize();
+
+            if (size < 0) {
+                return -1;
+            }
+
+            total += size;
+        }
+
+        // Too large to be pre-sized, e.g. huge byte arrays, use the reactive path instead.
+        return total > MAX_PRE_SIZED ? -1 : (int) total;
+    }
+
     private void cancelParameters() {
         for (MySqlParameter value : values) {
             value.dispose();
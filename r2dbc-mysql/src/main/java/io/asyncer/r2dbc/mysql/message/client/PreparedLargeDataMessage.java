@@ -17,22 +17,33 @@
 package io.asyncer.r2dbc.mysql.message.client;
 
 import io.asyncer.r2dbc.mysql.ConnectionContext;
-import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
+import io.asyncer.r2dbc.mysql.MySqlParameter;
+import io.asyncer.r2dbc.mysql.constant.Packets;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import org.reactivestreams.Publisher;
+import io.netty.util.ReferenceCountUtil;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.require;
 import static io.asyncer.r2dbc.mysql.internal.util.AssertUtils.requireNonNull;
 
 /**
  * Send parameter long data for prepared statements, it should be used by LOB types. (e.g. BLOB, CLOB)
  * <p>
+ * Each encoded {@link ByteBuf} is a complete {@code COM_STMT_SEND_LONG_DATA} command which contains at most
+ * {@link Packets#MAX_LONG_DATA_SIZE} bytes of the data, the server appends them to the parameter and does not
+ * respond. So the data can be streamed without being buffered into a single message.
+ * <p>
  * Note: it must be sent before {@link PreparedExecuteMessage}.
  */
 public final class PreparedLargeDataMessage implements ClientMessage {
 
-    private static final int MIN_SIZE = Byte.BYTES + Integer.BYTES + Short.BYTES + Byte.BYTES + Long.BYTES;
+    private static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES + Short.BYTES;
 
     private static final byte LARGE_DATA_FLAG = 0x18;
 
@@ -40,12 +51,14 @@ public final class PreparedLargeDataMessage implements ClientMessage {
 
     private final int parameterId;
 
-    private final Publisher<ByteBuf> data;
+    private final MySqlParameter value;
+
+    public PreparedLargeDataMessage(int statementId, int parameterId, MySqlParameter value) {
+        require(parameterId >= 0, "parameterId must not be a negative integer");
 
-    public PreparedLargeDataMessage(int statementId, int parameterId, Publisher<ByteBuf> data) {
         this.statementId = statementId;
         this.parameterId = parameterId;
-        this.data = requireNonNull(data, "data must not be null");
+        this.value = requireNonNull(value, "value must not be null");
     }
 
     @Override
@@ -53,33 +66,66 @@ public final class PreparedLargeDataMessage implements ClientMessage {
         requireNonNull(allocator, "allocator must not be null");
         requireNonNull(context, "context must not be null");
 
-        return Flux.from(data).collectList().flatMapMany(values -> {
-            int i = 0;
-            int size = values.size();
-            ByteBuf[] results = new ByteBuf[size + 1];
-            long bytes = 0;
+        return Flux.defer(() -> Flux.from(value.publishLongData(allocator)))
+            .concatMapIterable(data -> split(allocator, data))
+            // Send at least one command, otherwise the server will read the value from the execute message.
+            .switchIfEmpty(Mono.fromSupplier(() -> writeHeader(allocator.buffer(HEADER_SIZE))))
+            .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedLargeDataMessage{statementId=" + statementId + ", parameterId=" + parameterId + '}';
+    }
 
-            for (; i < size; ++i) {
-                bytes += (results[i + 1] = values.get(i)).readableBytes();
+    private List<ByteBuf> split(ByteBufAllocator allocator, ByteBuf data) {
+        try {
+            if (data.readableBytes() <= Packets.MAX_LONG_DATA_SIZE) {
+                return Collections.singletonList(toCommand(allocator, data.retain()));
             }
 
-            ByteBuf header = allocator.buffer(MIN_SIZE);
+            List<ByteBuf> commands = new ArrayList<>();
 
             try {
-                header.writeByte(LARGE_DATA_FLAG)
-                    .writeIntLE(statementId)
-                    .writeShortLE(parameterId);
-
-                VarIntUtils.writeVarInt(header, bytes);
-                results[0] = header;
-                header = null;
-
-                return Flux.fromArray(results);
-            } finally {
-                if (header != null) {
-                    header.release();
+                while (data.isReadable()) {
+                    int size = Math.min(data.readableBytes(), Packets.MAX_LONG_DATA_SIZE);
+
+                    commands.add(toCommand(allocator, data.readRetainedSlice(size)));
+                }
+
+                return commands;
+            } catch (Throwable e) {
+                for (ByteBuf command : commands) {
+                    command.release();
                 }
+
+                throw e;
             }
-        });
+        } finally {
+            data.release();
+        }
+    }
+
+    private ByteBuf toCommand(ByteBufAllocator allocator, ByteBuf data) {
+        ByteBuf header = null;
+
+        try {
+            header = writeHeader(allocator.buffer(HEADER_SIZE));
+
+            return allocator.compositeBuffer(2).addComponents(true, header, data);
+        } catch (Throwable e) {
+            if (header != null) {
+                header.release();
+            }
+
+            data.release();
+            throw e;
+        }
+    }
+
+    private ByteBuf writeHeader(ByteBuf buf) {
+        return buf.writeByte(LARGE_DATA_FLAG)
+            .writeIntLE(statementId)
+            .writeShortLE(parameterId);
     }
 }
@@ -17,6 +17,7 @@
 package io.asyncer.r2dbc.mysql.message.client;
 
 import io.asyncer.r2dbc.mysql.ConnectionContext;
+import io.asyncer.r2dbc.mysql.internal.util.StringUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import java.util.Objects;
@@ -47,6 +48,11 @@ public final class TextQueryMessage implements ClientMessage {
         this.sql = sql;
     }
 
+    @Override
+    public boolean isPipelinable() {
+        return !StringUtils.mayLoadLocalInfile(sql);
+    }
+
     @Override
     public Mono<ByteBuf> encode(ByteBufAllocator allocator, ConnectionContext context) {
         requireNonNull(allocator, "allocator must not be null");
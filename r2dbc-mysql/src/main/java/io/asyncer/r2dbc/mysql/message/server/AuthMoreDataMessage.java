@@ -17,9 +17,13 @@
 package io.asyncer.r2dbc.mysql.message.server;
 
 import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
 
 /**
- * Authentication more data request, means continue send auth change response message if is exists.
+ * Authentication more data request, means continue send auth change response message if is exists. It may also
+ * carry data of the authentication, e.g. the RSA public key requested by client.
  */
 public final class AuthMoreDataMessage implements ServerMessage {
 
@@ -27,18 +31,40 @@ public final class AuthMoreDataMessage implements ServerMessage {
 
     private final boolean failed;
 
-    private AuthMoreDataMessage(boolean failed) {
+    @Nullable
+    private final byte[] data;
+
+    private AuthMoreDataMessage(boolean failed, @Nullable byte[] data) {
         this.failed = failed;
+        this.data = data;
     }
 
     public boolean isFailed() {
         return failed;
     }
 
+    /**
+     * Gets the data of the authentication, e.g. the RSA public key in PEM format.
+     *
+     * @return the data, or {@code null} if the message is a status of fast authentication.
+     */
+    @Nullable
+    public byte[] getData() {
+        return data;
+    }
+
     static AuthMoreDataMessage decode(ByteBuf buf) {
         buf.skipBytes(1); // auth more data message header, 0x01
 
-        return new AuthMoreDataMessage(buf.readByte() != AUTH_SUCCEED);
+        if (buf.readableBytes() == 1) {
+            return new AuthMoreDataMessage(buf.readByte() != AUTH_SUCCEED, null);
+        }
+
+        byte[] data = new byte[buf.readableBytes()];
+
+        buf.readBytes(data);
+
+        return new AuthMoreDataMessage(false, data);
     }
 
     @Override
@@ -52,16 +78,17 @@ public final class AuthMoreDataMessage implements ServerMessage {
 
         AuthMoreDataMessage that = (AuthMoreDataMessage) o;
 
-        return failed == that.failed;
+        return failed == that.failed && Arrays.equals(data, that.data);
     }
 
     @Override
     public int hashCode() {
-        return (failed ? 1 : 0);
+        return 31 * (failed ? 1 : 0) + Arrays.hashCode(data);
     }
 
     @Override
     public String toString() {
-        return "AuthMoreDataMessage{failed=" + failed + '}';
+        return "AuthMoreDataMessage{failed=" + failed + ", data=" + (data == null ? "null" : "<" + data.length +
+            " bytes>") + '}';
     }
 }
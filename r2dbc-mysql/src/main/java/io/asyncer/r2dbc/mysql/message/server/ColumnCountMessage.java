@@ -29,19 +29,34 @@ public final class ColumnCountMessage implements ServerMessage {
 
     private final int totalColumns;
 
-    private ColumnCountMessage(int totalColumns) {
+    private final boolean metadataFollows;
+
+    private ColumnCountMessage(int totalColumns, boolean metadataFollows) {
         require(totalColumns > 0, "totalColumns must be a positive integer");
 
         this.totalColumns = totalColumns;
+        this.metadataFollows = metadataFollows;
     }
 
     public int getTotalColumns() {
         return totalColumns;
     }
 
-    static ColumnCountMessage decode(ByteBuf buf) {
+    /**
+     * Checks if column metadata follows this message. MariaDB server may skip the metadata of a prepared
+     * statement execution if it has not changed, then the client should use the cached metadata.
+     *
+     * @return if column metadata follows.
+     */
+    public boolean isMetadataFollows() {
+        return metadataFollows;
+    }
+
+    static ColumnCountMessage decode(ByteBuf buf, boolean metadataCache) {
         // JVM does NOT support arrays longer than Integer.MAX_VALUE
-        return new ColumnCountMessage(Math.toIntExact(VarIntUtils.readVarInt(buf)));
+        int totalColumns = Math.toIntExact(VarIntUtils.readVarInt(buf));
+
+        return new ColumnCountMessage(totalColumns, !metadataCache || buf.readBoolean());
     }
 
     @Override
@@ -55,17 +70,17 @@ public final class ColumnCountMessage implements ServerMessage {
 
         ColumnCountMessage that = (ColumnCountMessage) o;
 
-        return totalColumns == that.totalColumns;
-
+        return totalColumns == that.totalColumns && metadataFollows == that.metadataFollows;
     }
 
     @Override
     public int hashCode() {
-        return totalColumns;
+        return 31 * totalColumns + (metadataFollows ? 1 : 0);
     }
 
     @Override
     public String toString() {
-        return "ColumnCountMessage{totalColumns=" + totalColumns + '}';
+        return "ColumnCountMessage{totalColumns=" + totalColumns + ", metadataFollows=" + metadataFollows +
+            '}';
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.message.server;
+
+import io.asyncer.r2dbc.mysql.internal.util.NettyBufferUtils;
+import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * An implementation of {@link RowFields} which is eagerly decoded to an array of {@link FieldValue}s, it is used
+ * by large rows which bytes more than {@link Integer#MAX_VALUE}.
+ */
+final class DecodedRowFields extends AbstractReferenceCounted implements RowFields {
+
+    private final FieldValue[] fields;
+
+    DecodedRowFields(FieldValue[] fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public FieldValue get(int index) {
+        return fields[index];
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        for (FieldValue field : fields) {
+            field.touch(hint);
+        }
+
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        NettyBufferUtils.releaseAll(fields);
+    }
+}
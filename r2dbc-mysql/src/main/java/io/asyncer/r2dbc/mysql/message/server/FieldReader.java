@@ -55,6 +55,13 @@ interface FieldReader extends ReferenceCounted {
 
     FieldValue readVarIntSizedField();
 
+    /**
+     * Get the number of readable bytes of remaining fields.
+     *
+     * @return the number of readable bytes.
+     */
+    long readableBytes();
+
     @SuppressWarnings("ForLoopReplaceableByForEach")
     static FieldReader of(List<ByteBuf> buffers) {
         int size = buffers.size();
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.message.server;
+
+import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
+import io.asyncer.r2dbc.mysql.internal.util.NettyBufferUtils;
+import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.asyncer.r2dbc.mysql.message.NormalFieldValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * An implementation of {@link RowFields} which keeps the single buffer of a row and an offset/length table of fields.
+ * The table is computed on first access, so it costs nothing if the row is never read, and no field is sliced until
+ * it is read.
+ */
+final class IndexedRowFields extends AbstractReferenceCounted implements RowFields {
+
+    private static final byte BIT_MASK_INIT = 1 << 2;
+
+    private static final int NULL_LENGTH = -1;
+
+    private final ByteBuf buf;
+
+    private final int start;
+
+    private final boolean binary;
+
+    private final MySqlReadableMetadata[] metadata;
+
+    /**
+     * The offset of field {@code i} is at {@code 2 * i}, and the length of it is at {@code 2 * i + 1}. The length
+     * will be {@link #NULL_LENGTH} if the field is {@code null}.
+     */
+    @Nullable
+    private int[] table;
+
+    /**
+     * The composites of packet slices of fields which span multiple packets, they are owned by this row.
+     */
+    @Nullable
+    private ByteBuf[] packets;
+
+    /**
+     * Creates an instance which takes the ownership of {@code buf}.
+     *
+     * @param buf      the buffer of row, it will be released when this row is deallocated.
+     * @param binary   if the row is encoded by binary protocol.
+     * @param metadata the metadata of columns.
+     */
+    IndexedRowFields(ByteBuf buf, boolean binary, MySqlReadableMetadata[] metadata) {
+        this.buf = buf;
+        this.start = buf.readerIndex();
+        this.binary = binary;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public FieldValue get(int index) {
+        int[] table = this.table;
+
+        if (table == null) {
+            this.table = table = binary ? binaryTable() : textTable();
+        }
+
+        int i = index << 1;
+        int length = table[i + 1];
+
+        if (length == NULL_LENGTH) {
+            return FieldValue.nullField();
+        } else if (length == 0) {
+            return new NormalFieldValue(Unpooled.EMPTY_BUFFER);
+        }
+
+        int offset = table[i];
+
+        if (buf instanceof CompositeByteBuf) {
+            CompositeByteBuf composite = (CompositeByteBuf) buf;
+
+            if (composite.toComponentIndex(offset) != composite.toComponentIndex(offset + length - 1)) {
+                return new NormalFieldValue(packets(composite, index, offset, length));
+            }
+        }
+
+        return new NormalFieldValue(buf.slice(offset, length));
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        buf.touch(hint);
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        ByteBuf[] packets = this.packets;
+
+        if (packets != null) {
+            NettyBufferUtils.releaseAll(packets);
+        }
+
+        buf.release();
+    }
+
+    /**
+     * Gets the field which spans multiple packets as a composite of packet slices without copying, so that the
+     * field can be consumed packet by packet, e.g. {@code Blob}. The composite is owned by this row.
+     *
+     * @param composite the buffer of row.
+     * @param index     the index of the field.
+     * @param offset    the offset of the field in the buffer of row.
+     * @param length    the length of the field.
+     * @return the composite of packet slices.
+     */
+    private ByteBuf packets(CompositeByteBuf composite, int index, int offset, int length) {
+        ByteBuf[] packets = this.packets;
+
+        if (packets == null) {
+            this.packets = packets = new ByteBuf[metadata.length];
+        }
+
+        ByteBuf field = packets[index];
+
+        if (field == null) {
+            List<ByteBuf> slices = composite.decompose(offset, length);
+            CompositeByteBuf result = composite.alloc().compositeBuffer(slices.size());
+
+            try {
+                // Each slice is retained by the result, it will be released when the row is deallocated.
+                for (ByteBuf slice : slices) {
+                    result.addComponent(true, slice.retain());
+                }
+            } catch (Throwable e) {
+                result.release();
+                throw e;
+            }
+
+            packets[index] = field = result;
+        }
+
+        return field;
+    }
+
+    private int[] textTable() {
+        int size = metadata.length;
+        int[] table = new int[size << 1];
+        int index = start;
+
+        for (int i = 0; i < size; ++i) {
+            if (RowMessage.NULL_VALUE == buf.getUnsignedByte(index)) {
+                ++index;
+                table[(i << 1) + 1] = NULL_LENGTH;
+            } else {
+                index = putVarIntSized(table, i, index);
+            }
+        }
+
+        return table;
+    }
+
+    private int[] binaryTable() {
+        int size = metadata.length;
+        int[] table = new int[size << 1];
+        // Skip constant 0x00
+        int bitmapIndex = start + Byte.BYTES;
+        // MySQL will make sure columns less than 4096, no need check overflow.
+        int index = bitmapIndex + ((size + 9) >> 3);
+        byte bitMask = BIT_MASK_INIT;
+
+        for (int i = 0; i < size; ++i) {
+            if ((buf.getByte(bitmapIndex) & bitMask) != 0) {
+                table[(i << 1) + 1] = NULL_LENGTH;
+            } else {
+                int bytes = metadata[i].getType().getBinarySize();
+
+                if (bytes > 0) {
+                    table[i << 1] = index;
+                    table[(i << 1) + 1] = bytes;
+                    index += bytes;
+                } else {
+                    index = putVarIntSized(table, i, index);
+                }
+            }
+
+            bitMask <<= 1;
+
+            // Do NOT use `bitMask == 0` only.
+            if ((bitMask & 0xFF) == 0) {
+                // An approach to circular left shift 1-bit.
+                bitMask = 1;
+                // Current byte has been completed by read.
+                ++bitmapIndex;
+            }
+        }
+
+        return table;
+    }
+
+    private int putVarIntSized(int[] table, int i, int index) {
+        short firstByte = buf.getUnsignedByte(index);
+        int length;
+
+        // Normal field will NEVER be greater than Integer.MAX_VALUE.
+        if (firstByte < 0xFC) {
+            length = firstByte;
+            index += Byte.BYTES;
+        } else if (firstByte == 0xFC) {
+            length = buf.getUnsignedShortLE(index + Byte.BYTES);
+            index += Byte.BYTES + Short.BYTES;
+        } else if (firstByte == 0xFD) {
+            length = buf.getUnsignedMediumLE(index + Byte.BYTES);
+            index += Byte.BYTES + 3;
+        } else {
+            length = (int) buf.getLongLE(index + Byte.BYTES);
+            index += Byte.BYTES + Long.BYTES;
+        }
+
+        table[i << 1] = index;
+        table[(i << 1) + 1] = length;
+
+        return index + length;
+    }
+}
@@ -181,6 +181,17 @@ final class LargeFieldReader extends AbstractReferenceCounted implements FieldRe
         return result;
     }
 
+    @Override
+    public long readableBytes() {
+        long size = 0;
+
+        for (int i = currentBufIndex; i < buffers.length; ++i) {
+            size += buffers[i].readableBytes();
+        }
+
+        return size;
+    }
+
     private ByteBuf nonEmptyBuffer() {
         ByteBuf buf = buffers[currentBufIndex];
 
@@ -65,6 +65,20 @@ final class NormalFieldReader implements FieldReader {
         return new NormalFieldValue(readVarIntSizedRetained(buf));
     }
 
+    /**
+     * Retains the underlying buffer, the reader index will not be changed.
+     *
+     * @return the retained buffer.
+     */
+    ByteBuf retainBuffer() {
+        return buf.retain();
+    }
+
+    @Override
+    public long readableBytes() {
+        return buf.readableBytes();
+    }
+
     @Override
     public int refCnt() {
         return buf.refCnt();
@@ -155,6 +155,20 @@ public final class OkMessage implements WarningMessage, ServerStatusMessage, Com
             "}";
     }
 
+    /**
+     * Creates a synthetic {@link OkMessage} for a unit result of MariaDB bulk execution, which is a row of the
+     * result set returned by the bulk execution.
+     *
+     * @param affectedRows   the affected rows of the parameter row.
+     * @param lastInsertId   the last insert-id of the parameter row.
+     * @param serverStatuses the current server statuses.
+     * @return the synthetic {@link OkMessage}.
+     */
+    public static OkMessage unitResult(long affectedRows, long lastInsertId, short serverStatuses) {
+        return new OkMessage(false, affectedRows, lastInsertId,
+            (short) (serverStatuses & ~ServerStatuses.MORE_RESULTS_EXISTS), 0, "", Collections.emptyMap());
+    }
+
     static boolean isValidSize(int bytes) {
         return bytes >= MIN_SIZE;
     }
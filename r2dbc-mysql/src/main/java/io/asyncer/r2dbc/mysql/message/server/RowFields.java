@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.message.server;
+
+import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * The field values of a row, which is decoded from a {@link RowMessage}.
+ * <p>
+ * The returned {@link FieldValue}s are owned by the row, they are valid until the row is released, and they should
+ * NEVER be released by the caller.
+ */
+public interface RowFields extends ReferenceCounted {
+
+    /**
+     * Gets the field value at the given index.
+     *
+     * @param index the index of the field, starting at {@code 0}.
+     * @return the field value, which is not retained.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    FieldValue get(int index);
+}
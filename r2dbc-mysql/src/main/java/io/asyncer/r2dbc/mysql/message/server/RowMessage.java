@@ -38,6 +38,24 @@ public final class RowMessage implements ReferenceCounted, ServerMessage {
         this.reader = requireNonNull(reader, "reader must not be null");
     }
 
+    /**
+     * Decode this message to {@link RowFields}. It will retain the buffer of this message instead of slicing each
+     * field, the offsets of fields will be computed on first access.
+     * <p>
+     * Note: the result should be released by the caller, and this message should still be released.
+     *
+     * @param isBinary if decode with binary protocol.
+     * @param context  information context array.
+     * @return the {@link RowFields}.
+     */
+    public RowFields fields(boolean isBinary, MySqlReadableMetadata[] context) {
+        if (reader instanceof NormalFieldReader) {
+            return new IndexedRowFields(((NormalFieldReader) reader).retainBuffer(), isBinary, context);
+        }
+
+        return new DecodedRowFields(decode(isBinary, context));
+    }
+
     /**
      * Decode this message to an array of {@link FieldValue}.
      *
@@ -49,6 +67,15 @@ public final class RowMessage implements ReferenceCounted, ServerMessage {
         return isBinary ? binary(context) : text(context.length);
     }
 
+    /**
+     * Get the number of readable bytes of this row, it is the size of payload before decoding.
+     *
+     * @return the number of readable bytes.
+     */
+    public long readableBytes() {
+        return reader.readableBytes();
+    }
+
     private FieldValue[] text(int size) {
         FieldValue[] fields = new FieldValue[size];
 
@@ -229,10 +229,13 @@ public final class ServerMessageDecoder {
                 break;
         }
 
-        if (VarIntUtils.checkNextVarInt(buf) == 0) {
+        boolean metadataCache = context.getCapability().isMetadataCacheSupported();
+
+        if (VarIntUtils.checkNextVarInt(buf) == (metadataCache ? 1 : 0)) {
             // EOF message must be 5-bytes, it will never be looks like a var integer.
             // It looks like has only a var integer, should be column count.
-            return ColumnCountMessage.decode(buf);
+            // If MariaDB metadata cache is enabled, it has a flag of metadata follows after the var integer.
+            return ColumnCountMessage.decode(buf, metadataCache);
         }
 
         throw new R2dbcNonTransientResourceException("Unknown message header 0x" +
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for adaptive fetching of cursors.
+ */
+class AdaptiveFetchIntegrationTest extends IntegrationTestSupport {
+
+    private static final String TDL = "CREATE TEMPORARY TABLE test(id INT PRIMARY KEY AUTO_INCREMENT,value INT)";
+
+    private static final String INSERT = "INSERT INTO test(`value`) SELECT 1 " +
+        "FROM information_schema.columns a, information_schema.columns b LIMIT 1000";
+
+    AdaptiveFetchIntegrationTest() {
+        super(configuration(builder -> builder.adaptiveFetch(true).useServerPrepareStatement()));
+    }
+
+    @Test
+    void limitRate() {
+        List<Integer> expected = IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+
+        complete(connection -> Mono.from(connection.createStatement(TDL).execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .then(Mono.from(connection.createStatement(INSERT).execute()))
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("SELECT id FROM test WHERE id > ? ORDER BY id")
+                .bind(0, 0)
+                .fetchSize(1)
+                .execute())
+            .concatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+            .limitRate(7)
+            .collectList()
+            .doOnNext(it -> assertThat(it).isEqualTo(expected)));
+    }
+
+    @Test
+    void cancelThenQuery() {
+        complete(connection -> Mono.from(connection.createStatement(TDL).execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .then(Mono.from(connection.createStatement(INSERT).execute()))
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("SELECT id FROM test WHERE id > ? ORDER BY id")
+                .bind(0, 0)
+                .fetchSize(10)
+                .execute())
+            .concatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+            .take(3)
+            .collectList()
+            .doOnNext(it -> assertThat(it).containsExactly(1, 2, 3))
+            .thenMany(Flux.from(connection.createStatement("SELECT COUNT(*) FROM test").execute()))
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Long.class)))
+            .doOnNext(it -> assertThat(it).isEqualTo(1000L)));
+    }
+}
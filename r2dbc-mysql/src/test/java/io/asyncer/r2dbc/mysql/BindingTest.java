@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.codec.Codecs;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link Binding}.
+ */
+class BindingTest {
+
+    private final Codecs codecs = Codecs.builder().build();
+
+    private final ConnectionContext context = ConnectionContextTest.mock();
+
+    @Test
+    void isSameTypes() {
+        Binding binding = binding(100000, "text");
+
+        assertThat(binding.isSameTypes(null)).isFalse();
+        assertThat(binding.isSameTypes(binding.getTypes())).isTrue();
+        assertThat(binding.isSameTypes(new MySqlType[] { MySqlType.INT, MySqlType.VARCHAR })).isTrue();
+        assertThat(binding.isSameTypes(new MySqlType[] { MySqlType.BIGINT, MySqlType.VARCHAR })).isFalse();
+        assertThat(binding.isSameTypes(new MySqlType[] { MySqlType.INT })).isFalse();
+    }
+
+    @Test
+    void isSameTypesIgnoreNull() {
+        Binding binding = binding(null, "text");
+
+        assertThat(binding.getTypes()).containsExactly(MySqlType.NULL, MySqlType.VARCHAR);
+        assertThat(binding.isSameTypes(new MySqlType[] { MySqlType.INT, MySqlType.VARCHAR })).isTrue();
+        assertThat(binding.isSameTypes(new MySqlType[] { MySqlType.INT, MySqlType.BLOB })).isFalse();
+    }
+
+    private Binding binding(Object... values) {
+        Binding binding = new Binding(values.length);
+
+        for (int i = 0; i < values.length; ++i) {
+            Object value = values[i];
+
+            binding.add(i, value == null ? codecs.encodeNull() : codecs.encode(value, context));
+        }
+
+        return binding;
+    }
+}
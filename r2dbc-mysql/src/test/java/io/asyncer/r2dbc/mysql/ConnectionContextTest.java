@@ -17,11 +17,14 @@
 package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.cache.Caches;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
 import io.asyncer.r2dbc.mysql.constant.ZeroDateOption;
 import io.r2dbc.spi.IsolationLevel;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.ZoneId;
 
@@ -39,7 +42,7 @@ public class ConnectionContextTest {
             String id = i < 0 ? "UTC" + i : "UTC+" + i;
             ConnectionContext context = new ConnectionContext(
                 ZeroDateOption.USE_NULL, null,
-                8192, true, true, ZoneId.of(id));
+                8192, true, true, ZoneId.of(id), false, false, false, false, false, null);
 
             assertThat(context.getTimeZone()).isEqualTo(ZoneId.of(id));
         }
@@ -48,7 +51,7 @@ public class ConnectionContextTest {
     @Test
     void setTwiceTimeZone() {
         ConnectionContext context = new ConnectionContext(ZeroDateOption.USE_NULL, null,
-            8192, true, true, null);
+            8192, true, true, null, false, false, false, false, false, null);
 
         context.initSession(
             Caches.createPrepareCache(0),
@@ -70,7 +73,7 @@ public class ConnectionContextTest {
     @Test
     void badSetTimeZone() {
         ConnectionContext context = new ConnectionContext(ZeroDateOption.USE_NULL, null,
-            8192, true, true, ZoneId.systemDefault());
+            8192, true, true, ZoneId.systemDefault(), false, false, false, false, false, null);
         assertThatIllegalStateException().isThrownBy(() -> context.initSession(
             Caches.createPrepareCache(0),
             IsolationLevel.REPEATABLE_READ,
@@ -81,6 +84,24 @@ public class ConnectionContextTest {
         ));
     }
 
+    @Test
+    void isLastPreparedSupported() {
+        assertThat(mock(true).isLastPreparedSupported()).isTrue();
+        assertThat(mock(false).isLastPreparedSupported()).isFalse();
+    }
+
+    @Test
+    void removeStatement() {
+        ConnectionContext context = mock();
+
+        context.putParameterTypes(1, new MySqlType[] { MySqlType.INT });
+        context.setResetRequired(1, true);
+        context.removeStatement(1);
+
+        assertThat(context.getParameterTypes(1)).isNull();
+        assertThat(context.isResetRequired(1)).isFalse();
+    }
+
     public static ConnectionContext mock() {
         return mock(false, ZoneId.systemDefault());
     }
@@ -90,8 +111,17 @@ public class ConnectionContextTest {
     }
 
     public static ConnectionContext mock(boolean isMariaDB, ZoneId zoneId) {
-        ConnectionContext context = new ConnectionContext(ZeroDateOption.USE_NULL, null,
-            8192, true, true, zoneId);
+        return mock(isMariaDB, zoneId, null);
+    }
+
+    public static ConnectionContext mock(boolean isMariaDB, ZoneId zoneId, @Nullable Path localInfilePath) {
+        return mock(isMariaDB, zoneId, localInfilePath, 8192);
+    }
+
+    public static ConnectionContext mock(boolean isMariaDB, ZoneId zoneId, @Nullable Path localInfilePath,
+        int localInfileBufferSize) {
+        ConnectionContext context = new ConnectionContext(ZeroDateOption.USE_NULL, localInfilePath,
+            localInfileBufferSize, true, true, zoneId, false, false, false, false, false, null);
 
         context.initHandshake(1, ServerVersion.parse(isMariaDB ? "11.2.22.MOCKED" : "8.0.11.MOCKED"),
             Capability.of(~(isMariaDB ? 1 : 0)));
@@ -514,6 +514,58 @@ class ConnectionIntegrationTest extends IntegrationTestSupport {
                 msg.getMessage().contains(path.toString()) && msg.getMessage().contains(safePath.toString()));
     }
 
+    @Test
+    void loadDataLocalInfileFromPublisher() {
+        Flux<String> lines = Flux.range(1, 100).map(i -> i + ",name" + i + '\n');
+
+        complete(connection -> Mono.from(connection.createStatement("CREATE TEMPORARY TABLE test" +
+                "(id INT NOT NULL PRIMARY KEY, name VARCHAR(50))").execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("LOAD DATA LOCAL INFILE 'ignored' INTO TABLE test " +
+                    "FIELDS TERMINATED BY ','")
+                .localInfileText(lines)
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .doOnNext(it -> assertThat(it).isEqualTo(100L))
+            .thenMany(connection.createStatement("SELECT name FROM test WHERE id = 100").execute())
+            .flatMap(result -> result.map(row -> row.get(0, String.class)))
+            .doOnNext(it -> assertThat(it).isEqualTo("name100")));
+    }
+
+    @Test
+    void loadDataLocalInfileFromPublisherWithParameters() {
+        Flux<String> lines = Flux.range(1, 100).map(i -> i + "|name" + i + '\n');
+
+        complete(connection -> Mono.from(connection.createStatement("CREATE TEMPORARY TABLE test" +
+                "(id INT NOT NULL PRIMARY KEY, name VARCHAR(50))").execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("LOAD DATA LOCAL INFILE 'ignored' INTO TABLE test " +
+                    "FIELDS TERMINATED BY ?")
+                .bind(0, "|")
+                .localInfileText(lines)
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .doOnNext(it -> assertThat(it).isEqualTo(100L))
+            .thenMany(connection.createStatement("SELECT name FROM test WHERE id = 100").execute())
+            .flatMap(result -> result.map(row -> row.get(0, String.class)))
+            .doOnNext(it -> assertThat(it).isEqualTo("name100")));
+    }
+
+    @Test
+    void loadData() {
+        Flux<String> names = Flux.range(1, 100).map(i -> i % 10 == 0 ? "tab\tname" + i : "name" + i);
+
+        complete(connection -> Mono.from(connection.createStatement("CREATE TEMPORARY TABLE test" +
+                "(id INT NOT NULL PRIMARY KEY, name VARCHAR(50))").execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .then(connection.loadData("test", Arrays.asList("id", "name"), names,
+                name -> new Object[] { Integer.parseInt(name.substring(name.indexOf("name") + 4)), name }))
+            .doOnNext(it -> assertThat(it).isEqualTo(100L))
+            .thenMany(connection.createStatement("SELECT name FROM test WHERE id = 10").execute())
+            .flatMap(result -> result.map(row -> row.get(0, String.class)))
+            .doOnNext(it -> assertThat(it).isEqualTo("tab\tname10")));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "stations", "users" })
     @SuppressWarnings("SqlSourceToSinkFlow")
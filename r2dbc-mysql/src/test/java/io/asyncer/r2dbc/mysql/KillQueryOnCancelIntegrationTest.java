@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for killing large queries on cancel.
+ */
+class KillQueryOnCancelIntegrationTest extends IntegrationTestSupport {
+
+    KillQueryOnCancelIntegrationTest() {
+        super(configuration(builder -> builder.killQueryOnCancel(true)));
+    }
+
+    @Test
+    void cancelLargeQuery() {
+        complete(connection -> Flux.from(connection.createStatement("SELECT a.ORDINAL_POSITION " +
+                    "FROM information_schema.columns a, information_schema.columns b, information_schema.columns c")
+                .execute())
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Long.class)))
+            .take(10)
+            .count()
+            .doOnNext(it -> assertThat(it).isEqualTo(10L))
+            .thenMany(connection.createStatement("SELECT 1").execute())
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+            .doOnNext(it -> assertThat(it).isEqualTo(1)));
+    }
+}
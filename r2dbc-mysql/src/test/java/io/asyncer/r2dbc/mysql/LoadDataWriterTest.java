@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.codec.Codecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LoadDataWriter}.
+ */
+class LoadDataWriterTest {
+
+    private final Codecs codecs = Codecs.builder().build();
+
+    @Test
+    void toSql() {
+        assertThat(LoadDataWriter.toSql("my`table", Arrays.asList("id", "name"), false))
+            .isEqualTo("LOAD DATA LOCAL INFILE 'r2dbc-mysql' INTO TABLE `my``table` CHARACTER SET utf8mb4 " +
+                "FIELDS ESCAPED BY '\\\\' (`id`,`name`)");
+        assertThat(LoadDataWriter.toSql("test", Arrays.asList("id", "name"), true))
+            .isEqualTo("LOAD DATA LOCAL INFILE 'r2dbc-mysql' INTO TABLE `test` CHARACTER SET utf8mb4 " +
+                "FIELDS ESCAPED BY '\\' (`id`,`name`)");
+    }
+
+    @Test
+    void publish() {
+        Flux<Object[]> rows = Flux.just(
+            new Object[] { 1, "Hello\tR2DBC\n" },
+            new Object[] { 2L, null },
+            new Object[] { 3, "C:\\日本語\0" },
+            new Object[] { 4, new byte[] { 0x12, '\t', (byte) 0xFE, '\\' } }
+        );
+
+        ByteBuf expected = UnpooledByteBufAllocator.DEFAULT.buffer()
+            .writeBytes("1\tHello\\tR2DBC\\n\n2\t\\N\n3\tC:\\\\日本語\\0\n4\t".getBytes(StandardCharsets.UTF_8))
+            .writeBytes(new byte[] { 0x12, '\\', 't', (byte) 0xFE, '\\', '\\', '\n' });
+
+        try {
+            LoadDataWriter.publish(rows, 2, codecs, ConnectionContextTest.mock(), UnpooledByteBufAllocator.DEFAULT,
+                    8192)
+                .reduce((left, right) -> {
+                    left.writeBytes(right);
+                    right.release();
+                    return left;
+                })
+                .as(StepVerifier::create)
+                .assertNext(buf -> {
+                    try {
+                        assertThat(buf).isEqualTo(expected);
+                    } finally {
+                        buf.release();
+                    }
+                })
+                .verifyComplete();
+        } finally {
+            expected.release();
+        }
+    }
+
+    @Test
+    void publishSmallBuffers() {
+        Flux<Object[]> rows = Flux.range(0, 100).map(i -> new Object[] { i });
+
+        LoadDataWriter.publish(rows, 1, codecs, ConnectionContextTest.mock(), UnpooledByteBufAllocator.DEFAULT, 16)
+            .map(buf -> {
+                try {
+                    assertThat(buf.readableBytes()).isLessThan(32);
+                    return buf.readableBytes();
+                } finally {
+                    buf.release();
+                }
+            })
+            .collectList()
+            .as(StepVerifier::create)
+            .assertNext(sizes -> {
+                assertThat(sizes).hasSizeGreaterThan(1);
+                // "0\n" to "9\n" and "10\n" to "99\n"
+                assertThat(sizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10 * 2 + 90 * 3);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void mismatchedRow() {
+        Flux<Object[]> rows = Flux.just(new Object[] { 1, "a" }, new Object[] { 2 });
+
+        LoadDataWriter.publish(rows, 2, codecs, ConnectionContextTest.mock(), UnpooledByteBufAllocator.DEFAULT,
+                8192)
+            .doOnNext(ByteBuf::release)
+            .as(StepVerifier::create)
+            .verifyError(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.api.MySqlStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for MariaDB bulk execution of server-preparing statements.
+ */
+@EnabledIf("envIsMariaDb10_5_1")
+class MariaDbBulkIntegrationTest extends IntegrationTestSupport {
+
+    MariaDbBulkIntegrationTest() {
+        super(configuration(builder -> builder.bulkExecution(true).useServerPrepareStatement()));
+    }
+
+    @Test
+    void bulkInsert() {
+        complete(connection -> Mono.from(connection.createStatement("CREATE TEMPORARY TABLE `test` " +
+                    "(`id` INT NOT NULL PRIMARY KEY, `value` VARCHAR(20))")
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(Flux.defer(() -> {
+                MySqlStatement statement = connection.createStatement("INSERT INTO `test` VALUES (?, ?)");
+
+                for (int i = 0; i < 2499; ++i) {
+                    statement.bind(0, i);
+
+                    if (i % 3 == 0) {
+                        statement.bindNull(1, String.class);
+                    } else {
+                        statement.bind(1, "value-" + i);
+                    }
+
+                    statement.add();
+                }
+
+                return statement.bind(0, 2499).bind(1, 2499L).execute();
+            }))
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .reduce(Long::sum)
+            .doOnNext(rows -> assertThat(rows).isEqualTo(2500L))
+            .thenMany(connection.createStatement("SELECT COUNT(*), COUNT(`value`) FROM `test`").execute())
+            .flatMap(result -> result.map((row, metadata) -> new long[] {
+                row.get(0, Long.class), row.get(1, Long.class)
+            }))
+            .doOnNext(counts -> assertThat(counts).containsExactly(2500L, 1667L)));
+    }
+
+    @Test
+    void bulkUpdate() {
+        complete(connection -> Mono.from(connection.createStatement("CREATE TEMPORARY TABLE `test` " +
+                    "(`id` INT NOT NULL PRIMARY KEY, `value` INT NOT NULL)")
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .then(Mono.from(connection.createStatement("INSERT INTO `test` VALUES (1, 1), (2, 2), (3, 3)")
+                .execute()))
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("UPDATE `test` SET `value` = `value` + 1 WHERE `id` > ?")
+                .bind(0, 2).add()
+                .bind(0, 1).add()
+                .bind(0, 0)
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .reduce(Long::sum)
+            .doOnNext(rows -> assertThat(rows).isEqualTo(6L)));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.api.MySqlResult;
+import io.asyncer.r2dbc.mysql.client.Client;
+import io.asyncer.r2dbc.mysql.codec.Codecs;
+import io.asyncer.r2dbc.mysql.message.server.DecodeContext;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessageDecoder;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MySqlSegmentResult}.
+ */
+class MySqlSegmentResultTest {
+
+    private static final byte[] ROW = { 0, 0 };
+
+    private static final byte[] END_OF_ROWS = { (byte) 0xFE, 0, 0, 2, 0, 0, 0 };
+
+    @Test
+    void countRowsOfReturning() {
+        ConnectionContext context = ConnectionContextTest.mock(true);
+
+        toResult(context, ROW, ROW, ROW, END_OF_ROWS)
+            .getRowsUpdated()
+            .as(StepVerifier::create)
+            .expectNext(3L)
+            .verifyComplete();
+    }
+
+    @Test
+    void affectedRowsWithoutReturning() {
+        ConnectionContext context = ConnectionContextTest.mock(false);
+
+        toResult(context, ROW, ROW, END_OF_ROWS)
+            .getRowsUpdated()
+            .as(StepVerifier::create)
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
+    private static MySqlResult toResult(ConnectionContext context, byte[]... payloads) {
+        Client client = mock(Client.class);
+        ServerMessageDecoder decoder = new ServerMessageDecoder();
+
+        when(client.getContext()).thenReturn(context);
+
+        Flux<ServerMessage> messages = Flux.fromArray(payloads)
+            .map(payload -> decoder.decode(Unpooled.wrappedBuffer(payload), context, DecodeContext.fetch()));
+
+        return MySqlSegmentResult.toResult(true, client, mock(Codecs.class), null, messages);
+    }
+}
@@ -47,6 +47,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -242,6 +244,30 @@ class MySqlSimpleConnectionTest {
         assertThatIllegalArgumentException().isThrownBy(() -> noPrepare.validate(null));
     }
 
+    @Test
+    void preReleaseOutOfTransaction() {
+        Client client = mockClient();
+
+        when(client.isIdle()).thenReturn(true);
+
+        StepVerifier.create(newNoPrepare(client).preRelease()).verifyComplete();
+
+        verify(client, never()).exchange(any());
+    }
+
+    @Test
+    void preReleaseInTransaction() {
+        Client client = mockClient();
+
+        when(client.isIdle()).thenReturn(true);
+        when(client.exchange(any())).thenReturn(Flux.empty());
+        client.getContext().setServerStatuses((short) (ServerStatuses.AUTO_COMMIT | ServerStatuses.IN_TRANSACTION));
+
+        StepVerifier.create(newNoPrepare(client).preRelease()).verifyComplete();
+
+        verify(client).exchange(any());
+    }
+
     private static Client mockClient() {
         Client client = mock(Client.class);
 
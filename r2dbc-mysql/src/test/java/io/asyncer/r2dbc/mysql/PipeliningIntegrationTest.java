@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.api.MySqlStatement;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for pipelining of commands.
+ */
+class PipeliningIntegrationTest extends IntegrationTestSupport {
+
+    PipeliningIntegrationTest() {
+        super(configuration(builder -> builder.pipelining(true).useServerPrepareStatement()));
+    }
+
+    @Test
+    void concurrentTextQueries() {
+        complete(connection -> Flux.range(0, 100)
+            .flatMap(i -> Flux.from(connection.createStatement("SELECT " + i).execute())
+                .flatMap(result -> result.map((row, metadata) -> row.get(0, Integer.class)))
+                .doOnNext(value -> assertThat(value).isEqualTo(i))));
+    }
+
+    @Test
+    void pipelinedBindings() {
+        List<Long> expected = IntStream.range(0, 200).mapToObj(i -> 1L).collect(Collectors.toList());
+
+        complete(connection -> Mono.from(connection.createStatement(
+                    "CREATE TEMPORARY TABLE `test` (`id` INT NOT NULL PRIMARY KEY)")
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(Flux.defer(() -> {
+                MySqlStatement statement = connection.createStatement("INSERT INTO `test` VALUES (?)");
+
+                for (int i = 0; i < 199; ++i) {
+                    statement.bind(0, i).add();
+                }
+
+                return statement.bind(0, 199).execute();
+            }))
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .collectList()
+            .doOnNext(rows -> assertThat(rows).isEqualTo(expected))
+            .thenMany(connection.createStatement("SELECT COUNT(*) FROM `test`").execute())
+            .flatMap(result -> result.map((row, metadata) -> row.get(0, Long.class)))
+            .doOnNext(count -> assertThat(count).isEqualTo(200L)));
+    }
+
+    @Test
+    void pipelinedBindingsStopAtError() {
+        List<Long> updated = new ArrayList<>();
+
+        create().flatMap(connection -> Mono.from(connection.createStatement(
+                    "CREATE TEMPORARY TABLE `test` (`id` INT NOT NULL PRIMARY KEY)")
+                .execute())
+            .flatMap(IntegrationTestSupport::extractRowsUpdated)
+            .thenMany(connection.createStatement("INSERT INTO `test` VALUES (?)")
+                .bind(0, 1).add()
+                .bind(0, 1).add()
+                .bind(0, 2)
+                .execute())
+            .concatMap(IntegrationTestSupport::extractRowsUpdated)
+            .doOnNext(updated::add)
+            .then()
+            .onErrorResume(e -> connection.close().then(Mono.error(e)))
+            .then(connection.close()))
+            .as(StepVerifier::create)
+            .verifyError(R2dbcDataIntegrityViolationException.class);
+
+        assertThat(updated).containsExactly(1L);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2023 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.cache.Caches;
+import io.asyncer.r2dbc.mysql.client.Client;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
+import io.asyncer.r2dbc.mysql.constant.ZeroDateOption;
+import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedExecuteMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedFetchMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedLargeDataMessage;
+import io.asyncer.r2dbc.mysql.message.client.PreparedResetMessage;
+import io.asyncer.r2dbc.mysql.message.server.CompleteMessage;
+import io.asyncer.r2dbc.mysql.message.server.OkMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerStatusMessage;
+import io.r2dbc.spi.IsolationLevel;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.SynchronousSink;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Unit tests for {@link PrepareExchangeable}.
+ */
+class PrepareExchangeableTest {
+
+    private static final String SQL = "SELECT * FROM test WHERE id > ?";
+
+    private static final int STATEMENT_ID = 1;
+
+    private static final int FETCH_SIZE = 10;
+
+    private static final short CURSOR_OPENED = ServerStatuses.AUTO_COMMIT | ServerStatuses.CURSOR_EXISTS;
+
+    private final List<ClientMessage> requests = new ArrayList<>();
+
+    private final List<ServerMessage> responses = new ArrayList<>();
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private final SynchronousSink<ServerMessage> sink = mockSink();
+
+    @Test
+    void cancelCursorStopsFetching() {
+        Client client = mockClient(false, false);
+        PrepareExchangeable exchangeable = subscribe(client);
+
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+        assertThat(requests).hasSize(2).last().isEqualTo(new PreparedFetchMessage(STATEMENT_ID, FETCH_SIZE));
+
+        exchangeable.dispose();
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+
+        assertThat(requests).hasSize(2);
+        assertThat(responses).hasSize(1);
+        assertThat(completed).isTrue();
+        // The cursor is still opened, it should be reset before the statement is reused.
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isTrue();
+    }
+
+    @Test
+    void cancelPrefetchingCursorDrainsFetches() {
+        Client client = mockClient(true, false);
+        PrepareExchangeable exchangeable = subscribe(client);
+        PreparedFetchMessage fetch = new PreparedFetchMessage(STATEMENT_ID, FETCH_SIZE);
+
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+        assertThat(requests).hasSize(3).endsWith(fetch, fetch);
+
+        exchangeable.dispose();
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+
+        assertThat(completed).isFalse();
+
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+
+        assertThat(requests).hasSize(3);
+        assertThat(responses).hasSize(1);
+        assertThat(completed).isTrue();
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isTrue();
+    }
+
+    @Test
+    void cancelParkedCursorResets() {
+        Client client = mockClient(false, true);
+        PrepareExchangeable exchangeable = subscribe(client);
+
+        // No demand, the cursor is parked without fetching.
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+        assertThat(requests).hasSize(1);
+
+        exchangeable.dispose();
+        assertThat(requests).hasSize(2).last().isEqualTo(new PreparedResetMessage(STATEMENT_ID));
+
+        // The response of resetting.
+        exchangeable.accept(status(ServerStatuses.AUTO_COMMIT), sink);
+
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    void cacheHitWithoutCursorExecutesDirectly() {
+        Client client = mockClient(false, false);
+        PrepareExchangeable exchangeable = subscribe(client, new Binding(0), 0);
+
+        assertThat(requests).hasSize(1).first().isExactlyInstanceOf(PreparedExecuteMessage.class);
+
+        exchangeable.accept(status(ServerStatuses.AUTO_COMMIT), sink);
+
+        assertThat(completed).isTrue();
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isFalse();
+
+        subscribe(client, new Binding(0), 0);
+
+        assertThat(requests).hasSize(1).first().isExactlyInstanceOf(PreparedExecuteMessage.class);
+    }
+
+    @Test
+    void cursorRequiresReset() {
+        Client client = mockClient(false, false);
+        PrepareExchangeable exchangeable = subscribe(client);
+
+        exchangeable.accept(status(CURSOR_OPENED), sink);
+        exchangeable.accept(status((short) (CURSOR_OPENED | ServerStatuses.LAST_ROW_SENT)), sink);
+
+        assertThat(completed).isTrue();
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isTrue();
+
+        assertResetBeforeExecute(client);
+    }
+
+    @Test
+    void longDataRequiresReset() {
+        Client client = mockClient(false, false);
+        MySqlParameter blob = mock(MySqlParameter.class);
+        Binding binding = new Binding(1);
+
+        when(blob.isLongData()).thenReturn(true);
+        when(blob.getType()).thenReturn(MySqlType.LONGBLOB);
+        binding.add(0, blob);
+
+        PrepareExchangeable exchangeable = subscribe(client, binding, 0);
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0)).isExactlyInstanceOf(PreparedLargeDataMessage.class);
+        assertThat(requests.get(1)).isExactlyInstanceOf(PreparedExecuteMessage.class);
+
+        exchangeable.accept(status(ServerStatuses.AUTO_COMMIT), sink);
+
+        assertThat(completed).isTrue();
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isTrue();
+
+        assertResetBeforeExecute(client);
+    }
+
+    private void assertResetBeforeExecute(Client client) {
+        PrepareExchangeable exchangeable = subscribe(client, new Binding(0), 0);
+
+        assertThat(requests).containsExactly(new PreparedResetMessage(STATEMENT_ID));
+
+        // The response of resetting clears the mark, then the binding is executed.
+        exchangeable.accept(OkMessage.unitResult(0, 0, ServerStatuses.AUTO_COMMIT), sink);
+
+        assertThat(client.getContext().isResetRequired(STATEMENT_ID)).isFalse();
+        assertThat(requests).hasSize(2).last().isExactlyInstanceOf(PreparedExecuteMessage.class);
+    }
+
+    private PrepareExchangeable subscribe(Client client) {
+        PrepareExchangeable exchangeable = subscribe(client, new Binding(0), FETCH_SIZE);
+
+        assertThat(requests).hasSize(1).first().isExactlyInstanceOf(PreparedExecuteMessage.class);
+
+        return exchangeable;
+    }
+
+    private PrepareExchangeable subscribe(Client client, Binding binding, int fetchSize) {
+        PrepareExchangeable exchangeable = new PrepareExchangeable(client, SQL,
+            Collections.singletonList(binding).iterator(), fetchSize);
+
+        requests.clear();
+        responses.clear();
+        completed.set(false);
+        exchangeable.subscribe(requests::add);
+
+        return exchangeable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SynchronousSink<ServerMessage> mockSink() {
+        SynchronousSink<ServerMessage> sink = (SynchronousSink<ServerMessage>) mock(SynchronousSink.class);
+
+        doAnswer(it -> {
+            throw it.getArgument(0, Exception.class);
+        }).when(sink).error(any());
+        doAnswer(it -> {
+            responses.add(it.getArgument(0));
+            return null;
+        }).when(sink).next(any());
+        doAnswer(it -> {
+            completed.set(true);
+            return null;
+        }).when(sink).complete();
+
+        return sink;
+    }
+
+    private static CompleteMessage status(short statuses) {
+        CompleteMessage message = mock(CompleteMessage.class, withSettings().extraInterfaces(ServerStatusMessage.class));
+
+        when(message.isDone()).thenReturn(true);
+        when(((ServerStatusMessage) message).getServerStatuses()).thenReturn(statuses);
+
+        return message;
+    }
+
+    private static Client mockClient(boolean cursorPrefetch, boolean adaptiveFetch) {
+        Client client = mock(Client.class);
+        ConnectionContext context = new ConnectionContext(ZeroDateOption.USE_NULL, null,
+            8192, true, true, null, false, false, false, cursorPrefetch, adaptiveFetch, null);
+
+        context.initHandshake(1, ServerVersion.parse("8.0.11.MOCKED"), Capability.of(~0));
+        context.setServerStatuses(ServerStatuses.AUTO_COMMIT);
+        context.initSession(Caches.createPrepareCache(8), IsolationLevel.REPEATABLE_READ, false, Duration.ZERO,
+            null, ZoneId.systemDefault());
+        context.getPrepareCache().putIfAbsent(SQL, STATEMENT_ID, evictId -> {
+        });
+        when(client.getContext()).thenReturn(context);
+
+        return client;
+    }
+}
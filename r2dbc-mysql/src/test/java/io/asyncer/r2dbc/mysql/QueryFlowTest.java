@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import io.asyncer.r2dbc.mysql.constant.ServerStatuses;
+import io.asyncer.r2dbc.mysql.message.client.ClientMessage;
+import io.asyncer.r2dbc.mysql.message.client.LocalInfileResponse;
+import io.asyncer.r2dbc.mysql.message.client.PreparedTextQueryMessage;
+import io.asyncer.r2dbc.mysql.message.client.TextQueryMessage;
+import io.asyncer.r2dbc.mysql.message.server.DecodeContext;
+import io.asyncer.r2dbc.mysql.message.server.OkMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessage;
+import io.asyncer.r2dbc.mysql.message.server.ServerMessageDecoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link QueryFlow}.
+ */
+class QueryFlowTest {
+
+    private static final String LOAD_DATA = "LOAD DATA LOCAL INFILE '/tmp/data.csv' INTO TABLE test";
+
+    private final ConnectionContext context = ConnectionContextTest.mock();
+
+    private final List<ClientMessage> requests = new ArrayList<>();
+
+    private final List<Throwable> errors = new ArrayList<>();
+
+    private final SynchronousSink<ServerMessage> sink = mockSink();
+
+    @Test
+    void simpleQueryUsesLocalInfileOnce() {
+        SimpleQueryExchangeable exchangeable = new SimpleQueryExchangeable(LOAD_DATA + ';' + LOAD_DATA,
+            data("1,name1\n"));
+
+        exchangeable.subscribe(requests::add);
+        assertThat(requests).hasSize(1).first().isExactlyInstanceOf(TextQueryMessage.class);
+
+        exchangeable.accept(localInfileRequest(), sink);
+        assertBoundData(requests.get(1));
+
+        exchangeable.accept(localInfileRequest(), sink);
+        assertFailedData(requests.get(2));
+    }
+
+    @Test
+    void textQueryUsesLocalInfileOnce() {
+        TextQueryExchangeable exchangeable = new TextQueryExchangeable(Query.parse(LOAD_DATA), "",
+            Arrays.asList(new Binding(0), new Binding(0)).iterator(), false, data("1,name1\n"));
+
+        exchangeable.subscribe(requests::add);
+        assertThat(requests).hasSize(1).first().isExactlyInstanceOf(PreparedTextQueryMessage.class);
+
+        exchangeable.accept(localInfileRequest(), sink);
+        assertBoundData(requests.get(1));
+
+        // The next binding is executed after the result of the previous one.
+        exchangeable.accept(OkMessage.unitResult(0, 0, ServerStatuses.AUTO_COMMIT), sink);
+        assertThat(requests).hasSize(3).last().isExactlyInstanceOf(PreparedTextQueryMessage.class);
+
+        exchangeable.accept(localInfileRequest(), sink);
+        assertFailedData(requests.get(3));
+    }
+
+    private void assertBoundData(ClientMessage message) {
+        List<ByteBuf> buffers = encode(message);
+
+        try {
+            assertThat(buffers).hasSize(2);
+            assertThat(buffers.get(0).toString(StandardCharsets.US_ASCII)).isEqualTo("1,name1\n");
+            // The terminal empty packet.
+            assertThat(buffers.get(1).isReadable()).isFalse();
+            assertThat(errors).isEmpty();
+        } finally {
+            buffers.forEach(ByteBuf::release);
+        }
+    }
+
+    private void assertFailedData(ClientMessage message) {
+        List<ByteBuf> buffers = encode(message);
+
+        try {
+            // The requested file should never be read, only the terminal empty packet is sent.
+            assertThat(buffers).hasSize(1);
+            assertThat(buffers.get(0).isReadable()).isFalse();
+            assertThat(errors).hasSize(1).first().isInstanceOf(R2dbcNonTransientResourceException.class);
+        } finally {
+            buffers.forEach(ByteBuf::release);
+        }
+    }
+
+    private List<ByteBuf> encode(ClientMessage message) {
+        assertThat(message).isExactlyInstanceOf(LocalInfileResponse.class);
+        assertThat(((LocalInfileResponse) message).isDataBound()).isTrue();
+
+        return Flux.from(message.encode(ByteBufAllocator.DEFAULT, context)).collectList().block();
+    }
+
+    private ServerMessage localInfileRequest() {
+        ByteBuf buf = Unpooled.buffer().writeByte(0xFB)
+            .writeBytes("/tmp/data.csv".getBytes(StandardCharsets.US_ASCII));
+
+        return new ServerMessageDecoder().decode(buf, context, DecodeContext.command());
+    }
+
+    private static Flux<ByteBuf> data(String data) {
+        return Flux.defer(() -> Flux.just(Unpooled.copiedBuffer(data, StandardCharsets.US_ASCII)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private SynchronousSink<ServerMessage> mockSink() {
+        SynchronousSink<ServerMessage> sink = (SynchronousSink<ServerMessage>) mock(SynchronousSink.class);
+
+        doAnswer(it -> {
+            errors.add(it.getArgument(0));
+            return null;
+        }).when(sink).error(any());
+
+        return sink;
+    }
+}
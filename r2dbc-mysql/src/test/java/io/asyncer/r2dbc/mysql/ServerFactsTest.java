@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ServerFacts}.
+ */
+class ServerFactsTest {
+
+    @Test
+    void isValidFor() {
+        ConnectionContext context = ConnectionContextTest.mock();
+        ServerVersion version = context.getServerVersion();
+
+        assertThat(new ServerFacts(version, 0, "MySQL", "UTC", true).isValidFor(context)).isTrue();
+        assertThat(new ServerFacts(version, 1, "MySQL", "UTC", true).isValidFor(context)).isTrue();
+        // Connection ID of context is smaller, the server may have been restarted.
+        assertThat(new ServerFacts(version, 2, "MySQL", "UTC", true).isValidFor(context)).isFalse();
+        assertThat(new ServerFacts(ServerVersion.create(5, 7, 44), 0, "MySQL", "UTC", true)
+            .isValidFor(context)).isFalse();
+    }
+}
@@ -18,7 +18,11 @@ package io.asyncer.r2dbc.mysql;
 
 import io.asyncer.r2dbc.mysql.client.Client;
 import io.asyncer.r2dbc.mysql.codec.Codecs;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,4 +55,15 @@ class TextParameterizedStatementTest implements StatementTestSupport<TextParamet
     public boolean supportsBinding() {
         return true;
     }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void localInfile() {
+        TextParameterizedStatement statement = makeInstance(false, PARAMETERIZED, SIMPLE);
+
+        assertThat(statement.localInfile(Flux.empty())).isSameAs(statement);
+        assertThat(statement.localInfileText(Flux.just("1,name1\n"))).isSameAs(statement);
+        assertThatIllegalArgumentException().isThrownBy(() -> statement.localInfile(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> statement.localInfileText(null));
+    }
 }
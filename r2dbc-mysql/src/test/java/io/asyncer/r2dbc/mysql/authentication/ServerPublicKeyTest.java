@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.authentication;
+
+import io.asyncer.r2dbc.mysql.collation.CharCollation;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link ServerPublicKey}.
+ */
+class ServerPublicKeyTest {
+
+    @Test
+    void encrypt() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+
+        generator.initialize(2048);
+
+        KeyPair pair = generator.generateKeyPair();
+        String pem = "-----BEGIN PUBLIC KEY-----\n" +
+            Base64.getMimeEncoder(64, new byte[] { '\n' }).encodeToString(pair.getPublic().getEncoded()) +
+            "\n-----END PUBLIC KEY-----\n";
+        ServerPublicKey key = ServerPublicKey.parse(pem.getBytes(StandardCharsets.US_ASCII));
+        byte[] salt = { 1, 2, 3, 4, 5 };
+        byte[] encrypted = key.encrypt("p@ssw0rd", salt, CharCollation.clientCharCollation(), true);
+        Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+
+        cipher.init(Cipher.DECRYPT_MODE, pair.getPrivate());
+
+        byte[] plain = cipher.doFinal(encrypted);
+
+        for (int i = 0; i < plain.length; ++i) {
+            plain[i] ^= salt[i % salt.length];
+        }
+
+        assertThat(plain).isEqualTo("p@ssw0rd\0".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parseInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ServerPublicKey.parse(new byte[0]));
+        assertThatIllegalArgumentException().isThrownBy(() -> ServerPublicKey.parse(
+            "-----BEGIN PUBLIC KEY-----\nAAAA\n-----END PUBLIC KEY-----".getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.client;
+
+import io.asyncer.r2dbc.mysql.constant.Packets;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.ClosedChannelException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CompressionDuplexCodec}.
+ */
+class CompressionDuplexCodecTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(
+        new CompressionDuplexCodec(new ZlibCompressor()));
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void completeWritesAfterFlush() {
+        ChannelFuture first = channel.write(Unpooled.wrappedBuffer(new byte[] { 1, 2, 3 }));
+        ChannelFuture second = channel.write(Unpooled.wrappedBuffer(new byte[] { 4, 5, 6 }));
+
+        // Cumulated buffers are not written to the socket yet.
+        assertThat(first.isDone()).isFalse();
+        assertThat(second.isDone()).isFalse();
+
+        channel.flush();
+
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(second.isSuccess()).isTrue();
+    }
+
+    @Test
+    void completeWritesOfFullPayloadAfterFlush() {
+        ChannelFuture future = channel.write(Unpooled.wrappedBuffer(new byte[Packets.MAX_PAYLOAD_SIZE]));
+
+        // The frame of the maximum payload is written, but it is not flushed to the socket yet.
+        assertThat(future.isDone()).isFalse();
+
+        channel.flush();
+
+        assertThat(future.isSuccess()).isTrue();
+    }
+
+    @Test
+    void failWritesOnRemoved() {
+        ChannelFuture future = channel.write(Unpooled.wrappedBuffer(new byte[] { 1, 2, 3 }));
+
+        channel.pipeline().remove(CompressionDuplexCodec.class);
+
+        assertThat(future.cause()).isInstanceOf(ClosedChannelException.class);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.client;
+
+import io.asyncer.r2dbc.mysql.ConnectionContextTest;
+import io.asyncer.r2dbc.mysql.constant.Packets;
+import io.asyncer.r2dbc.mysql.message.client.LocalInfileResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.SynchronousSink;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link MessageDuplexCodec}.
+ */
+class MessageDuplexCodecTest {
+
+    private static final int CHUNK_SIZE = Packets.MAX_PAYLOAD_SIZE - 1;
+
+    @TempDir
+    Path dir;
+
+    private EmbeddedChannel channel;
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void writeFileRegionsAtChunkBoundary() throws Exception {
+        List<Object> outbound = write(file(Packets.MAX_PAYLOAD_SIZE));
+
+        try {
+            assertThat(outbound).hasSize(5);
+            assertHeader(outbound.get(0), CHUNK_SIZE, 0);
+            assertRegion(outbound.get(1), 0, CHUNK_SIZE);
+            assertHeader(outbound.get(2), 1, 1);
+            assertRegion(outbound.get(3), CHUNK_SIZE, 1);
+            // The terminal empty packet.
+            assertHeader(outbound.get(4), 0, 2);
+        } finally {
+            outbound.forEach(ReferenceCountUtil::release);
+        }
+    }
+
+    @Test
+    void writeFileRegionsOfExactMultiple() throws Exception {
+        List<Object> outbound = write(file(CHUNK_SIZE * 2L));
+
+        try {
+            assertThat(outbound).hasSize(5);
+            assertHeader(outbound.get(0), CHUNK_SIZE, 0);
+            assertRegion(outbound.get(1), 0, CHUNK_SIZE);
+            assertHeader(outbound.get(2), CHUNK_SIZE, 1);
+            assertRegion(outbound.get(3), CHUNK_SIZE, CHUNK_SIZE);
+            // No region of zero bytes, the terminal empty packet follows directly.
+            assertHeader(outbound.get(4), 0, 2);
+        } finally {
+            outbound.forEach(ReferenceCountUtil::release);
+        }
+    }
+
+    @Test
+    void writeBuffersWithSslHandler() throws Exception {
+        Path file = dir.resolve("data.txt");
+        Files.write(file, "1,name1\n".getBytes(StandardCharsets.US_ASCII));
+
+        newChannel().pipeline().addLast(new SslHandler(serverEngine()));
+
+        ByteBuf packets = packets(write(file));
+
+        try {
+            assertPacket(packets, 8, 0);
+            assertThat(packets.readCharSequence(8, StandardCharsets.US_ASCII).toString())
+                .isEqualTo("1,name1\n");
+            // The terminal empty packet.
+            assertPacket(packets, 0, 1);
+            assertThat(packets.isReadable()).isFalse();
+        } finally {
+            packets.release();
+        }
+    }
+
+    @Test
+    void writeBuffersLargerThanPayloadWithSslHandler() throws Exception {
+        // The buffer size of reading files is allowed to be larger than the maximum payload size.
+        newChannel(Packets.MAX_PAYLOAD_SIZE + 1).pipeline().addLast(new SslHandler(serverEngine()));
+
+        ByteBuf packets = packets(write(file(Packets.MAX_PAYLOAD_SIZE)));
+
+        try {
+            assertPacket(packets, CHUNK_SIZE, 0);
+            packets.skipBytes(CHUNK_SIZE);
+            assertPacket(packets, 1, 1);
+            packets.skipBytes(1);
+            // The terminal empty packet.
+            assertPacket(packets, 0, 2);
+            assertThat(packets.isReadable()).isFalse();
+        } finally {
+            packets.release();
+        }
+    }
+
+    @Test
+    void writeBuffersWithCompression() throws Exception {
+        newChannel().pipeline().addFirst(CompressionDuplexCodec.NAME,
+            new CompressionDuplexCodec(new ZlibCompressor()));
+
+        List<Object> outbound = write(file(CHUNK_SIZE + 1L));
+
+        try {
+            assertThat(outbound).isNotEmpty().allMatch(ByteBuf.class::isInstance);
+        } finally {
+            outbound.forEach(ReferenceCountUtil::release);
+        }
+    }
+
+    private EmbeddedChannel newChannel() {
+        return newChannel(8192);
+    }
+
+    private EmbeddedChannel newChannel(int localInfileBufferSize) {
+        if (channel == null) {
+            // The codec checks the allowed path by the connection context.
+            channel = new EmbeddedChannel(new MessageDuplexCodec(ConnectionContextTest.mock(false,
+                ZoneId.systemDefault(), dir, localInfileBufferSize)));
+        }
+
+        return channel;
+    }
+
+    private ByteBuf packets(List<Object> outbound) {
+        ByteBuf packets = channel.alloc().buffer();
+
+        try {
+            assertThat(outbound).allMatch(ByteBuf.class::isInstance);
+            outbound.forEach(it -> packets.writeBytes((ByteBuf) it));
+
+            return packets;
+        } catch (Throwable e) {
+            packets.release();
+            throw e;
+        } finally {
+            outbound.forEach(ReferenceCountUtil::release);
+        }
+    }
+
+    private Path file(long size) throws Exception {
+        Path file = dir.resolve("data-" + size + ".bin");
+
+        // A sparse file, it does not take space of the disk.
+        try (RandomAccessFile f = new RandomAccessFile(file.toFile(), "rw")) {
+            f.setLength(size);
+        }
+
+        return file;
+    }
+
+    private List<Object> write(Path file) throws Exception {
+        EmbeddedChannel channel = newChannel();
+        ChannelPromise promise = channel.newPromise();
+        CountDownLatch latch = new CountDownLatch(1);
+        @SuppressWarnings("unchecked")
+        SynchronousSink<Object> sink = (SynchronousSink<Object>) mock(SynchronousSink.class);
+        MessageDuplexCodec codec = channel.pipeline().get(MessageDuplexCodec.class);
+
+        promise.addListener(future -> latch.countDown());
+        codec.write(channel.pipeline().context(codec), new LocalInfileResponse(file.toString(), sink), promise);
+
+        // Buffers are read from the file asynchronously if zero-copy is unavailable.
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Object> outbound = new ArrayList<>();
+        Object message;
+
+        while ((message = channel.readOutbound()) != null) {
+            outbound.add(message);
+        }
+
+        return outbound;
+    }
+
+    private static SSLEngine serverEngine() throws Exception {
+        SSLEngine engine = SSLContext.getDefault().createSSLEngine();
+
+        // Server mode does not write anything before receiving a handshake.
+        engine.setUseClientMode(false);
+
+        return engine;
+    }
+
+    private static void assertPacket(ByteBuf packets, int size, int sequenceId) {
+        assertThat(packets.readUnsignedMediumLE()).isEqualTo(size);
+        assertThat(packets.readUnsignedByte()).isEqualTo((short) sequenceId);
+    }
+
+    private static void assertHeader(Object message, int size, int sequenceId) {
+        assertThat(message).isInstanceOf(ByteBuf.class);
+
+        ByteBuf header = (ByteBuf) message;
+
+        assertThat(header.readableBytes()).isEqualTo(Packets.NORMAL_HEADER_SIZE);
+        assertThat(header.getUnsignedMediumLE(header.readerIndex())).isEqualTo(size);
+        assertThat(header.getUnsignedByte(header.readerIndex() + 3)).isEqualTo((short) sequenceId);
+    }
+
+    private static void assertRegion(Object message, long position, long count) {
+        assertThat(message).isInstanceOf(FileRegion.class);
+
+        FileRegion region = (FileRegion) message;
+
+        assertThat(region.position()).isEqualTo(position);
+        assertThat(region.count()).isEqualTo(count);
+    }
+}
@@ -29,6 +29,7 @@ import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -132,6 +133,73 @@ class RequestQueueTest {
         assertThat(sources).extracting(Disposable::isDisposed).containsOnly(true);
     }
 
+    @Test
+    void pipelining() {
+        RequestQueue queue = new RequestQueue(true);
+        List<String> writes = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+
+        pipelined(queue, writes, "1").subscribe(results::add);
+        pipelined(queue, writes, "2").subscribe(results::add);
+
+        // The first exchange is still active, but the second one has been written.
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2"));
+        assertThat(results).isEqualTo(Collections.singletonList("1"));
+
+        Mono.<Flux<String>>create(sink -> queue.submit(RequestTask.wrap(sink, Flux.defer(() -> {
+            writes.add("3");
+            return Flux.just("3");
+        })))).flatMapMany(Function.identity()).subscribe(results::add);
+        pipelined(queue, writes, "4").subscribe(results::add);
+
+        // A non-pipelinable exchange closes the pipeline.
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2"));
+
+        queue.run();
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2"));
+        assertThat(results).isEqualTo(Arrays.asList("1", "2"));
+
+        queue.run();
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2", "3"));
+        assertThat(results).isEqualTo(Arrays.asList("1", "2", "3"));
+
+        queue.run();
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2", "3", "4"));
+        assertThat(results).isEqualTo(Arrays.asList("1", "2", "3", "4"));
+
+        queue.run();
+
+        // The queue is idle, so a non-pipelinable exchange will be executed directly.
+        Mono.<Flux<String>>create(sink -> queue.submit(RequestTask.wrap(sink, Flux.defer(() -> {
+            writes.add("5");
+            return Flux.just("5");
+        })))).flatMapMany(Function.identity()).subscribe(results::add);
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2", "3", "4", "5"));
+        assertThat(results).isEqualTo(Arrays.asList("1", "2", "3", "4", "5"));
+    }
+
+    @Test
+    void pipeliningDrainCancelled() {
+        RequestQueue queue = new RequestQueue(true);
+        List<String> writes = new ArrayList<>();
+        List<String> drains = new ArrayList<>();
+
+        pipelined(queue, writes, "1").subscribe();
+
+        Disposable second = Mono.<Flux<String>>create(sink -> queue.submit(RequestTask.pipelined(null,
+                () -> writes.add("2"), sink, Flux.just("2").doOnNext(drains::add))))
+            .flatMapMany(Function.identity())
+            .subscribe();
+
+        assertThat(writes).isEqualTo(Arrays.asList("1", "2"));
+
+        second.dispose();
+        queue.run();
+
+        // Responses of the written exchange should be consumed even if it has been cancelled.
+        assertThat(drains).isEqualTo(Collections.singletonList("2"));
+    }
+
     @Test
     void keeping() {
         RequestQueue queue = new RequestQueue();
@@ -139,6 +207,12 @@ class RequestQueueTest {
         assertThat(queue.keeping(-1)).isEqualTo(-1L);
     }
 
+    private static Flux<String> pipelined(RequestQueue queue, List<String> writes, String value) {
+        return Mono.<Flux<String>>create(sink -> queue.submit(RequestTask.pipelined(null,
+                () -> writes.add(value), sink, Flux.just(value))))
+            .flatMapMany(Function.identity());
+    }
+
     private static final class IntegerData extends AtomicInteger implements ClientMessage, Disposable {
 
         private final int data;
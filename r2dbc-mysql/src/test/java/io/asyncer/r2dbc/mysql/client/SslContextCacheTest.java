@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.net.ssl.SSLException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link SslContextCache}.
+ */
+class SslContextCacheTest {
+
+    @Test
+    void sharedByProtocols() {
+        SslContextCache cache = new SslContextCache();
+        AtomicInteger builds = new AtomicInteger();
+        String[] protocols = { "TLSv1.3", "TLSv1.2" };
+
+        SslContext first = cache.get(protocols, () -> {
+            builds.incrementAndGet();
+            return mock(SslContext.class);
+        });
+        SslContext second = cache.get(new String[] { "TLSv1.3", "TLSv1.2" }, () -> {
+            builds.incrementAndGet();
+            return mock(SslContext.class);
+        });
+        SslContext other = cache.get(new String[] { "TLSv1.1" }, () -> {
+            builds.incrementAndGet();
+            return mock(SslContext.class);
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(builds).hasValue(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "TLSv1.2", "TLSv1.3" })
+    void resumeSession(String protocol) throws Exception {
+        SelfSignedCertificate cert = new SelfSignedCertificate("localhost");
+
+        try {
+            SslContextCache cache = new SslContextCache();
+            String[] protocols = { protocol };
+            SslContext server = SslContextBuilder.forServer(cert.certificate(), cert.privateKey())
+                .sslProvider(SslProvider.JDK)
+                .protocols(protocols)
+                .build();
+            SslContext client = cache.get(protocols, () -> {
+                try {
+                    return SslContextBuilder.forClient()
+                        .sslProvider(SslProvider.JDK)
+                        .trustManager(cert.certificate())
+                        .protocols(protocols)
+                        .build();
+                } catch (SSLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            handshake(cache, client, server);
+
+            assertThat(cache.getFullHandshakes()).isOne();
+            assertThat(cache.getResumedHandshakes()).isZero();
+
+            handshake(cache, client, server);
+
+            assertThat(cache.getFullHandshakes()).isOne();
+            assertThat(cache.getResumedHandshakes()).isOne();
+        } finally {
+            cert.delete();
+        }
+    }
+
+    @Test
+    void resumptionHitRate() {
+        SslContextCache cache = new SslContextCache();
+
+        assertThat(cache.getResumptionHitRate()).isZero();
+
+        cache.onHandshake(false);
+        cache.onHandshake(true);
+        cache.onHandshake(true);
+        cache.onHandshake(true);
+
+        assertThat(cache.getFullHandshakes()).isOne();
+        assertThat(cache.getResumedHandshakes()).isEqualTo(3);
+        assertThat(cache.getResumptionHitRate()).isEqualTo(0.75);
+    }
+
+    private static void handshake(SslContextCache cache, SslContext client, SslContext server) {
+        // Session resumption requires the peer address, same as SslBridgeHandler.
+        SslHandler clientHandler = client.newHandler(ByteBufAllocator.DEFAULT, "localhost", 3306);
+        Set<ByteBuffer> cachedSessionIds = SslContextCache.cachedSessionIds(client);
+        EmbeddedChannel clientChannel = new EmbeddedChannel(clientHandler);
+        EmbeddedChannel serverChannel = new EmbeddedChannel(server.newHandler(ByteBufAllocator.DEFAULT));
+
+        try {
+            // Transfer until no more data, so the session ticket after the handshake of TLSv1.3 is received.
+            while (transfer(clientChannel, serverChannel) | transfer(serverChannel, clientChannel)) {
+                assertThat(clientHandler.handshakeFuture().cause()).isNull();
+            }
+
+            assertThat(clientHandler.handshakeFuture().isSuccess()).isTrue();
+            cache.onHandshake(SslContextCache.isResumed(cachedSessionIds, clientHandler.engine().getSession()));
+        } finally {
+            clientChannel.finishAndReleaseAll();
+            serverChannel.finishAndReleaseAll();
+        }
+    }
+
+    private static boolean transfer(EmbeddedChannel from, EmbeddedChannel to) {
+        boolean transferred = false;
+        ByteBuf buf;
+
+        while ((buf = from.readOutbound()) != null) {
+            to.writeInbound(buf);
+            transferred = true;
+        }
+
+        return transferred;
+    }
+}
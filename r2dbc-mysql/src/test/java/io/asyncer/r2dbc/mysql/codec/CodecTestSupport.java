@@ -24,6 +24,7 @@ import io.asyncer.r2dbc.mysql.collation.CharCollation;
 import io.asyncer.r2dbc.mysql.internal.util.VarIntUtils;
 import io.asyncer.r2dbc.mysql.message.client.ParameterWriterHelper;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,69 @@ interface CodecTestSupport<T> {
         }
     }
 
+    @Test
+    default void writeBinary() {
+        Codec<T> codec = getCodec();
+        T[] origin = originParameters();
+        ByteBuf[] binaries = binaryParameters(CharCollation.clientCharCollation().getCharset());
+
+        assertThat(origin).hasSize(binaries.length);
+
+        for (int i = 0; i < origin.length; ++i) {
+            MySqlParameter parameter = codec.encode(origin[i], context());
+            ByteBuf sized = sized(binaries[i]);
+
+            if (parameter.binarySize() < 0) {
+                sized.release();
+                continue;
+            }
+
+            ByteBuf buf = Unpooled.buffer(parameter.binarySize());
+
+            try {
+                parameter.writeBinary(buf);
+                assertThat(buf).isEqualTo(sized);
+            } finally {
+                sized.release();
+                buf.release();
+            }
+        }
+    }
+
+    @Test
+    default void encodeLongData() {
+        Codec<T> codec = getCodec();
+        T[] origin = originParameters();
+        ByteBuf[] binaries = binaryParameters(CharCollation.clientCharCollation().getCharset());
+
+        assertThat(origin).hasSize(binaries.length);
+
+        for (int i = 0; i < origin.length; ++i) {
+            MySqlParameter parameter = codec.encode(origin[i], context());
+            ByteBuf binary = binaries[i];
+
+            if (!parameter.isLongData()) {
+                binary.release();
+                continue;
+            }
+
+            CompositeByteBuf merged = Unpooled.compositeBuffer();
+
+            try {
+                Flux.from(parameter.publishLongData(UnpooledByteBufAllocator.DEFAULT))
+                    .doOnNext(buf -> merged.addComponent(true, buf))
+                    .as(StepVerifier::create)
+                    .thenConsumeWhile(ignored -> true)
+                    .verifyComplete();
+
+                assertThat((ByteBuf) merged).isEqualTo(binary);
+            } finally {
+                binary.release();
+                merged.release();
+            }
+        }
+    }
+
     @Test
     default void encodeStringify() {
         Codec<T> codec = getCodec();
@@ -21,11 +21,18 @@ import io.asyncer.r2dbc.mysql.api.MySqlColumnMetadata;
 import io.asyncer.r2dbc.mysql.collation.CharCollation;
 import io.asyncer.r2dbc.mysql.constant.MySqlType;
 import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.asyncer.r2dbc.mysql.message.NormalFieldValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.r2dbc.spi.Nullability;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for {@link Codecs}.
@@ -49,6 +56,55 @@ class CodecsTest {
         assertThat(decodeNullField(MySqlType.BIT, boolean.class)).isNull();
     }
 
+    @Test
+    void decodePrimitive() {
+        ByteBuf binaryLong = Unpooled.buffer().writeLongLE(-42L);
+        ByteBuf binaryDouble = Unpooled.buffer().writeDoubleLE(1.5);
+        ByteBuf textInt = Unpooled.copiedBuffer("123", StandardCharsets.US_ASCII);
+
+        try {
+            assertThat(CODECS.decodeLong(new NormalFieldValue(binaryLong), new MockMySqlColumnMetadata(
+                MySqlType.BIGINT), true, CONTEXT)).isEqualTo(-42L);
+            assertThat(CODECS.decodeDouble(new NormalFieldValue(binaryDouble), new MockMySqlColumnMetadata(
+                MySqlType.DOUBLE), true, CONTEXT)).isEqualTo(1.5);
+            assertThat(CODECS.decodeInt(new NormalFieldValue(textInt), new MockMySqlColumnMetadata(
+                MySqlType.INT), false, CONTEXT)).isEqualTo(123);
+            assertThat(CODECS.decodeLong(new NormalFieldValue(textInt), new MockMySqlColumnMetadata(
+                MySqlType.INT), false, CONTEXT)).isEqualTo(123L);
+        } finally {
+            binaryLong.release();
+            binaryDouble.release();
+            textInt.release();
+        }
+
+        assertThatThrownBy(() -> CODECS.decodeLong(NULL, new MockMySqlColumnMetadata(MySqlType.BIGINT), true,
+            CONTEXT)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void resolveCached() {
+        assertThat(CODECS.encode(1L, CONTEXT)).isEqualTo(CODECS.encode(1L, CONTEXT));
+        assertThat(CODECS.encode(Collections.singleton("a"), CONTEXT).getType()).isEqualTo(MySqlType.VARCHAR);
+        // SetCodec checks elements, resolution of a Set should not be cached.
+        assertThatThrownBy(() -> CODECS.encode(Collections.singleton(1), CONTEXT))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        ByteBuf buf = Unpooled.copiedBuffer("1", StandardCharsets.US_ASCII);
+
+        try {
+            MockMySqlColumnMetadata metadata = new MockMySqlColumnMetadata(MySqlType.INT);
+
+            for (int i = 0; i < 3; ++i) {
+                assertThat(CODECS.<Object>decode(new NormalFieldValue(buf), metadata, Number.class, false,
+                    CONTEXT)).isEqualTo(1);
+                assertThat(CODECS.<Object>decode(new NormalFieldValue(buf), metadata, Object.class, false,
+                    CONTEXT)).isEqualTo(1);
+            }
+        } finally {
+            buf.release();
+        }
+    }
+
     @Nullable
     private static <T> T decodeNullField(MySqlType type, Class<T> clazz) {
         return CODECS.decode(NULL, new MockMySqlColumnMetadata(type), clazz, false, CONTEXT);
@@ -17,6 +17,7 @@
 package io.asyncer.r2dbc.mysql.codec.lob;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
@@ -72,6 +73,26 @@ class LobUtilsTest {
         assertThat(buffers).extracting(ByteBuf::refCnt).containsOnly(0);
     }
 
+    @Test
+    void mergedFieldValue() {
+        List<ByteBuf> buffers = createMulti();
+        CompositeByteBuf merged = Unpooled.compositeBuffer().addComponents(true, buffers);
+
+        Flux.from(LobUtils.createBlob(merged.slice()).stream())
+            .as(it -> StepVerifier.create(it, 1))
+            .expectNext(ByteBuffer.wrap(MULTI[0].getBytes()))
+            .then(() -> {
+                // Mock row releasing, emitted packets should be released before others.
+                merged.release();
+                assertThat(buffers).extracting(ByteBuf::refCnt).containsExactly(0, 1, 1);
+            })
+            .thenRequest(2)
+            .expectNext(ByteBuffer.wrap(MULTI[1].getBytes()), ByteBuffer.wrap(MULTI[2].getBytes()))
+            .verifyComplete();
+
+        assertThat(buffers).extracting(ByteBuf::refCnt).containsOnly(0);
+    }
+
     @Test
     void consumePortion() {
         List<ByteBuf> buffers = createMulti();
@@ -52,4 +52,21 @@ class StringUtilsTest {
     void badQuoteIdentifier(String name) {
         assertThatIllegalArgumentException().isThrownBy(() -> StringUtils.quoteIdentifier(name));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "LOAD DATA LOCAL INFILE '/path/to/file' INTO TABLE t",
+        "load data local infile '/path/to/file' into table t",
+        "/* comment */ LOAD XML LOCAL INFILE 'file.xml' INTO TABLE t",
+        "SELECT 1; LOAD DATA LOCAL InFile 'x' INTO TABLE t",
+    })
+    void mayLoadLocalInfile(String sql) {
+        assertThat(StringUtils.mayLoadLocalInfile(sql)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "SELECT 1", "INSERT INTO t VALUES (1)", "SELECT 'INFIL' FROM dual" })
+    void mayNotLoadLocalInfile(String sql) {
+        assertThat(StringUtils.mayLoadLocalInfile(sql)).isFalse();
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 asyncer.io projects
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.asyncer.r2dbc.mysql.message.server;
+
+import io.asyncer.r2dbc.mysql.api.MySqlReadableMetadata;
+import io.asyncer.r2dbc.mysql.codec.lob.LobUtils;
+import io.asyncer.r2dbc.mysql.constant.MySqlType;
+import io.asyncer.r2dbc.mysql.message.FieldValue;
+import io.asyncer.r2dbc.mysql.message.NormalFieldValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.spi.Blob;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RowMessage}.
+ */
+class RowMessageTest {
+
+    @Test
+    void textFields() {
+        ByteBuf buf = Unpooled.buffer()
+            .writeByte(3).writeBytes("abc".getBytes(StandardCharsets.US_ASCII))
+            .writeByte(RowMessage.NULL_VALUE)
+            .writeByte(0)
+            .writeByte(2).writeBytes("42".getBytes(StandardCharsets.US_ASCII));
+        MySqlReadableMetadata[] metadata = metadata(MySqlType.VARCHAR, MySqlType.VARCHAR, MySqlType.VARCHAR,
+            MySqlType.INT);
+        RowMessage message = row(buf);
+        RowFields fields = message.fields(false, metadata);
+
+        // The fields should be still available after the message released.
+        message.release();
+
+        try {
+            assertThat(asString(fields.get(3))).isEqualTo("42");
+            assertThat(asString(fields.get(0))).isEqualTo("abc");
+            assertThat(fields.get(1).isNull()).isTrue();
+            assertThat(asString(fields.get(2))).isEmpty();
+        } finally {
+            fields.release();
+        }
+
+        assertThat(buf.refCnt()).isZero();
+    }
+
+    @Test
+    void binaryFields() {
+        ByteBuf buf = Unpooled.buffer()
+            .writeByte(0)
+            // Null bitmap of 3 columns with offset 2, the second column is null.
+            .writeByte(1 << 3)
+            .writeIntLE(42)
+            .writeByte(3).writeBytes("abc".getBytes(StandardCharsets.US_ASCII));
+        MySqlReadableMetadata[] metadata = metadata(MySqlType.INT, MySqlType.BIGINT, MySqlType.VARCHAR);
+        RowMessage message = row(buf);
+        RowFields fields = message.fields(true, metadata);
+
+        message.release();
+
+        try {
+            assertThat(asString(fields.get(2))).isEqualTo("abc");
+            assertThat(fields.get(1).isNull()).isTrue();
+
+            ByteBuf value = ((NormalFieldValue) fields.get(0)).getBufferSlice();
+
+            assertThat(value.readIntLE()).isEqualTo(42);
+        } finally {
+            fields.release();
+        }
+
+        assertThat(buf.refCnt()).isZero();
+    }
+
+    @Test
+    void fieldSpanningPackets() {
+        ByteBuf first = Unpooled.buffer()
+            .writeByte(10).writeBytes("Hello".getBytes(StandardCharsets.US_ASCII));
+        ByteBuf second = Unpooled.buffer()
+            .writeBytes("R2DBC".getBytes(StandardCharsets.US_ASCII))
+            .writeByte(2).writeBytes("42".getBytes(StandardCharsets.US_ASCII));
+        MySqlReadableMetadata[] metadata = metadata(MySqlType.LONGBLOB, MySqlType.INT);
+        RowMessage message = new RowMessage(FieldReader.of(new ArrayList<>(Arrays.asList(first, second))));
+        RowFields fields = message.fields(false, metadata);
+        Blob blob;
+
+        message.release();
+
+        try {
+            assertThat(asString(fields.get(0))).isEqualTo("HelloR2DBC");
+            assertThat(asString(fields.get(1))).isEqualTo("42");
+
+            blob = LobUtils.createBlob(((NormalFieldValue) fields.get(0)).getBufferSlice());
+        } finally {
+            fields.release();
+        }
+
+        // The blob emits each packet without copying the entire field.
+        Flux.from(blob.stream())
+            .as(StepVerifier::create)
+            .expectNext(ByteBuffer.wrap("Hello".getBytes(StandardCharsets.US_ASCII)))
+            .expectNext(ByteBuffer.wrap("R2DBC".getBytes(StandardCharsets.US_ASCII)))
+            .verifyComplete();
+
+        assertThat(first.refCnt()).isZero();
+        assertThat(second.refCnt()).isZero();
+    }
+
+    private static RowMessage row(ByteBuf buf) {
+        List<ByteBuf> buffers = new ArrayList<>(Collections.singletonList(buf));
+
+        return new RowMessage(FieldReader.of(buffers));
+    }
+
+    private static String asString(FieldValue value) {
+        return ((NormalFieldValue) value).getBufferSlice().toString(StandardCharsets.US_ASCII);
+    }
+
+    private static MySqlReadableMetadata[] metadata(MySqlType... types) {
+        MySqlReadableMetadata[] metadata = new MySqlReadableMetadata[types.length];
+
+        for (int i = 0; i < types.length; ++i) {
+            MySqlReadableMetadata column = mock(MySqlReadableMetadata.class);
+
+            when(column.getType()).thenReturn(types[i]);
+            metadata[i] = column;
+        }
+
+        return metadata;
+    }
+}
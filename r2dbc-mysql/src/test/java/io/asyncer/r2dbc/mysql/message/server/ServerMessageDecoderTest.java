@@ -22,6 +22,7 @@ import io.netty.buffer.Unpooled;
 import org.assertj.core.api.AbstractObjectAssert;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.stream.Stream;
@@ -54,11 +55,30 @@ class ServerMessageDecoderTest {
         preparedOk.extracting(PreparedOkMessage::getTotalParameters).isEqualTo(1);
     }
 
+    @ParameterizedTest
+    @MethodSource(value = { "columnCountPayload" })
+    void columnCount(byte[] payload, boolean metadataFollows) {
+        AbstractObjectAssert<?, ColumnCountMessage> columnCount = assertThat(decode(
+            Unpooled.wrappedBuffer(payload), DecodeContext.command()
+        )).isExactlyInstanceOf(ColumnCountMessage.class).extracting(message -> (ColumnCountMessage) message);
+
+        columnCount.extracting(ColumnCountMessage::getTotalColumns).isEqualTo(3);
+        columnCount.extracting(ColumnCountMessage::isMetadataFollows).isEqualTo(metadataFollows);
+    }
+
     @Nullable
     private static ServerMessage decode(ByteBuf buf, DecodeContext decodeContext) {
         return new ServerMessageDecoder().decode(buf, ConnectionContextTest.mock(), decodeContext);
     }
 
+    static Stream<Arguments> columnCountPayload() {
+        // Mocked context supports MariaDB metadata cache, a flag of metadata follows after the column count.
+        return Stream.of(
+            Arguments.of(new byte[] { 3, 1 }, true),
+            Arguments.of(new byte[] { 3, 0 }, false)
+        );
+    }
+
     static Stream<byte[]> okLikePayload() {
         return Stream.of(new byte[] {
             0, // Heading both of OK and Prepared OK